@@ -0,0 +1,93 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AES-GCM 암복호화 처리량 측정 (32B / 1KB / 16KB)
+ * legacy*: 호출마다 Cipher.getInstance + new SecureRandom + ByteBuffer 복사하던 기존 방식
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class AesGcmEncryptionBenchmark {
+    @Param({"32", "1024", "16384"})
+    private int size;
+
+    private AesGcmEncryptionService encryptionService;
+    private SecretKeySpec secretKey;
+
+    private String plainText;
+    private byte[] plainBytes;
+    private String encryptedText;
+    private byte[] encryptedBytes;
+
+    @Setup
+    public void setup() {
+        String encodedKey = AesGcmEncryptionService.generateNewKey();
+        encryptionService = new AesGcmEncryptionService(encodedKey);
+        secretKey = new SecretKeySpec(Base64.getDecoder().decode(encodedKey), "AES");
+
+        plainText = "a".repeat(size);
+        plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
+        encryptedText = encryptionService.encrypt(plainText);
+        encryptedBytes = encryptionService.encrypt(plainBytes);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionService.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionService.decrypt(encryptedText);
+    }
+
+    @Benchmark
+    public byte[] encryptBytes() {
+        return encryptionService.encrypt(plainBytes);
+    }
+
+    @Benchmark
+    public byte[] decryptBytes() {
+        return encryptionService.decrypt(encryptedBytes);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws Exception {
+        byte[] iv = new byte[12];
+        new SecureRandom().nextBytes(iv);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+        byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
+        byteBuffer.put(iv);
+        byteBuffer.put(cipherText);
+        return Base64.getEncoder().encodeToString(byteBuffer.array());
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(Base64.getDecoder().decode(encryptedText));
+        byte[] iv = new byte[12];
+        byteBuffer.get(iv);
+        byte[] cipherText = new byte[byteBuffer.remaining()];
+        byteBuffer.get(cipherText);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+    }
+}
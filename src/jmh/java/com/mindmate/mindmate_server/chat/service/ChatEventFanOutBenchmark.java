@@ -0,0 +1,80 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmate.mindmate_server.chat.domain.MessageType;
+import com.mindmate.mindmate_server.chat.dto.ChatEvent;
+import com.mindmate.mindmate_server.chat.dto.ChatEventType;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageResponse;
+import com.mindmate.mindmate_server.chat.util.ChatEventEnvelopeCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.messaging.Message;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 이벤트 publish -> deliver 구간의 메시지당 CPU 비교 (Redis 왕복 제외)
+ * - legacy: JSON 문자열 직렬화 -> GenericJackson2JsonRedisSerializer 재직렬화 -> 수신 측 2회 파싱 + data 재직렬화 -> STOMP 문자열 변환
+ * - envelope: data 1회 직렬화 -> 수신 측 헤더만 읽고 payload 바이트 그대로 STOMP 메시지 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ChatEventFanOutBenchmark {
+    @Param({"32", "1024"})
+    private int payloadSize;
+
+    private ObjectMapper objectMapper;
+    private GenericJackson2JsonRedisSerializer redisSerializer;
+    private ChatEventEnvelopeCodec codec;
+    private ChatMessageResponse response;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        redisSerializer = new GenericJackson2JsonRedisSerializer();
+        codec = new ChatEventEnvelopeCodec(objectMapper);
+
+        // 한글 1자 = UTF-8 3바이트
+        response = ChatMessageResponse.builder()
+                .id(1L)
+                .senderId(2L)
+                .senderName("익명")
+                .content("가".repeat(Math.max(1, payloadSize / 3)))
+                .type(MessageType.TEXT)
+                .createdAt(LocalDateTime.now())
+                .reactionCounts(new HashMap<>())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        // publish
+        String eventJson = objectMapper.writeValueAsString(ChatEvent.of(ChatEventType.MESSAGE, response));
+        byte[] body = redisSerializer.serialize(eventJson);
+
+        // deliver (ChatMessageListener 기존 경로)
+        JsonNode eventNode = objectMapper.readTree(new String(body));
+        if (eventNode.isTextual()) {
+            eventNode = objectMapper.readTree(eventNode.asText());
+        }
+        String data = objectMapper.writeValueAsString(eventNode.get("data"));
+
+        // StringMessageConverter
+        return data.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Message<byte[]> envelope() throws Exception {
+        // publish
+        byte[] body = codec.encode(ChatEventType.MESSAGE, response);
+
+        // deliver
+        ChatEventEnvelopeCodec.Envelope envelope = codec.decode(body);
+        return codec.toStompMessage(envelope.payload());
+    }
+}
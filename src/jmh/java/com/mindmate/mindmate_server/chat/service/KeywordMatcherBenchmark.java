@@ -0,0 +1,94 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 필터링 매처 비교: HashMap 노드 기반(AhoCorasickMatcher) vs 평면 배열 기반(CompiledAhoCorasickMatcher)
+ * 사전: 한글 음절 2~4자 + 영문 혼합 10,000 단어 (고정 seed)
+ * 문장: 대부분 필터링되지 않는 일반 채팅 메시지 길이(40자 / 200자)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class KeywordMatcherBenchmark {
+    private static final int DICTIONARY_SIZE = 10_000;
+
+    @Param({"40", "200"})
+    private int messageLength;
+
+    private AhoCorasickMatcher<String> hashMapMatcher;
+    private CompiledAhoCorasickMatcher<String> compiledMatcher;
+    private String[] messages;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(7);
+
+        Set<String> dictionary = new LinkedHashSet<>();
+        while (dictionary.size() < DICTIONARY_SIZE) {
+            dictionary.add(randomWord(random, 2 + random.nextInt(3)));
+        }
+        List<String> words = new ArrayList<>(dictionary);
+
+        hashMapMatcher = new AhoCorasickMatcher<>();
+        hashMapMatcher.initialize(words, Function.identity(), word -> true);
+        compiledMatcher = new CompiledAhoCorasickMatcher<>();
+        compiledMatcher.initialize(words, Function.identity(), word -> true);
+
+        // 일부 메시지에만 사전 단어 포함
+        messages = new String[256];
+        for (int i = 0; i < messages.length; i++) {
+            StringBuilder builder = new StringBuilder();
+            while (builder.length() < messageLength) {
+                builder.append(randomWord(random, 1 + random.nextInt(4))).append(' ');
+            }
+            if (i % 16 == 0) {
+                builder.insert(messageLength / 2, words.get(random.nextInt(words.size())));
+            }
+            messages[i] = builder.substring(0, messageLength);
+        }
+    }
+
+    @Benchmark
+    public boolean hashMapIsFiltered() {
+        return hashMapMatcher.findFirstMatch(nextMessage()).isPresent();
+    }
+
+    @Benchmark
+    public boolean compiledIsFiltered() {
+        return compiledMatcher.containsMatch(nextMessage());
+    }
+
+    @Benchmark
+    public List<String> hashMapSearch() {
+        return hashMapMatcher.search(nextMessage());
+    }
+
+    @Benchmark
+    public List<String> compiledSearch() {
+        return compiledMatcher.search(nextMessage());
+    }
+
+    private String nextMessage() {
+        cursor = (cursor + 1) & (messages.length - 1);
+        return messages[cursor];
+    }
+
+    // 자주 쓰이는 음절 범위(가~힣 앞쪽 일부)로 제한하여 실제 사전처럼 접두사 공유가 생기도록 함
+    private static String randomWord(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (random.nextInt(10) == 0) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            } else {
+                builder.append((char) ('가' + random.nextInt(800)));
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.domain.ChatMessage;
+import com.mindmate.mindmate_server.chat.domain.ChatRoom;
+import com.mindmate.mindmate_server.chat.domain.MessageType;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
+import com.mindmate.mindmate_server.chat.repository.ChatMessageRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 메시지 전송 경로 지연 비교: 비동기 암호화(async) vs 저장 시 암호화(encrypt-on-write)
+ * - sendPath: 요청 스레드에서 일어나는 저장 + 이벤트 생성 구간
+ * - sendAndEncrypt: 암호화 컨슈머의 후속 처리(암호화 + 2차 쓰기 + 검색 인덱스)까지 포함한 메시지당 총 작업량
+ * DB 왕복은 stub 저장소로 대체하므로 실제 환경에서는 async 모드에 UPDATE 1회가 추가로 발생
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MessageSendBenchmark {
+    @Param({"async", "encrypt-on-write"})
+    private String mode;
+
+    @Param({"32", "1024"})
+    private int payloadSize;
+
+    private AesGcmEncryptionService encryptionService;
+    private MessageSearchIndexService searchIndexService;
+    private ChatRoom chatRoom;
+    private ChatMessageServiceImpl chatMessageService;
+    private String content;
+
+    @Setup
+    public void setup() throws Exception {
+        encryptionService = new AesGcmEncryptionService(AesGcmEncryptionService.generateNewKey());
+
+        // 호출 기록을 남기지 않는 stub -> 반복 측정 시 메모리 누적 방지
+        ChatMessageRepository repository = mock(ChatMessageRepository.class, withSettings().stubOnly());
+        when(repository.save(any(ChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        searchIndexService = new MessageSearchIndexService(repository, AesGcmEncryptionService.generateNewKey());
+
+        chatRoom = mock(ChatRoom.class, withSettings().stubOnly());
+        when(chatRoom.getId()).thenReturn(1L);
+
+        chatMessageService = new ChatMessageServiceImpl(repository, encryptionService, null, searchIndexService);
+        Field encryptOnWrite = ChatMessageServiceImpl.class.getDeclaredField("encryptOnWrite");
+        encryptOnWrite.setAccessible(true);
+        encryptOnWrite.setBoolean(chatMessageService, "encrypt-on-write".equals(mode));
+
+        // 한글 1자 = UTF-8 3바이트
+        content = "가".repeat(Math.max(1, payloadSize / 3));
+    }
+
+    @Benchmark
+    public ChatMessageEvent sendPath() {
+        return send();
+    }
+
+    @Benchmark
+    public void sendAndEncrypt(Blackhole blackhole) {
+        ChatMessageEvent event = send();
+
+        // MessageEncryptConsumer 동작: 이미 암호화된 메시지는 건너뜀
+        if (!event.isEncrypted()) {
+            ChatMessage message = ChatMessage.builder()
+                    .chatRoom(chatRoom)
+                    .content(event.getContent())
+                    .type(MessageType.TEXT)
+                    .build();
+            message.updateEncryptedContent(encryptionService.encrypt(event.getContent()));
+            blackhole.consume(chatMessageService.save(message));
+            searchIndexService.index(chatRoom.getId(), message.getId(), event.getContent());
+        }
+        blackhole.consume(event);
+    }
+
+    private ChatMessageEvent send() {
+        ChatMessage chatMessage = ChatMessage.builder()
+                .chatRoom(chatRoom)
+                .content(content)
+                .type(MessageType.TEXT)
+                .build();
+
+        ChatMessage savedMessage = chatMessageService.save(chatMessage);
+
+        return ChatMessageEvent.builder()
+                .content(savedMessage.getContent())
+                .type(savedMessage.getType())
+                .encrypted(savedMessage.isEncrypted())
+                .plainContent(content)
+                .build();
+    }
+}
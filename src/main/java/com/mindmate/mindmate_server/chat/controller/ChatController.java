@@ -7,6 +7,8 @@ import com.mindmate.mindmate_server.chat.service.ChatPresenceService;
 import com.mindmate.mindmate_server.chat.service.ChatRoomService;
 import com.mindmate.mindmate_server.chat.service.ChatSearchService;
 import com.mindmate.mindmate_server.chat.service.ChatService;
+import com.mindmate.mindmate_server.global.exception.ChatErrorCode;
+import com.mindmate.mindmate_server.global.exception.CustomException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -15,11 +17,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(
@@ -31,6 +35,8 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class ChatController {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ChatService chatService;
     private final ChatPresenceService chatPresenceService;
     private final ChatRoomService chatRoomService;
@@ -53,6 +59,26 @@ public class ChatController {
     }
 
 
+    @Operation(
+            summary = "채팅방 목록 커서 조회",
+            description = "최신 메시지 순으로 채팅방 목록을 커서 기반으로 조회합니다. " +
+                    "첫 요청은 커서 없이, 이후에는 응답의 nextCursorTime, nextCursorId를 전달합니다. " +
+                    "roleType(LISTENER, SPEAKER), status로 필터링할 수 있습니다. size는 1~100입니다."
+    )
+    @GetMapping("/rooms/scroll")
+    public ResponseEntity<ChatRoomSliceResponse> getChatRoomsByCursor(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTime,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String roleType,
+            @RequestParam(required = false) ChatRoomStatus status) {
+        validatePageSize(size);
+        ChatRoomSliceResponse rooms = chatRoomService.getChatRoomsByCursor(
+                principal.getUserId(), roleType, status, cursorTime, cursorId, size);
+        return ResponseEntity.ok(rooms);
+    }
+
     @Operation(
             summary = "역할별 채팅방 목록 조회",
             description = "특정 역할(LISTENER, SPEAKER)로 참여 중인 채팅방 목록을 조회합니다."
@@ -93,7 +119,8 @@ public class ChatController {
 
     @Operation(
             summary = "채팅방 입장 시 메시지 조회",
-            description = "채팅방에 입장할 때 최근 메시지 목록과 방 정보를 함께 조회합니다."
+            description = "채팅방에 입장할 때 최근 메시지 목록과 방 정보를 함께 조회합니다. " +
+                    "첫 입장/안읽은 메시지는 size개까지만 반환하며, hasNext이면 nextCursorId부터 /messages/after로 이어서 조회합니다. size는 1~100입니다."
     )
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<ChatRoomDetailResponse> getChatRoomWithMessages(
@@ -101,6 +128,7 @@ public class ChatController {
             @PathVariable Long roomId,
             @RequestParam(defaultValue = "30") int size) {
 
+        validatePageSize(size);
         ChatRoomDetailResponse response = chatRoomService.getInitialMessages(
                 principal.getUserId(), roomId, size);
 
@@ -112,7 +140,7 @@ public class ChatController {
 
     @Operation(
             summary = "이전 메시지 로드",
-            description = "특정 메시지 이전의 과거 메시지들을 조회합니다. 무한 스크롤 등에서 사용."
+            description = "특정 메시지 이전의 과거 메시지들을 조회합니다. 무한 스크롤 등에서 사용. size는 1~100입니다."
     )
     @GetMapping("/rooms/{roomId}/messages/before/{messageId}")
     public ResponseEntity<List<ChatMessageResponse>> getPreviousMessages(
@@ -121,12 +149,31 @@ public class ChatController {
             @PathVariable Long messageId,
             @RequestParam(defaultValue = "30") int size) {
 
+        validatePageSize(size);
         List<ChatMessageResponse> messages = chatRoomService.getPreviousMessages(
                 roomId, messageId, principal.getUserId(), size);
 
         return ResponseEntity.ok(messages);
     }
 
+    @Operation(
+            summary = "다음 메시지 로드",
+            description = "특정 메시지 이후의 메시지들을 오래된 순으로 조회합니다. 첫 입장 응답의 nextCursorId부터 이어서 조회할 때 사용. size는 1~100입니다."
+    )
+    @GetMapping("/rooms/{roomId}/messages/after/{messageId}")
+    public ResponseEntity<List<ChatMessageResponse>> getNextMessages(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long roomId,
+            @PathVariable Long messageId,
+            @RequestParam(defaultValue = "30") int size) {
+
+        validatePageSize(size);
+        List<ChatMessageResponse> messages = chatRoomService.getNextMessages(
+                roomId, messageId, principal.getUserId(), size);
+
+        return ResponseEntity.ok(messages);
+    }
+
     @Operation(
             summary = "메시지 전송 (REST)",
             description = "REST API 방식으로 채팅 메시지를 전송합니다. WebSocket이 불안정할 때 사용"
@@ -253,4 +300,10 @@ public class ChatController {
         chatRoomService.deleteChatRoomForUser(principal.getUserId(), roomId);
         return ResponseEntity.ok().build();
     }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CustomException(ChatErrorCode.INVALID_PAGE_SIZE);
+        }
+    }
 }
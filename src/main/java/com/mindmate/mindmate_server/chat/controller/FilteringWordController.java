@@ -76,12 +76,12 @@ public class FilteringWordController {
 
     @Operation(
             summary = "필터링 단어 목록 갱신",
-            description = "필터링(금칙어) 단어 목록을 즉시 갱신합니다. " +
-                    "(예: 단어 추가/삭제/상태 변경 후 적용. 현재 수정하더라도 바로 업데이트 x. 특정 시간마다 스케줄링 )"
+            description = "필터링(금칙어) 단어 목록을 모든 서버에 즉시 갱신 요청합니다. " +
+                    "(단어 추가/삭제/상태 변경은 자동으로 전파되므로, 전파 누락이 의심될 때 수동으로 사용)"
     )
     @PostMapping("/words/refresh")
     public ResponseEntity<Void> refreshToastBoxKeywords() {
-        contentFilterService.refreshFilteringWords();
+        contentFilterService.publishRefresh();
         return ResponseEntity.noContent().build();
     }
 }
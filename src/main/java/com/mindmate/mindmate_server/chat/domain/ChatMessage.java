@@ -14,7 +14,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages",
+        indexes = @Index(name = "idx_chat_message_room_encrypted", columnList = "chat_room_id,encrypted"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage extends BaseTimeEntity {
@@ -88,6 +89,10 @@ public class ChatMessage extends BaseTimeEntity {
     public void setDecryptedContent(String decryptedContent) {
         this.decryptedContent = decryptedContent;
     }
+
+    public boolean isDecrypted() {
+        return decryptedContent != null;
+    }
     
     // 내용 반환 시에 복호화된 내용을 우선적으로 사용
     public String getContent() {
@@ -0,0 +1,32 @@
+package com.mindmate.mindmate_server.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 암호화된 메시지 검색용 blind index
+ * 평문 n-gram을 채팅방별 keyed-HMAC 토큰으로 변환하여 저장 -> 토큰 교집합으로 메시지 ID 조회
+ * 저장/조회는 ChatMessageRepositoryImpl의 JDBC로만 수행 (테이블 스키마 정의용 엔티티)
+ */
+@Entity
+@Table(name = "chat_message_search_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_token_room_token_message", columnNames = {"room_id", "token", "message_id"}),
+        indexes = @Index(name = "idx_search_token_message", columnList = "message_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageSearchToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(nullable = false, length = 16)
+    private String token;
+
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+}
@@ -38,12 +38,23 @@ public class ChatRoom extends BaseTimeEntity {
     @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CustomForm> customForms = new ArrayList<>();
 
+    @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ChatRoomParticipant> participants = new ArrayList<>();
+
+    // 마지막 메시지 스냅샷 -> 채팅방 목록에서 chat_messages 조회 없이 사용
+    private Long lastMessageId;
+    @Enumerated(EnumType.STRING)
+    private MessageType lastMessageType;
     private LocalDateTime lastMessageTime;
     private LocalDateTime closedAt;
 
     private Long listenerLastReadMessageId = 0L;
     private Long speakerLastReadMessageId = 0L;
+    // 미읽음 카운트는 Redis 가 원본 -> UnreadCountWriteBehindService 의 JDBC 반영으로만 갱신
+    // (엔티티 dirty checking 이 로딩 시점 값으로 덮어쓰지 않도록 update 대상에서 제외)
+    @Column(updatable = false)
     private Long listenerUnreadCount = 0L;
+    @Column(updatable = false)
     private Long speakerUnreadCount = 0L;
 
     @Enumerated(EnumType.STRING)
@@ -62,10 +73,21 @@ public class ChatRoom extends BaseTimeEntity {
         this.chatRoomStatus = ChatRoomStatus.PENDING;
     }
 
-    public void updateLastMessageTime() {
+    public void updateLastMessage(ChatMessage message) {
+        this.lastMessageId = message.getId();
+        this.lastMessageType = message.getType();
         this.lastMessageTime = LocalDateTime.now();
     }
 
+    public void addParticipant(User user, InitiatorType role) {
+        participants.add(ChatRoomParticipant.builder()
+                .chatRoom(this)
+                .user(user)
+                .role(role)
+                .lastMessageTime(lastMessageTime)
+                .build());
+    }
+
     public void close() {
         this.chatRoomStatus = ChatRoomStatus.CLOSED;
         this.closedAt = LocalDateTime.now();
@@ -81,16 +103,6 @@ public class ChatRoom extends BaseTimeEntity {
         this.speakerUnreadCount = 0L;
     }
 
-    public void increaseUnreadCountForListener() {
-        this.listenerUnreadCount++;
-        log.info("Current listenerUnreadCOunt: {}", listenerUnreadCount);
-    }
-
-    public void increaseUnreadCountForSpeaker() {
-        this.speakerUnreadCount++;
-        log.info("Current speakerUnreadCount: {}", speakerUnreadCount);
-    }
-
 
     public User getListener() {
         if (matching.getCreatorRole() == InitiatorType.LISTENER) {
@@ -124,14 +136,6 @@ public class ChatRoom extends BaseTimeEntity {
         }
     }
 
-    public void increaseUnreadCount(User sender) {
-        if (isSpeaker(sender)) {
-            increaseUnreadCountForListener();
-        } else if (isListener(sender)) {
-            increaseUnreadCountForSpeaker();
-        }
-    }
-
     public void updateChatRoomStatus(ChatRoomStatus status) {
         this.chatRoomStatus = status;
     }
@@ -171,6 +175,9 @@ public class ChatRoom extends BaseTimeEntity {
             this.deletedBySpeaker = true;
             this.speakerDeletedAt = LocalDateTime.now();
         }
+        participants.stream()
+                .filter(participant -> participant.getRole() == role)
+                .forEach(ChatRoomParticipant::markDeleted);
     }
 
     public boolean isDeletedBy(InitiatorType role) {
@@ -0,0 +1,58 @@
+package com.mindmate.mindmate_server.chat.domain;
+
+import com.mindmate.mindmate_server.global.entity.BaseTimeEntity;
+import com.mindmate.mindmate_server.matching.domain.InitiatorType;
+import com.mindmate.mindmate_server.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 조회용 참여자 프로젝션
+ * matching의 creator/acceptedUser + creatorRole + deletedBy* 조합 대신 (user_id, ...) 인덱스로 조회
+ */
+@Entity
+@Table(name = "chat_room_participants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_participant_user_room", columnNames = {"user_id", "room_id"}),
+        indexes = {
+                @Index(name = "idx_participant_user_time", columnList = "user_id,deleted,last_message_time,room_id"),
+                @Index(name = "idx_participant_user_role_time", columnList = "user_id,role,deleted,last_message_time,room_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatRoomParticipant extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id")
+    private ChatRoom chatRoom;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    private InitiatorType role;
+
+    private boolean deleted = false;
+
+    private LocalDateTime lastMessageTime;
+
+    @Builder
+    public ChatRoomParticipant(ChatRoom chatRoom, User user, InitiatorType role, LocalDateTime lastMessageTime) {
+        this.chatRoom = chatRoom;
+        this.user = user;
+        this.role = role;
+        this.lastMessageTime = lastMessageTime;
+    }
+
+    public void markDeleted() {
+        this.deleted = true;
+    }
+}
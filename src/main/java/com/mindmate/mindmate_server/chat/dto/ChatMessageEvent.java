@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -28,6 +29,9 @@ public class ChatMessageEvent {
     private boolean encrypted;
     private String plainContent;
 
+    // 전송 시점 스캔으로 찾은 토스트 박스 (null: 스캔하지 않은 이벤트 -> 컨슈머에서 직접 스캔)
+    private List<ToastBoxEvent> toastBoxes;
+
     // todo: 이모티콘 관려 데이터? -> 활용을 안하더라도 이벤트 발행하는거니까..음
 
     public void setId(Long id) {
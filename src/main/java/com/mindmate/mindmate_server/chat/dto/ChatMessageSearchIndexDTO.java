@@ -0,0 +1,21 @@
+package com.mindmate.mindmate_server.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 메시지 1건의 blind index 토큰 묶음
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageSearchIndexDTO {
+    private Long roomId;
+    private Long messageId;
+    private Set<String> tokens;
+}
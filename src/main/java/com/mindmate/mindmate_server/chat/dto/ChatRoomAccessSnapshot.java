@@ -0,0 +1,55 @@
+package com.mindmate.mindmate_server.chat.dto;
+
+import com.mindmate.mindmate_server.chat.domain.ChatRoom;
+import com.mindmate.mindmate_server.chat.domain.ChatRoomStatus;
+import com.mindmate.mindmate_server.user.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * 채팅방 권한 검증용 스냅샷 (엔티티 x)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ChatRoomAccessSnapshot {
+    private final Long roomId;
+    private final Long listenerId;
+    private final Long speakerId;
+    private final ChatRoomStatus status;
+    private final boolean deletedByListener;
+    private final boolean deletedBySpeaker;
+
+    public static ChatRoomAccessSnapshot from(ChatRoom chatRoom) {
+        User listener = chatRoom.getListener();
+        User speaker = chatRoom.getSpeaker();
+
+        return ChatRoomAccessSnapshot.builder()
+                .roomId(chatRoom.getId())
+                .listenerId(listener != null ? listener.getId() : null)
+                .speakerId(speaker != null ? speaker.getId() : null)
+                .status(chatRoom.getChatRoomStatus())
+                .deletedByListener(chatRoom.isDeletedByListener())
+                .deletedBySpeaker(chatRoom.isDeletedBySpeaker())
+                .build();
+    }
+
+    public boolean isListener(Long userId) {
+        return Objects.equals(listenerId, userId);
+    }
+
+    public boolean isSpeaker(Long userId) {
+        return Objects.equals(speakerId, userId);
+    }
+
+    public boolean isParticipant(Long userId) {
+        return isListener(userId) || isSpeaker(userId);
+    }
+
+    public boolean isDeletedFor(Long userId) {
+        return isListener(userId) ? deletedByListener : deletedBySpeaker;
+    }
+}
@@ -30,7 +30,12 @@ public class ChatRoomDetailResponse {
 
     private boolean isWriteReview;
 
-    public static ChatRoomDetailResponse from(ChatRoom chatRoom, List<ChatMessage> messages, User user, boolean isWriteReview) {
+    // 메시지 커서: nextCursorId 이후는 /messages/after, previousCursorId 이전은 /messages/before 로 조회
+    private boolean hasNext;
+    private Long nextCursorId;
+    private Long previousCursorId;
+
+    public static ChatRoomDetailResponse from(ChatRoom chatRoom, List<ChatMessage> messages, User user, boolean isWriteReview, boolean hasNext) {
         boolean isListener = chatRoom.isListener(user);
         String myImageUrl = chatRoom.getMatching().isAnonymous() ? null : (isListener ? chatRoom.getListener().getProfile().getProfileImage().getImageUrl() : chatRoom.getSpeaker().getProfile().getProfileImage().getImageUrl());
         String oppositeImageUrl = chatRoom.getMatching().isAnonymous() ? null : (isListener ? chatRoom.getSpeaker().getProfile().getProfileImage().getImageUrl() : chatRoom.getListener().getProfile().getProfileImage().getImageUrl());
@@ -50,6 +55,9 @@ public class ChatRoomDetailResponse {
                 .myImageUrl(myImageUrl)
                 .oppositeImageUrl(oppositeImageUrl)
                 .isWriteReview(isWriteReview)
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? messages.get(messages.size() - 1).getId() : null)
+                .previousCursorId(messages.isEmpty() ? null : messages.get(0).getId())
                 .build();
     }
 }
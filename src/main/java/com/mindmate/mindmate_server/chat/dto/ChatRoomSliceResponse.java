@@ -0,0 +1,22 @@
+package com.mindmate.mindmate_server.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatRoomSliceResponse {
+    private List<ChatRoomResponse> rooms;
+    private boolean hasNext;
+
+    // 다음 요청 커서 (마지막 채팅방의 lastMessageTime, roomId)
+    private LocalDateTime nextCursorTime;
+    private Long nextCursorId;
+}
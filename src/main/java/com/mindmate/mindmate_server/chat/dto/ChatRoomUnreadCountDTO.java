@@ -0,0 +1,22 @@
+package com.mindmate.mindmate_server.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미읽음 카운트 write-behind 반영 단위
+ * count 값이 null이면 Redis에 값이 없는 것 -> 기존 DB 값 유지
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomUnreadCountDTO {
+    private Long roomId;
+    private Long listenerId;
+    private Long speakerId;
+    private Long listenerUnreadCount;
+    private Long speakerUnreadCount;
+}
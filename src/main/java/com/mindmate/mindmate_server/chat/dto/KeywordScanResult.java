@@ -0,0 +1,23 @@
+package com.mindmate.mindmate_server.chat.dto;
+
+import com.mindmate.mindmate_server.chat.domain.ToastBoxKeyword;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 메시지 1회 스캔 결과 (필터링 여부 + 토스트 박스 키워드)
+ */
+@Getter
+@AllArgsConstructor
+public class KeywordScanResult {
+    private static final KeywordScanResult EMPTY = new KeywordScanResult(false, List.of());
+
+    private final boolean filtered;
+    private final List<ToastBoxKeyword> toastBoxKeywords;
+
+    public static KeywordScanResult empty() {
+        return EMPTY;
+    }
+}
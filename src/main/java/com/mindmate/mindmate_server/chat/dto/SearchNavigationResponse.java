@@ -17,4 +17,8 @@ public class SearchNavigationResponse {
     private boolean hasMoreResults;
     private int currentMatchIndex;
     private int totalMatches;
+
+    // 검색 결과 순서 기준 이전/다음 매치 메시지 ID (없으면 null)
+    private Long previousMatchId;
+    private Long nextMatchId;
 }
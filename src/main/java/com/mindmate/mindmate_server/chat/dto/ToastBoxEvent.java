@@ -1,5 +1,6 @@
 package com.mindmate.mindmate_server.chat.dto;
 
+import com.mindmate.mindmate_server.chat.domain.ToastBoxKeyword;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,4 +18,16 @@ public class ToastBoxEvent {
     private String content;
     private String linkUrl;
     private String imageUrl;
+
+    public static ToastBoxEvent from(Long roomId, Long messageId, ToastBoxKeyword keyword) {
+        return ToastBoxEvent.builder()
+                .roomId(roomId)
+                .messageId(messageId)
+                .keyword(keyword.getKeyword())
+                .title(keyword.getTitle())
+                .content(keyword.getContent())
+                .linkUrl(keyword.getLinkUrl())
+                .imageUrl(keyword.getImageUrl())
+                .build();
+    }
 }
@@ -12,13 +12,11 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, ChatMessageRepositoryCustom {
     // 가장 최근 메시지 조회
     Optional<ChatMessage> findTopByChatRoomIdOrderByIdDesc(Long roomId);
 
-    // 채팅방의 메시지를 오래된 순으로 조회 (첫 방문용)
-    List<ChatMessage> findByChatRoomIdOrderByIdAsc(Long roomId);
-
+    // 채팅방의 메시지를 오래된 순으로 N개 조회 (첫 방문용)
     List<ChatMessage> findByChatRoomIdOrderByIdAsc(
             @Param("roomId") Long roomId,
             Pageable pageable);
@@ -43,11 +41,6 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             Pageable pageable
     );
 
-    // 특정 메시지 ID 이상의 메시지 조회 (읽지 않은 메시지 포함)
-    List<ChatMessage> findByChatRoomIdAndIdGreaterThanEqualOrderByIdAsc(
-            @Param("roomId") Long roomId,
-            @Param("messageId") Long messageId
-    );
 
     // 특정 메시지 ID 이전의 N개 메시지 조회
     @Query("SELECT m FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.id <= :messageId ORDER BY m.id DESC")
@@ -57,15 +50,16 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             Pageable pageable
     );
 
-    // 채팅방의 총 메시지 수 조회
-    long countByChatRoomId(Long roomId);
+    // 채팅방 메시지 존재 여부 (COUNT 없이 LIMIT 1)
+    boolean existsByChatRoomId(Long roomId);
 
     /**
-     * 채팅방에서 키워드가 포함된 메시지 ID 목록 조회 (최신순)
+     * 아직 암호화되지 않은 메시지 (id, content) 조회 (최신순)
+     * 키워드 비교는 blind index 와 같은 정규화로 애플리케이션에서 처리, 암호화된 메시지는 blind index로 검색
      */
-    @Query("SELECT m.id FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND " +
-            "LOWER(m.content) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY m.id DESC")
-    List<Long> findMessageIdsByKeyword(@Param("roomId") Long roomId, @Param("keyword") String keyword);
+    @Query("SELECT m.id, m.content FROM ChatMessage m WHERE m.chatRoom.id = :roomId AND m.encrypted = false " +
+            "ORDER BY m.id DESC")
+    List<Object[]> findPlainMessageContents(@Param("roomId") Long roomId);
 
     /**
      * 특정 ID 범위 내의 메시지 조회 (오래된 순)
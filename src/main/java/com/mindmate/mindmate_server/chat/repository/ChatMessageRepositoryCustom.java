@@ -0,0 +1,15 @@
+package com.mindmate.mindmate_server.chat.repository;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ChatMessageRepositoryCustom {
+    int bulkUpdateEncryptedContents(Map<Long, String> encryptedContents);
+
+    void bulkInsertSearchTokens(List<ChatMessageSearchIndexDTO> indexes);
+
+    List<Long> findMessageIdsBySearchTokens(Long roomId, Collection<String> tokens);
+}
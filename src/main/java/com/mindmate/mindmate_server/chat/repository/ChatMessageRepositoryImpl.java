@@ -0,0 +1,89 @@
+package com.mindmate.mindmate_server.chat.repository;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.*;
+
+@RequiredArgsConstructor
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 암호화 결과 일괄 반영 -> JDBC batch UPDATE (엔티티 로딩 x)
+     * encrypted = 0 조건으로 재처리 시 이중 암호화 방지
+     */
+    @Override
+    public int bulkUpdateEncryptedContents(Map<Long, String> encryptedContents) {
+        if (encryptedContents.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(encryptedContents.entrySet());
+        int[][] results = jdbcTemplate.batchUpdate(
+                "UPDATE chat_messages SET content = ?, encrypted = 1 WHERE id = ? AND encrypted = 0",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+
+        int updated = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 드라이버가 건수를 알 수 없는 경우(SUCCESS_NO_INFO = -2)도 성공으로 집계
+                updated += count >= 0 ? count : 1;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * blind index 토큰 일괄 저장
+     * 재처리(컨슈머 재시도) 시 중복 행은 unique 제약으로 무시
+     */
+    @Override
+    public void bulkInsertSearchTokens(List<ChatMessageSearchIndexDTO> indexes) {
+        List<Object[]> rows = new ArrayList<>();
+        for (ChatMessageSearchIndexDTO index : indexes) {
+            for (String token : index.getTokens()) {
+                rows.add(new Object[]{index.getRoomId(), token, index.getMessageId()});
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO chat_message_search_tokens (room_id, token, message_id) VALUES (?, ?, ?)",
+                rows);
+    }
+
+    /**
+     * 모든 토큰을 포함하는 메시지 ID 조회 (최신순)
+     * (room_id, token, message_id) unique 이므로 COUNT(*) = 토큰 수 이면 교집합
+     */
+    @Override
+    public List<Long> findMessageIdsBySearchTokens(Long roomId, Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(tokens.size(), "?"));
+        List<Object> params = new ArrayList<>();
+        params.add(roomId);
+        params.addAll(tokens);
+        params.add(tokens.size());
+
+        return jdbcTemplate.queryForList(
+                "SELECT message_id FROM chat_message_search_tokens " +
+                        "WHERE room_id = ? AND token IN (" + placeholders + ") " +
+                        "GROUP BY message_id HAVING COUNT(*) = ? " +
+                        "ORDER BY message_id DESC",
+                Long.class,
+                params.toArray());
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatRoomRepositoryCustom {
@@ -13,4 +14,12 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatR
             "WHERE cr.chatRoomStatus = 'ACTIVE' AND " +
             "(cr.matching.creator.id = :userId OR cr.matching.acceptedUser.id = :userId)")
     List<ChatRoom> findActiveChatRoomByUserId(Long userId);
+
+    // 권한 검증용 -> matching, creator, acceptedUser 한 번에 로딩
+    @Query("SELECT cr FROM ChatRoom cr " +
+            "JOIN FETCH cr.matching m " +
+            "JOIN FETCH m.creator " +
+            "LEFT JOIN FETCH m.acceptedUser " +
+            "WHERE cr.id = :roomId")
+    Optional<ChatRoom> findByIdWithParticipants(Long roomId);
 }
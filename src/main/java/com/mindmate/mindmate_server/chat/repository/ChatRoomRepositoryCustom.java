@@ -2,13 +2,32 @@ package com.mindmate.mindmate_server.chat.repository;
 
 import com.mindmate.mindmate_server.chat.domain.ChatRoomStatus;
 import com.mindmate.mindmate_server.chat.dto.ChatRoomResponse;
+import com.mindmate.mindmate_server.chat.dto.ChatRoomSliceResponse;
+import com.mindmate.mindmate_server.chat.dto.ChatRoomUnreadCountDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 public interface ChatRoomRepositoryCustom {
     Page<ChatRoomResponse> findAllByUserId(Long userId, Pageable pageable);
 
     Page<ChatRoomResponse> findAllByUserIdAndRole(Long userId, String roleType, Pageable pageable);
 
     Page<ChatRoomResponse> findAllByUserIdAndStatus(Long userId, ChatRoomStatus status, Pageable pageable);
+
+    ChatRoomSliceResponse findSliceByUserId(Long userId, String roleType, ChatRoomStatus status,
+                                            LocalDateTime cursorTime, Long cursorId, int size);
+
+    List<ChatRoomUnreadCountDTO> findUnreadCountTargets(Collection<Long> roomIds);
+
+    void bulkUpdateUnreadCounts(List<ChatRoomUnreadCountDTO> unreadCounts);
+
+    void updateParticipantsLastMessageTime(Long roomId, LocalDateTime lastMessageTime);
+
+    int backfillParticipants();
+
+    int backfillLastMessageSnapshots();
 }
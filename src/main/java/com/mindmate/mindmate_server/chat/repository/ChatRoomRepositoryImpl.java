@@ -2,9 +2,11 @@ package com.mindmate.mindmate_server.chat.repository;
 
 import com.mindmate.mindmate_server.chat.domain.ChatRoomStatus;
 import com.mindmate.mindmate_server.chat.domain.MessageType;
-import com.mindmate.mindmate_server.chat.domain.QChatMessage;
 import com.mindmate.mindmate_server.chat.domain.QChatRoom;
+import com.mindmate.mindmate_server.chat.domain.QChatRoomParticipant;
 import com.mindmate.mindmate_server.chat.dto.ChatRoomResponse;
+import com.mindmate.mindmate_server.chat.dto.ChatRoomSliceResponse;
+import com.mindmate.mindmate_server.chat.dto.ChatRoomUnreadCountDTO;
 import com.mindmate.mindmate_server.global.util.RedisKeyManager;
 import com.mindmate.mindmate_server.matching.domain.InitiatorType;
 import com.mindmate.mindmate_server.matching.domain.MatchingCategory;
@@ -16,8 +18,7 @@ import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,9 +26,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 
-import java.util.List;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static net.minidev.asm.DefaultConverter.convertToLong;
@@ -47,6 +53,7 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
     private final JPAQueryFactory queryFactory;
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisKeyManager redisKeyManager;
+    private final JdbcTemplate jdbcTemplate;
 
     // todo: admin용 채팅방 목록 조회는 없음 -> 지금 자신의 채팅방 목록 확인만 존재
 
@@ -57,7 +64,7 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 
     @Override
     public Page<ChatRoomResponse> findAllByUserIdAndRole(Long userId, String roleType, Pageable pageable) {
-        BooleanExpression roleCondition = createRoleCondition(userId, roleType);
+        BooleanExpression roleCondition = createRoleCondition(roleType);
         return fetchChatRooms(userId, pageable, roleCondition, null);
     }
 
@@ -67,24 +74,158 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
         return fetchChatRooms(userId, pageable, null, statusCondition);
     }
 
+    /**
+     * write-behind flush 대상 채팅방의 리스너/스피커 ID 조회 (엔티티 로딩 x)
+     */
+    @Override
+    public List<ChatRoomUnreadCountDTO> findUnreadCountTargets(Collection<Long> roomIds) {
+        QChatRoom chatRoom = QChatRoom.chatRoom;
+        QMatching matching = QMatching.matching;
+
+        List<Tuple> results = queryFactory
+                .select(chatRoom.id, matching.creator.id, matching.acceptedUser.id, matching.creatorRole)
+                .from(chatRoom)
+                .join(chatRoom.matching, matching)
+                .where(chatRoom.id.in(roomIds))
+                .fetch();
+
+        return results.stream()
+                .map(tuple -> {
+                    Long creatorId = tuple.get(matching.creator.id);
+                    Long acceptedUserId = tuple.get(matching.acceptedUser.id);
+                    boolean creatorIsListener = tuple.get(matching.creatorRole) == InitiatorType.LISTENER;
+
+                    return ChatRoomUnreadCountDTO.builder()
+                            .roomId(tuple.get(chatRoom.id))
+                            .listenerId(creatorIsListener ? creatorId : acceptedUserId)
+                            .speakerId(creatorIsListener ? acceptedUserId : creatorId)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 미읽음 카운트 일괄 반영 -> JDBC batch UPDATE
+     * null 값은 COALESCE로 기존 DB 값 유지
+     */
+    @Override
+    public void bulkUpdateUnreadCounts(List<ChatRoomUnreadCountDTO> unreadCounts) {
+        if (unreadCounts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE chat_rooms SET " +
+                        "listener_unread_count = COALESCE(?, listener_unread_count), " +
+                        "speaker_unread_count = COALESCE(?, speaker_unread_count) " +
+                        "WHERE id = ?",
+                unreadCounts,
+                unreadCounts.size(),
+                (ps, unreadCount) -> {
+                    ps.setObject(1, unreadCount.getListenerUnreadCount(), Types.BIGINT);
+                    ps.setObject(2, unreadCount.getSpeakerUnreadCount(), Types.BIGINT);
+                    ps.setLong(3, unreadCount.getRoomId());
+                });
+    }
+
+    /**
+     * 참여자 프로젝션 정렬 키 갱신 -> 참여자 컬렉션 로딩 없이 UPDATE 한 번
+     */
+    @Override
+    public void updateParticipantsLastMessageTime(Long roomId, LocalDateTime lastMessageTime) {
+        jdbcTemplate.update(
+                "UPDATE chat_room_participants SET last_message_time = ? WHERE room_id = ?",
+                lastMessageTime, roomId);
+    }
+
+    /**
+     * 참여자 프로젝션 도입 이전 채팅방 보정 (멱등)
+     * 생성자 -> creatorRole, 수락자 -> 반대 역할로 누락된 행만 추가
+     */
+    @Override
+    public int backfillParticipants() {
+        int creators = jdbcTemplate.update(
+                "INSERT INTO chat_room_participants (room_id, user_id, role, deleted, last_message_time, created_at, modified_at) " +
+                        "SELECT cr.id, m.creator_id, m.creator_role, " +
+                        "CASE WHEN m.creator_role = 'LISTENER' THEN cr.deleted_by_listener ELSE cr.deleted_by_speaker END, " +
+                        "cr.last_message_time, NOW(), NOW() " +
+                        "FROM chat_rooms cr JOIN matchings m ON m.id = cr.matching_id " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM chat_room_participants p WHERE p.room_id = cr.id AND p.user_id = m.creator_id)");
+
+        int acceptedUsers = jdbcTemplate.update(
+                "INSERT INTO chat_room_participants (room_id, user_id, role, deleted, last_message_time, created_at, modified_at) " +
+                        "SELECT cr.id, m.accepted_user_id, " +
+                        "CASE WHEN m.creator_role = 'LISTENER' THEN 'SPEAKER' ELSE 'LISTENER' END, " +
+                        "CASE WHEN m.creator_role = 'LISTENER' THEN cr.deleted_by_speaker ELSE cr.deleted_by_listener END, " +
+                        "cr.last_message_time, NOW(), NOW() " +
+                        "FROM chat_rooms cr JOIN matchings m ON m.id = cr.matching_id " +
+                        "WHERE m.accepted_user_id IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM chat_room_participants p WHERE p.room_id = cr.id AND p.user_id = m.accepted_user_id)");
+
+        return creators + acceptedUsers;
+    }
+
+    /**
+     * 마지막 메시지 스냅샷 도입 이전 채팅방 보정 (멱등)
+     * 스냅샷이 비어 있는 채팅방만 MAX(chat_messages.id) 기준으로 채움
+     */
+    @Override
+    public int backfillLastMessageSnapshots() {
+        return jdbcTemplate.update(
+                "UPDATE chat_rooms cr " +
+                        "JOIN (SELECT chat_room_id, MAX(id) AS last_id FROM chat_messages GROUP BY chat_room_id) lm ON lm.chat_room_id = cr.id " +
+                        "JOIN chat_messages m ON m.id = lm.last_id " +
+                        "SET cr.last_message_id = m.id, cr.last_message_type = m.type " +
+                        "WHERE cr.last_message_id IS NULL");
+    }
+
+    /**
+     * 키셋 기반 채팅방 목록 조회
+     * (lastMessageTime desc nulls last, id desc) 순서로 커서 이후 size개만 조회 -> 서브쿼리, COUNT 없음
+     */
+    @Override
+    public ChatRoomSliceResponse findSliceByUserId(Long userId, String roleType, ChatRoomStatus status,
+                                                   LocalDateTime cursorTime, Long cursorId, int size) {
+        QChatRoom chatRoom = QChatRoom.chatRoom;
+        QChatRoomParticipant participant = QChatRoomParticipant.chatRoomParticipant;
+
+        BooleanExpression condition = createUserParticipationCondition(userId);
+        if (roleType != null) {
+            condition = condition.and(createRoleCondition(roleType));
+        }
+        if (status != null) {
+            condition = condition.and(chatRoom.chatRoomStatus.eq(status));
+        }
+        if (cursorId != null) {
+            condition = condition.and(createCursorCondition(cursorTime, cursorId));
+        }
+
+        List<Tuple> results = createChatRoomQuery(userId, condition)
+                .orderBy(participant.lastMessageTime.desc().nullsLast(), participant.chatRoom.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = results.size() > size;
+        if (hasNext) {
+            results = results.subList(0, size);
+        }
+
+        List<ChatRoomResponse> rooms = convertToDto(results, chatRoom, userId);
+        ChatRoomResponse last = rooms.isEmpty() ? null : rooms.get(rooms.size() - 1);
+
+        return ChatRoomSliceResponse.builder()
+                .rooms(rooms)
+                .hasNext(hasNext)
+                .nextCursorTime(hasNext ? last.getLastMessageTime() : null)
+                .nextCursorId(hasNext ? last.getRoomId() : null)
+                .build();
+    }
+
     private Page<ChatRoomResponse> fetchChatRooms(Long userId, Pageable pageable,
                                                   BooleanExpression roleCondition,
                                                   BooleanExpression statusCondition) {
         QChatRoom chatRoom = QChatRoom.chatRoom;
-        QMatching matching = QMatching.matching;
-        QUser creator = new QUser("creator");
-        QUser acceptedUser = new QUser("acceptedUser");
-        QChatMessage lastMessage = new QChatMessage("lastMessage");
-        QProfile creatorProfile = new QProfile("creatorProfile");
-        QProfile acceptedUserProfile = new QProfile("acceptedUserProfile");
-        QProfileImage creatorProfileImage = new QProfileImage("creatorProfileImage");
-        QProfileImage acceptedUserProfileImage = new QProfileImage("acceptedUserProfileImage");
-
-        // 각 채팅방의 마지막 메시지 ID 조회
-        JPQLQuery<Long> subQuery = JPAExpressions
-                .select(lastMessage.id.max())
-                .from(lastMessage)
-                .where(lastMessage.chatRoom.eq(chatRoom));
+        QChatRoomParticipant participant = QChatRoomParticipant.chatRoomParticipant;
 
         BooleanExpression baseCondition = createUserParticipationCondition(userId);
 
@@ -97,11 +238,46 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
             baseCondition = baseCondition.and(statusCondition);
         }
 
-        List<Tuple> results = queryFactory
-                .select(createSelectProjection(chatRoom, matching, lastMessage, userId,
+        List<Tuple> results = createChatRoomQuery(userId, baseCondition)
+                .orderBy(participant.lastMessageTime.desc().nullsLast())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // DTO 변환
+        List<ChatRoomResponse> content = convertToDto(results, chatRoom, userId);
+
+        // 전체 개수 조회 -> 상태 조건이 없으면 참여자 인덱스만으로 처리
+        JPAQuery<Long> countQuery = queryFactory
+                .select(participant.count())
+                .from(participant);
+        if (statusCondition != null) {
+            countQuery.join(participant.chatRoom, chatRoom);
+        }
+        Long total = countQuery.where(baseCondition).fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    private JPAQuery<Tuple> createChatRoomQuery(Long userId, BooleanExpression condition) {
+        QChatRoomParticipant participant = QChatRoomParticipant.chatRoomParticipant;
+        QChatRoom chatRoom = QChatRoom.chatRoom;
+        QMatching matching = QMatching.matching;
+        QUser creator = new QUser("creator");
+        QUser acceptedUser = new QUser("acceptedUser");
+        QProfile creatorProfile = new QProfile("creatorProfile");
+        QProfile acceptedUserProfile = new QProfile("acceptedUserProfile");
+        QProfileImage creatorProfileImage = new QProfileImage("creatorProfileImage");
+        QProfileImage acceptedUserProfileImage = new QProfileImage("acceptedUserProfileImage");
+
+        // 참여자 인덱스로 대상 채팅방을 먼저 좁힌 뒤 조인
+        // 마지막 메시지는 ChatRoom 스냅샷 사용 -> chat_messages 조인 없음
+        return queryFactory
+                .select(createSelectProjection(chatRoom, matching, userId,
                         creator, acceptedUser, creatorProfile, acceptedUserProfile,
                         creatorProfileImage, acceptedUserProfileImage))
-                .from(chatRoom)
+                .from(participant)
+                .join(participant.chatRoom, chatRoom)
                 .join(chatRoom.matching, matching)
                 .join(matching.creator, creator)
                 .join(creator.profile, creatorProfile)
@@ -109,29 +285,22 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
                 .leftJoin(matching.acceptedUser, acceptedUser)
                 .leftJoin(acceptedUser.profile, acceptedUserProfile)
                 .leftJoin(acceptedUserProfile.profileImage, acceptedUserProfileImage)
-                .leftJoin(lastMessage).on(lastMessage.id.eq(subQuery))
-                .where(baseCondition)
-                .orderBy(chatRoom.lastMessageTime.desc().nullsLast())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // DTO 변환
-        List<ChatRoomResponse> content = convertToDto(results, chatRoom, lastMessage, userId);
+                .where(condition);
+    }
 
-        // 전체 개수 조회
-        long total = queryFactory
-                .selectFrom(chatRoom)
-                .join(chatRoom.matching, matching)
-                .where(baseCondition)
-                .fetchCount();
+    private BooleanExpression createCursorCondition(LocalDateTime cursorTime, Long cursorId) {
+        QChatRoomParticipant participant = QChatRoomParticipant.chatRoomParticipant;
 
-        return new PageImpl<>(content, pageable, total);
+        // 메시지가 없는 채팅방(lastMessageTime null)은 마지막 구간
+        if (cursorTime == null) {
+            return participant.lastMessageTime.isNull().and(participant.chatRoom.id.lt(cursorId));
+        }
+        return participant.lastMessageTime.lt(cursorTime)
+                .or(participant.lastMessageTime.eq(cursorTime).and(participant.chatRoom.id.lt(cursorId)))
+                .or(participant.lastMessageTime.isNull());
     }
 
-
-    private Expression<?>[] createSelectProjection(QChatRoom chatRoom, QMatching matching,
-                                                   QChatMessage lastMessage, Long userId,
+    private Expression<?>[] createSelectProjection(QChatRoom chatRoom, QMatching matching, Long userId,
                                                    QUser creator, QUser acceptedUser,
                                                    QProfile creatorProfile, QProfile acceptedUserProfile,
                                                    QProfileImage creatorProfileImage,
@@ -148,8 +317,8 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
                 chatRoom.matching.id,
                 chatRoom.chatRoomStatus,
                 chatRoom.lastMessageTime,
-                lastMessage.content,
-                lastMessage.type,
+                chatRoom.lastMessageId,
+                chatRoom.lastMessageType,
                 matching.creator.id.eq(userId).as("isCreator"),
                 matching.title.as("matchingTitle"),
                 // 상대방 이름
@@ -216,27 +385,32 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 
 
 
-    private BooleanExpression createRoleCondition(Long userId, String roleType) {
-        QMatching matching = QMatching.matching;
+    private BooleanExpression createRoleCondition(String roleType) {
+        QChatRoomParticipant participant = QChatRoomParticipant.chatRoomParticipant;
 
         if ("LISTENER".equals(roleType)) {
-            return (matching.creatorRole.eq(InitiatorType.LISTENER).and(matching.creator.id.eq(userId)))
-                    .or(matching.creatorRole.eq(InitiatorType.SPEAKER).and(matching.acceptedUser.id.eq(userId)));
+            return participant.role.eq(InitiatorType.LISTENER);
         } else { // "SPEAKER"
-            return (matching.creatorRole.eq(InitiatorType.SPEAKER).and(matching.creator.id.eq(userId)))
-                    .or(matching.creatorRole.eq(InitiatorType.LISTENER).and(matching.acceptedUser.id.eq(userId)));
+            return participant.role.eq(InitiatorType.SPEAKER);
         }
     }
 
-    private List<ChatRoomResponse> convertToDto(List<Tuple> results, QChatRoom chatRoom, QChatMessage lastMessage, Long userId) {
+    private List<ChatRoomResponse> convertToDto(List<Tuple> results, QChatRoom chatRoom, Long userId) {
+        // 페이지 내 채팅방의 DB 미읽음 수 -> Redis 조회 실패/미스 시 fallback
+        Map<Long, Long> dbUnreadCounts = new LinkedHashMap<>();
+        for (Tuple tuple : results) {
+            Long dbUnreadCount = tuple.get(11, Long.class);
+            dbUnreadCounts.put(tuple.get(chatRoom.id), dbUnreadCount != null ? dbUnreadCount : 0L);
+        }
+        Map<Long, Long> unreadCounts = getUnreadCountsFromRedis(dbUnreadCounts, userId);
+
         return results.stream()
                 .map(tuple -> {
                     Long roomId = tuple.get(chatRoom.id);
-                    Long dbUnreadCount = tuple.get(11, Long.class) != null ? tuple.get(11, Long.class) : 0L;
-                    Long actualUnreadCount = getUnreadCountFromRedis(roomId, userId, dbUnreadCount);
+                    Long actualUnreadCount = unreadCounts.get(roomId);
 
                     String lastMessageContent = "새 채팅방이 생성되었습니다";
-                    MessageType lastMessageType = tuple.get(lastMessage.type);
+                    MessageType lastMessageType = tuple.get(chatRoom.lastMessageType);
 
                     if (lastMessageType != null) {
                         if (lastMessageType == MessageType.TEXT) {
@@ -267,34 +441,57 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
                 .collect(Collectors.toList());
     }
 
-    private Long getUnreadCountFromRedis(Long roomId, Long userId, Long dbFallback) {
-        try {
-            String unreadKey = redisKeyManager.getUnreadCountKey(roomId, userId);
-            Object redisValue = redisTemplate.opsForValue().get(unreadKey);
+    /**
+     * 페이지 단위 미읽음 수 일괄 조회
+     * MGET 한 번으로 조회하고, 미스된 키는 하나의 파이프라인에서 SETNX로 DB 값 채움
+     * (SETNX -> 그 사이 INCR된 값을 덮어쓰지 않음)
+     */
+    private Map<Long, Long> getUnreadCountsFromRedis(Map<Long, Long> dbUnreadCounts, Long userId) {
+        Map<Long, Long> unreadCounts = new HashMap<>(dbUnreadCounts);
+        if (dbUnreadCounts.isEmpty()) {
+            return unreadCounts;
+        }
 
-            if (redisValue != null) {
-                return convertToLong(redisValue);
+        try {
+            List<Long> roomIds = new ArrayList<>(dbUnreadCounts.keySet());
+            List<String> keys = roomIds.stream()
+                    .map(roomId -> redisKeyManager.getUnreadCountKey(roomId, userId))
+                    .collect(Collectors.toList());
+            List<Object> redisValues = redisTemplate.opsForValue().multiGet(keys);
+
+            Map<String, Long> misses = new LinkedHashMap<>();
+            for (int i = 0; i < roomIds.size(); i++) {
+                Object redisValue = redisValues != null && i < redisValues.size() ? redisValues.get(i) : null;
+
+                if (redisValue != null) {
+                    unreadCounts.put(roomIds.get(i), convertToLong(redisValue));
+                } else {
+                    misses.put(keys.get(i), dbUnreadCounts.get(roomIds.get(i)));
+                }
             }
 
-            // Redis에 없으면 DB 값을 Redis에 저장하고 반환
-            redisTemplate.opsForValue().set(unreadKey, dbFallback);
-            return dbFallback;
+            if (!misses.isEmpty()) {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        misses.forEach((key, value) -> ops.opsForValue().setIfAbsent(key, value));
+                        return null;
+                    }
+                });
+            }
         } catch (Exception e) {
-            log.error("Redis에서 unreadCount 조회 실패: {}", e.getMessage());
-            return dbFallback;
+            log.error("Redis에서 unreadCount 일괄 조회 실패: {}", e.getMessage());
         }
+        return unreadCounts;
     }
 
     private BooleanExpression createUserParticipationCondition(Long userId) {
-        QChatRoom chatRoom = QChatRoom.chatRoom;
-        QMatching matching = QMatching.matching;
+        QChatRoomParticipant participant = QChatRoomParticipant.chatRoomParticipant;
 
-        return (matching.creator.id.eq(userId)
-                .and(matching.creatorRole.eq(InitiatorType.LISTENER).and(chatRoom.deletedByListener.eq(false))
-                        .or(matching.creatorRole.eq(InitiatorType.SPEAKER).and(chatRoom.deletedBySpeaker.eq(false)))))
-                .or(matching.acceptedUser.id.eq(userId)
-                        .and(matching.creatorRole.eq(InitiatorType.LISTENER).and(chatRoom.deletedBySpeaker.eq(false))
-                                .or(matching.creatorRole.eq(InitiatorType.SPEAKER).and(chatRoom.deletedByListener.eq(false)))));
+        return participant.user.id.eq(userId)
+                .and(participant.deleted.isFalse());
     }
 
 }
\ No newline at end of file
@@ -8,7 +8,6 @@ import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.Base64;
@@ -20,8 +19,22 @@ public class AesGcmEncryptionService {
     private static final int IV_LENGTH_BYTE = 12; // IV (초기화 벡터) 길이
     private static final int AES_KEY_BIT = 256;
 
+    private static final int TAG_LENGTH_BYTE = TAG_LENGTH_BIT / 8;
+
+    // Cipher는 thread-safe 하지 않으므로 스레드별 인스턴스 재사용 -> 매 호출마다 provider 조회 방지
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cipher 초기화 과정에서 오류가 발생했습니다.", e);
+        }
+    });
+
     private final SecretKey secretKey;
 
+    // SecureRandom은 thread-safe -> 인스턴스 하나를 공유하여 IV 생성
+    private final SecureRandom secureRandom = new SecureRandom();
+
     public AesGcmEncryptionService(@Value("${encryption.secret-key}") String encodedKey) {
         byte[] decodedKey = Base64.getDecoder().decode(encodedKey);
         this.secretKey = new SecretKeySpec(decodedKey, "AES");
@@ -30,53 +43,58 @@ public class AesGcmEncryptionService {
     /**
      * 문자열 암호화하고 Base64로 인코딩하여 반환
      */
-    public String encrypt(String platinText) {
+    public String encrypt(String plainText) {
+        return Base64.getEncoder().encodeToString(encrypt(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Base64로 인코딩된 암호문을 복호화하여 원본 문자열 반환
+     */
+    public String decrypt(String encryptedText) {
+        byte[] cipherMessage;
         try {
-            // 랜덤 IV 생성 -> 매 암호화마다 새로운 IV 사용
-            byte[] iv = new byte[IV_LENGTH_BYTE];
-            new SecureRandom().nextBytes(iv);
+            cipherMessage = Base64.getDecoder().decode(encryptedText);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("복호화 과정에서 오류가 발생했습니다.", e);
+        }
+        return new String(decrypt(cipherMessage), StandardCharsets.UTF_8);
+    }
 
-            // 암호화 수행
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(TAG_LENGTH_BIT, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
+    /**
+     * 바이트 배열 암호화 -> [IV(12) | 암호문 + 태그] 형태로 반환
+     * 중간 ByteBuffer 없이 결과 배열에 IV와 암호문을 직접 기록
+     */
+    public byte[] encrypt(byte[] plainBytes) {
+        try {
+            byte[] output = new byte[IV_LENGTH_BYTE + plainBytes.length + TAG_LENGTH_BYTE];
 
-            byte[] cipherText = cipher.doFinal(platinText.getBytes(StandardCharsets.UTF_8));
+            // 랜덤 IV 생성 -> 매 암호화마다 새로운 IV 사용
+            byte[] iv = new byte[IV_LENGTH_BYTE];
+            secureRandom.nextBytes(iv);
+            System.arraycopy(iv, 0, output, 0, IV_LENGTH_BYTE);
 
-            // IV와 암호문 결합
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(cipherText);
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, iv));
+            cipher.doFinal(plainBytes, 0, plainBytes.length, output, IV_LENGTH_BYTE);
 
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
+            return output;
         } catch (Exception e) {
             throw new RuntimeException("암호화 과정에서 오류가 발생했습니다.", e);
         }
     }
 
     /**
-     * Base64로 인코딩된 암호문을 복호화하여 원본 문자열 반환
+     * [IV | 암호문 + 태그] 바이트 배열 복호화
      */
-    public String decrypt(String encryptedText) {
-        try {
-            byte[] cipherMessage = Base64.getDecoder().decode(encryptedText);
-
-            // IV 추출
-            ByteBuffer byteBuffer = ByteBuffer.wrap(cipherMessage);
-            byte[] iv = new byte[IV_LENGTH_BYTE];
-            byteBuffer.get(iv);
-
-            // 암호문 추출
-            byte[] cipherText = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherText);
-
-            // 복호화 수행
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(TAG_LENGTH_BIT, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+    public byte[] decrypt(byte[] cipherMessage) {
+        if (cipherMessage == null || cipherMessage.length < IV_LENGTH_BYTE + TAG_LENGTH_BYTE) {
+            throw new RuntimeException("복호화 과정에서 오류가 발생했습니다.");
+        }
 
-            // 복호화된 텍스트 반환
-            return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+        try {
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, cipherMessage, 0, IV_LENGTH_BYTE));
+            return cipher.doFinal(cipherMessage, IV_LENGTH_BYTE, cipherMessage.length - IV_LENGTH_BYTE);
         } catch (Exception e) {
             throw new RuntimeException("복호화 과정에서 오류가 발생했습니다.", e);
         }
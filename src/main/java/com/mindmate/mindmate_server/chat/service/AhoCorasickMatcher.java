@@ -7,7 +7,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
-public class AhoCorasickMatcher<T> {
+public class AhoCorasickMatcher<T> implements KeywordMatcher<T> {
 
     public interface MatchableItem {
         String getPattern();
@@ -24,13 +24,23 @@ public class AhoCorasickMatcher<T> {
         }
     }
 
-    private Node root;
-    private boolean initialized = false;
-    private Map<String, T> itemMap = new HashMap<>();
+    // 구축이 끝난 트라이와 아이템 맵을 묶은 불변 스냅샷
+    private static class Trie<T> {
+        final Node root;
+        final Map<String, T> itemMap;
+
+        Trie(Node root, Map<String, T> itemMap) {
+            this.root = root;
+            this.itemMap = itemMap;
+        }
+    }
+
+    // 재구축 중에도 검색은 이전 스냅샷으로 진행 -> 완성된 스냅샷만 한 번에 교체
+    private volatile Trie<T> trie;
 
     public void initialize(List<T> items, Function<T, String> patternExtractor, Function<T, Boolean> activeChecker) {
-        root = new Node();
-        itemMap.clear();
+        Node root = new Node();
+        Map<String, T> itemMap = new HashMap<>();
 
         // 트라이 구축
         for (T item : items) {
@@ -79,22 +89,23 @@ public class AhoCorasickMatcher<T> {
             }
         }
 
-        initialized = true;
+        trie = new Trie<>(root, itemMap);
     }
 
     public List<T> searchItems(String text) {
-        List<String> patterns = search(text);
+        Trie<T> snapshot = snapshot();
+        List<String> patterns = search(snapshot.root, text);
         return patterns.stream()
-                .map(itemMap::get)
+                .map(snapshot.itemMap::get)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
     public List<String> search(String text) {
-        if (!initialized) {
-            throw new IllegalStateException("Aho-Corasick matcher is not initialized");
-        }
+        return search(snapshot().root, text);
+    }
 
+    private List<String> search(Node root, String text) {
         List<String> results = new ArrayList<>();
         Node current = root;
 
@@ -121,15 +132,16 @@ public class AhoCorasickMatcher<T> {
     }
 
     public Optional<T> findFirstMatchItem(String text) {
-        Optional<String> pattern = findFirstMatch(text);
-        return pattern.map(itemMap::get);
+        Trie<T> snapshot = snapshot();
+        Optional<String> pattern = findFirstMatch(snapshot.root, text);
+        return pattern.map(snapshot.itemMap::get);
     }
 
     public Optional<String> findFirstMatch(String text) {
-        if (!initialized) {
-            throw new IllegalStateException("Aho-Corasick matcher is not initialized");
-        }
+        return findFirstMatch(snapshot().root, text);
+    }
 
+    private Optional<String> findFirstMatch(Node root, String text) {
         Node current = root;
 
         for (int i = 0; i < text.length(); i++) {
@@ -149,4 +161,12 @@ public class AhoCorasickMatcher<T> {
         }
         return Optional.empty();
     }
+
+    private Trie<T> snapshot() {
+        Trie<T> current = trie;
+        if (current == null) {
+            throw new IllegalStateException("Aho-Corasick matcher is not initialized");
+        }
+        return current;
+    }
 }
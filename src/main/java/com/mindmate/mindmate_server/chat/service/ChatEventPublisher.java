@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mindmate.mindmate_server.chat.dto.ChatEvent;
 import com.mindmate.mindmate_server.chat.dto.ChatEventType;
+import com.mindmate.mindmate_server.chat.util.ChatEventEnvelopeCodec;
 import com.mindmate.mindmate_server.chat.util.WebSocketDestinationResolver;
 import com.mindmate.mindmate_server.global.util.RedisKeyManager;
 import lombok.RequiredArgsConstructor;
@@ -17,25 +18,38 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatEventPublisher {
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> byteArrayRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final ChatEventEnvelopeCodec envelopeCodec;
     private final RedisKeyManager redisKeyManager;
     private final WebSocketDestinationResolver webSocketDestinationResolver;
     private final SimpMessagingTemplate messagingTemplate;
 
     private static final int MAX_RETRIES = 3;
 
+    /**
+     * 채팅방 이벤트 발행
+     * data 는 엔벨로프 인코딩 시 한 번만 직렬화 -> 바이트 그대로 Redis 로 발행 (재직렬화 없음)
+     * Redis 발행이 계속 실패하면 같은 바이트를 현재 노드의 구독자에게 직접 전달
+     */
     public <T> void publishChatRoomEvent(Long roomId, ChatEventType type, T data) {
         String channel = redisKeyManager.getChatRoomChannel(roomId);
-        ChatEvent<T> event = ChatEvent.of(type, data);
+
+        byte[] envelope;
+        try {
+            envelope = envelopeCodec.encode(type, data);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing chat room event {} for room {}: {}", type, roomId, e.getMessage());
+            return;
+        }
 
         int retryCount = 0;
 
         while (retryCount < MAX_RETRIES) {
             try {
-                String eventJson = objectMapper.writeValueAsString(event);
-                redisTemplate.convertAndSend(channel, eventJson);
+                byteArrayRedisTemplate.convertAndSend(channel, envelope);
                 return;
-            } catch (JsonProcessingException e) {
+            } catch (Exception e) {
                 log.error("Error publishing event to Redis (attempt {}): {}", retryCount + 1, e.getMessage());
                 retryCount++;
                 if (retryCount < MAX_RETRIES) {
@@ -51,7 +65,8 @@ public class ChatEventPublisher {
         // 모든 재시도 실패 시 WebSocket으로 직접 전송
         try {
             String destination = webSocketDestinationResolver.getDestinationByEventType(roomId.toString(), type.name());
-            messagingTemplate.convertAndSend(destination, objectMapper.writeValueAsString(data));
+            ChatEventEnvelopeCodec.Envelope decoded = envelopeCodec.decode(envelope);
+            messagingTemplate.send(destination, envelopeCodec.toStompMessage(decoded.payload()));
         } catch (Exception e) {
             log.error("Failed to deliver message via fallback mechanism: {}", e.getMessage());
         }
@@ -0,0 +1,189 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * chat-message-topic 통합 파이프라인 (chat.pipeline.enabled=true)
+ * - chat-pipeline-group 하나가 poll 단위로 한 번만 역직렬화 -> 단계별로 관련 이벤트만 전달
+ * - 단계마다 전용 스레드 풀(큐 제한, 가득 차면 리스너 스레드에서 실행) -> 느린 단계가 다른 단계를 막지 않음
+ * - 원자적 배치 단계는 배치 단위 재시도, 그 외 단계는 레코드 단위 재시도 -> 성공한 이벤트는 다시 처리하지 않음
+ * - 재시도 후에도 실패한 레코드만 기존 그룹의 DLT 로 전송
+ * - 모든 단계가 끝난 뒤 offset 커밋
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "chat.pipeline.enabled", havingValue = "true")
+public class ChatMessagePipelineConsumer {
+    private final List<StageRunner> runners;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public ChatMessagePipelineConsumer(List<ChatMessagePipelineStage> stages,
+                                       KafkaTemplate<String, Object> kafkaTemplate,
+                                       @Value("${chat.pipeline.stage.pool-size:3}") int poolSize,
+                                       @Value("${chat.pipeline.stage.queue-capacity:64}") int queueCapacity,
+                                       @Value("${chat.pipeline.retry.max-attempts:3}") int maxAttempts,
+                                       @Value("${chat.pipeline.retry.backoff-ms:1000}") long backoffMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+        this.runners = stages.stream()
+                .map(stage -> new StageRunner(stage, createExecutor(stage.getName(), poolSize, queueCapacity)))
+                .collect(Collectors.toList());
+
+        log.info("Chat message pipeline enabled with stages: {}",
+                stages.stream().map(ChatMessagePipelineStage::getName).collect(Collectors.toList()));
+    }
+
+    @KafkaListener(
+            topics = "chat-message-topic",
+            groupId = "chat-pipeline-group",
+            containerFactory = "chatMessagePipelineListenerContainerFactory",
+            properties = "max.poll.records=${chat.pipeline.max-poll-records:500}"
+    )
+    public void consume(List<ConsumerRecord<String, ChatMessageEvent>> records, Acknowledgment ack) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (StageRunner runner : runners) {
+            List<ConsumerRecord<String, ChatMessageEvent>> routed = records.stream()
+                    .filter(record -> record.value() != null && runner.stage.supports(record.value()))
+                    .collect(Collectors.toList());
+
+            if (!routed.isEmpty()) {
+                futures.add(CompletableFuture.runAsync(() -> runStage(runner.stage, routed), runner.executor));
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // DLT 전송까지 실패한 경우 -> 컨테이너 에러 핸들러가 배치 재시도
+            log.error("Chat message pipeline failed for {} records", records.size(), e.getCause());
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        ack.acknowledge();
+    }
+
+    /**
+     * 원자적 배치 단계: 배치 단위 재시도 (지수 백오프) -> 그래도 실패하면 롤백된 배치를 레코드 단위로 격리해서 실패한 것만 DLT
+     * 그 외 단계: 처음부터 레코드 단위로 재시도 -> 일부 실패가 앞서 성공한 이벤트(알림 등)를 다시 실행하지 않음
+     */
+    void runStage(ChatMessagePipelineStage stage, List<ConsumerRecord<String, ChatMessageEvent>> records) {
+        if (stage.isAtomicBatch()) {
+            List<ChatMessageEvent> events = records.stream()
+                    .map(ConsumerRecord::value)
+                    .collect(Collectors.toList());
+
+            if (processWithRetry(stage, events) == null) {
+                return;
+            }
+
+            for (ConsumerRecord<String, ChatMessageEvent> record : records) {
+                try {
+                    stage.process(List.of(record.value()));
+                } catch (Exception e) {
+                    sendToDlt(stage, record, e);
+                }
+            }
+            return;
+        }
+
+        for (ConsumerRecord<String, ChatMessageEvent> record : records) {
+            Exception failure = processWithRetry(stage, List.of(record.value()));
+            if (failure != null) {
+                sendToDlt(stage, record, failure);
+            }
+        }
+    }
+
+    /**
+     * 성공 시 null, 모든 시도가 실패하면 마지막 예외 반환
+     */
+    private Exception processWithRetry(ChatMessagePipelineStage stage, List<ChatMessageEvent> events) {
+        Exception failure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                stage.process(events);
+                return null;
+            } catch (Exception e) {
+                failure = e;
+                log.warn("Pipeline stage {} failed (attempt {}/{}): {}", stage.getName(), attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts) {
+                    sleep(backoffMs << (attempt - 1));
+                }
+            }
+        }
+        return failure;
+    }
+
+    private void sendToDlt(ChatMessagePipelineStage stage, ConsumerRecord<String, ChatMessageEvent> record, Exception cause) {
+        String dltTopic = record.topic() + "-" + stage.getName() + "-dlt";
+        ProducerRecord<String, Object> dltRecord = new ProducerRecord<>(dltTopic, record.key(), record.value());
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+        dltRecord.headers().add(KafkaHeaders.EXCEPTION_MESSAGE, message.getBytes(StandardCharsets.UTF_8));
+
+        kafkaTemplate.send(dltRecord).join();
+        log.error("Pipeline stage {} sent record to {}: partition={}, offset={}",
+                stage.getName(), dltTopic, record.partition(), record.offset(), cause);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Pipeline stage retry interrupted", e);
+        }
+    }
+
+    private static ThreadPoolExecutor createExecutor(String stageName, int poolSize, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pipeline-" + stageName + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runners.forEach(runner -> runner.executor.shutdown());
+    }
+
+    private static final class StageRunner {
+        private final ChatMessagePipelineStage stage;
+        private final ExecutorService executor;
+
+        private StageRunner(ChatMessagePipelineStage stage, ExecutorService executor) {
+            this.stage = stage;
+            this.executor = executor;
+        }
+    }
+}
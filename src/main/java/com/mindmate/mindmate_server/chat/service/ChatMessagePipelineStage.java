@@ -0,0 +1,36 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
+
+import java.util.List;
+
+/**
+ * chat-message-topic 처리 단계
+ * - 단독 모드: 각 컨슈머가 자기 그룹으로 토픽을 직접 구독
+ * - 파이프라인 모드(chat.pipeline.enabled=true): 단독 리스너는 시작하지 않고
+ *   ChatMessagePipelineConsumer 가 한 번 역직렬화한 이벤트를 단계별로 전달
+ */
+public interface ChatMessagePipelineStage {
+    // 파이프라인 모드에서는 단독 리스너(재시도/DLT 리스너 포함)를 시작하지 않음
+    String STANDALONE_AUTO_STARTUP = "#{!${chat.pipeline.enabled:false}}";
+
+    /**
+     * 기존 컨슈머 그룹 이름 -> DLT 토픽 이름에 사용 (chat-message-topic-{name}-dlt)
+     */
+    String getName();
+
+    boolean supports(ChatMessageEvent event);
+
+    /**
+     * true: process 가 전부 반영되거나 전부 롤백되는 단계 (단일 트랜잭션 배치) -> 배치 단위로 재시도
+     * false: 이벤트마다 결과가 바로 반영되는 단계 (알림 발송 등) -> 파이프라인이 이벤트 단위로 처리
+     */
+    default boolean isAtomicBatch() {
+        return false;
+    }
+
+    /**
+     * supports 를 통과한 이벤트 목록을 순서대로 처리
+     */
+    void process(List<ChatMessageEvent> events);
+}
@@ -1,29 +1,33 @@
 package com.mindmate.mindmate_server.chat.service;
 
 import com.mindmate.mindmate_server.chat.domain.ChatMessage;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ChatMessageService {
     ChatMessage findChatMessageById(Long messageId);
 
-    long countMessagesByChatRoomId(Long roomId);
+    boolean existsByChatRoomId(Long roomId);
 
-    List<ChatMessage> findAllByChatRoomIdOrderByIdAsc(Long roomId);
+    List<ChatMessage> findFirstMessages(Long roomId, int size);
+
+    List<ChatMessage> findNextMessages(Long roomId, Long messageId, int size);
 
     Optional<ChatMessage> findLatestMessageByChatRoomId(Long roomId);
 
     List<ChatMessage> findMessagesBeforeId(Long roomId, Long messageId, int size);
 
-    List<ChatMessage> findMessagesAfterOrEqualId(Long roomId, Long messageId);
-
     List<ChatMessage> findRecentMessages(Long roomId, int size);
 
     List<ChatMessage> findPreviousMessages(Long roomId, Long messageId, int size);
 
     ChatMessage save(ChatMessage chatMessage);
 
+    int bulkUpdateEncryptedContents(Map<Long, String> encryptedContents, List<ChatMessageSearchIndexDTO> searchIndexes);
+
     List<Long> findMessageIdsByKeyword(Long roomId, String keyword);
 
     List<ChatMessage> findByRoomIdAndIdBetween(Long roomId, Long targetMessageId, Long lastMessageId);
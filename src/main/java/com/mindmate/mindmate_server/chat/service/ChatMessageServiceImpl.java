@@ -1,18 +1,17 @@
 package com.mindmate.mindmate_server.chat.service;
 
 import com.mindmate.mindmate_server.chat.domain.ChatMessage;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
 import com.mindmate.mindmate_server.chat.repository.ChatMessageRepository;
 import com.mindmate.mindmate_server.global.exception.ChatErrorCode;
 import com.mindmate.mindmate_server.global.exception.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @Transactional(readOnly = true)
@@ -20,6 +19,12 @@ import java.util.Optional;
 public class ChatMessageServiceImpl implements ChatMessageService {
     private final ChatMessageRepository chatMessageRepository;
     private final AesGcmEncryptionService encryptionService;
+    private final MessageDecryptionService messageDecryptionService;
+    private final MessageSearchIndexService messageSearchIndexService;
+
+    // true: 저장 시점에 암호화 -> 평문 저장 구간 및 암호화 컨슈머의 2차 쓰기 제거
+    @Value("${chat.encryption.encrypt-on-write:false}")
+    private boolean encryptOnWrite;
 
     @Override
     public ChatMessage findChatMessageById(Long messageId) {
@@ -32,13 +37,19 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     }
 
     @Override
-    public long countMessagesByChatRoomId(Long roomId) {
-        return chatMessageRepository.countByChatRoomId(roomId);
+    public boolean existsByChatRoomId(Long roomId) {
+        return chatMessageRepository.existsByChatRoomId(roomId);
     }
 
     @Override
-    public List<ChatMessage> findAllByChatRoomIdOrderByIdAsc(Long roomId) {
-        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByIdAsc(roomId);
+    public List<ChatMessage> findFirstMessages(Long roomId, int size) {
+        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByIdAsc(roomId, PageRequest.of(0, size));
+        return decryptMessagesIfNeeded(messages);
+    }
+
+    @Override
+    public List<ChatMessage> findNextMessages(Long roomId, Long messageId, int size) {
+        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, messageId, PageRequest.of(0, size));
         return decryptMessagesIfNeeded(messages);
     }
 
@@ -52,12 +63,6 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         List<ChatMessage> messages = chatMessageRepository.findMessagesBeforeIdLimited(roomId, messageId, PageRequest.of(0, size));
         return decryptMessagesIfNeeded(messages);
     }
-    @Override
-    public List<ChatMessage> findMessagesAfterOrEqualId(Long roomId, Long messageId) {
-        List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdAndIdGreaterThanEqualOrderByIdAsc(roomId, messageId);
-        return decryptMessagesIfNeeded(messages);
-    }
-
     @Override
     public List<ChatMessage> findRecentMessages(Long roomId, int size) {
         List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByIdDesc(roomId, PageRequest.of(0, size)).getContent();
@@ -83,7 +88,25 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     @Override
     @Transactional
     public ChatMessage save(ChatMessage chatMessage) {
-        return chatMessageRepository.save(chatMessage);
+        if (!encryptOnWrite || !encryptBeforeInsert(chatMessage)) {
+            return chatMessageRepository.save(chatMessage);
+        }
+
+        ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+        messageSearchIndexService.index(savedMessage.getChatRoom().getId(), savedMessage.getId(), savedMessage.getContent());
+        return savedMessage;
+    }
+
+    /**
+     * 암호문 반영과 blind index 토큰 저장을 한 트랜잭션으로 처리
+     * -> 암호문인데 토큰이 없는 구간이 없어 평문/색인 어느 검색에서도 빠지지 않음
+     */
+    @Override
+    @Transactional
+    public int bulkUpdateEncryptedContents(Map<Long, String> encryptedContents, List<ChatMessageSearchIndexDTO> searchIndexes) {
+        int updated = chatMessageRepository.bulkUpdateEncryptedContents(encryptedContents);
+        messageSearchIndexService.indexAll(searchIndexes);
+        return updated;
     }
 
     @Override
@@ -91,7 +114,17 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         if (roomId == null || keyword == null || keyword.trim().isEmpty()) {
             throw new CustomException(ChatErrorCode.CHAT_ROOM_INVALID_PARAMETERS);
         }
-        return chatMessageRepository.findMessageIdsByKeyword(roomId, keyword);
+
+        // 암호화 대기 중인 평문 메시지를 먼저 조회 -> 두 조회 사이에 암호화된 메시지는 토큰과 함께 커밋되므로 blind index 에서 찾음
+        // 평문 비교도 blind index 와 같은 정규화 사용
+        TreeSet<Long> messageIds = new TreeSet<>(Comparator.reverseOrder());
+        for (Object[] row : chatMessageRepository.findPlainMessageContents(roomId)) {
+            if (messageSearchIndexService.matches((String) row[1], keyword)) {
+                messageIds.add((Long) row[0]);
+            }
+        }
+        messageIds.addAll(messageSearchIndexService.search(roomId, keyword));
+        return new ArrayList<>(messageIds);
     }
 
     @Override
@@ -99,22 +132,26 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         return chatMessageRepository.findByRoomIdAndIdBetween(roomId, targetMessageId, lastMessageId);
     }
 
-    // 단일 메시지 확인 시 보고화
-    private void decryptMessageIfNeeded(ChatMessage message) {
-        if (message.isEncrypted()) {
-            try {
-                String decryptedContent = encryptionService.decrypt(message.getContent());
-                message.setDecryptedContent(decryptedContent);
-            } catch (Exception e) {
-            }
+    // 신규 메시지만 암호화, 이후 응답/이벤트 발행을 위해 평문은 복호화 내용으로 유지
+    private boolean encryptBeforeInsert(ChatMessage chatMessage) {
+        if (chatMessage.getId() != null || chatMessage.isEncrypted() || chatMessage.getContent() == null) {
+            return false;
         }
+
+        String plainContent = chatMessage.getContent();
+        chatMessage.updateEncryptedContent(encryptionService.encrypt(plainContent));
+        chatMessage.setDecryptedContent(plainContent);
+        return true;
+    }
+
+    // 단일 메시지 확인 시 복호화
+    private void decryptMessageIfNeeded(ChatMessage message) {
+        messageDecryptionService.decrypt(message);
     }
 
-    // 메서지 목록들 확인 시 복호화
+    // 메시지 목록 확인 시 페이지 단위 일괄 복호화 (실패는 메트릭으로 집계)
     private List<ChatMessage> decryptMessagesIfNeeded(List<ChatMessage> messages) {
-        for (ChatMessage message : messages) {
-            decryptMessageIfNeeded(message);
-        }
+        messageDecryptionService.decryptAll(messages);
         return messages;
     }
 }
@@ -15,10 +15,12 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class ChatNotificationConsumer {
+public class ChatNotificationConsumer implements ChatMessagePipelineStage {
     private final NotificationService notificationService;
     private final UserService userService;
 
@@ -38,53 +40,68 @@ public class ChatNotificationConsumer {
     @KafkaListener(
             topics = "chat-message-topic",
             groupId = "notification-group",
-            containerFactory = "chatMessageListenerContainerFactory"
+            containerFactory = "chatMessageListenerContainerFactory",
+            autoStartup = STANDALONE_AUTO_STARTUP
     )
     public void sendNotification(ConsumerRecord<String, ChatMessageEvent> record, Acknowledgment ack) {
         ChatMessageEvent event = record.value();
 
-        // 필터링된 메시지 처리 x
-        if (event.isFiltered() || event.getMessageId() == null) {
+        // 필터링된 메시지, 수신자가 채팅방에 있는 메시지 처리 x
+        if (!supports(event)) {
             ack.acknowledge();
             return;
         }
 
-        if (event.isRecipientActive()) {
+        try {
+            notifyRecipient(event);
             ack.acknowledge();
-            return;
+        } catch (Exception e) {
+            log.error("Error sending notification", e);
+            throw e;
         }
+    }
 
-        try {
-            User sender = userService.findUserById(event.getSenderId());
-            User recipient = userService.findUserById(event.getRecipientId());
-            String notificationContent;
+    @Override
+    public String getName() {
+        return "notification-group";
+    }
 
-            // todo: 이모티콘은 그냥 이미지만 못 보여주나? 그리고 암호화 여부에 따라 여기서 해당 내용을 보여줄 지 아니면 그냥 일반적인 문구를 보여줄 지 결정
-            if (event.getType() == MessageType.TEXT) {
-                notificationContent = event.getPlainContent();
-            } else if (event.getType() == MessageType.CUSTOM_FORM) {
-                notificationContent = "커스텀폼 메시지가 도착했습니다.";
-            } else if (event.getType() == MessageType.EMOTICON){
-                notificationContent = "이모티콘이 도착했습니다.";
-            } else {
-                notificationContent = "새 메시지가 도착했습니다.";
-            }
+    @Override
+    public boolean supports(ChatMessageEvent event) {
+        return !event.isFiltered() && event.getMessageId() != null && !event.isRecipientActive();
+    }
 
-            ChatMessageNotificationEvent notificationEvent  = ChatMessageNotificationEvent.builder()
-                    .recipientId(recipient.getId())
-                    .senderId(sender.getId())
-                    .senderName(sender.getProfile().getNickname())
-                    .roomId(event.getRoomId())
-                    .messageContent(notificationContent)
-                    .messageId(event.getMessageId())
-                    .build();
+    @Override
+    public void process(List<ChatMessageEvent> events) {
+        events.forEach(this::notifyRecipient);
+    }
 
-            notificationService.processNotification(notificationEvent);
-            log.info("Notification sent to recipient {} for message {}", recipient.getId(), event.getMessageId());
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("Error sending notification", e);
-            throw e;
+    private void notifyRecipient(ChatMessageEvent event) {
+        User sender = userService.findUserById(event.getSenderId());
+        User recipient = userService.findUserById(event.getRecipientId());
+        String notificationContent;
+
+        // todo: 이모티콘은 그냥 이미지만 못 보여주나? 그리고 암호화 여부에 따라 여기서 해당 내용을 보여줄 지 아니면 그냥 일반적인 문구를 보여줄 지 결정
+        if (event.getType() == MessageType.TEXT) {
+            notificationContent = event.getPlainContent();
+        } else if (event.getType() == MessageType.CUSTOM_FORM) {
+            notificationContent = "커스텀폼 메시지가 도착했습니다.";
+        } else if (event.getType() == MessageType.EMOTICON){
+            notificationContent = "이모티콘이 도착했습니다.";
+        } else {
+            notificationContent = "새 메시지가 도착했습니다.";
         }
+
+        ChatMessageNotificationEvent notificationEvent  = ChatMessageNotificationEvent.builder()
+                .recipientId(recipient.getId())
+                .senderId(sender.getId())
+                .senderName(sender.getProfile().getNickname())
+                .roomId(event.getRoomId())
+                .messageContent(notificationContent)
+                .messageId(event.getMessageId())
+                .build();
+
+        notificationService.processNotification(notificationEvent);
+        log.info("Notification sent to recipient {} for message {}", recipient.getId(), event.getMessageId());
     }
 }
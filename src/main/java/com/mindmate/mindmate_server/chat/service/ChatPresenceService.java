@@ -1,129 +1,220 @@
 package com.mindmate.mindmate_server.chat.service;
 
 import com.mindmate.mindmate_server.chat.domain.ChatRoom;
-import com.mindmate.mindmate_server.chat.dto.ChatEventType;
 import com.mindmate.mindmate_server.chat.repository.ChatRoomRepository;
 import com.mindmate.mindmate_server.global.util.RedisKeyManager;
 import com.mindmate.mindmate_server.user.domain.User;
 import com.mindmate.mindmate_server.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ChatPresenceService {
+    private static final String TOTAL_UNREAD_FIELD = "total";
+
+    /**
+     * KEYS[1] 채팅방 미읽음 키, KEYS[2] 사용자 집계 해시, KEYS[3] write-behind dirty set
+     * ARGV[1] roomId, ARGV[2] 증가량
+     * 집계 해시가 없으면 total 자리에 -1 반환 -> 호출 측에서 재계산
+     * total 에는 증가량이 아닌 (새 카운트 - 집계에 기록된 값)을 더함
+     * -> 채팅방 키가 집계 필드보다 먼저 생긴 경우(SETNX/DB 보정)에도 어긋나지 않음
+     */
+    private static final String INCREMENT_UNREAD_SCRIPT =
+            "local count = redis.call('INCRBY', KEYS[1], ARGV[2]) " +
+            "redis.call('SADD', KEYS[3], ARGV[1]) " +
+            "if redis.call('HEXISTS', KEYS[2], 'total') == 0 then return {count, -1} end " +
+            "local previous = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "redis.call('HSET', KEYS[2], ARGV[1], count) " +
+            "return {count, redis.call('HINCRBY', KEYS[2], 'total', count - previous)}";
+
+    /**
+     * KEYS[1] 채팅방 미읽음 키, KEYS[2] 사용자 집계 해시, KEYS[3] write-behind dirty set
+     * ARGV[1] roomId
+     * 키를 지우지 않고 0으로 기록 + dirty 등록 -> write-behind 가 DB 카운트도 0으로 반영
+     */
+    private static final String RESET_UNREAD_SCRIPT =
+            "redis.call('SET', KEYS[1], '0') " +
+            "redis.call('SADD', KEYS[3], ARGV[1]) " +
+            "if redis.call('HEXISTS', KEYS[2], 'total') == 0 then return -1 end " +
+            "local previous = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "local total = redis.call('HINCRBY', KEYS[2], 'total', -previous) " +
+            "if total < 0 then redis.call('HSET', KEYS[2], 'total', 0) return 0 end " +
+            "return total";
+
+    /**
+     * KEYS[1] 사용자 집계 해시
+     * ARGV[1] roomId
+     * 종료/삭제된 채팅방을 집계에서 제외 (채팅방 미읽음 키는 유지)
+     */
+    private static final String REMOVE_ROOM_SCRIPT =
+            "if redis.call('HEXISTS', KEYS[1], 'total') == 0 then return -1 end " +
+            "local previous = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if redis.call('HDEL', KEYS[1], ARGV[1]) == 0 then return tonumber(redis.call('HGET', KEYS[1], 'total')) end " +
+            "local total = redis.call('HINCRBY', KEYS[1], 'total', -previous) " +
+            "if total < 0 then redis.call('HSET', KEYS[1], 'total', 0) return 0 end " +
+            "return total";
+
     private final RedisTemplate<String, Object> redisTemplate;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final UserDestinationRouter userDestinationRouter;
     private final RedisKeyManager redisKeyManager;
-    private final ChatEventPublisher eventPublisher;
+    private final PresenceTracker presenceTracker;
 
     private final ChatRoomRepository chatRoomRepository;
     private final UserService userService;
 
+    /**
+     * 접속 상태는 PresenceTracker 에서 병합 후 기록
+     */
     public void updateUserStatus(Long userId, boolean isOnline, Long activeRoomId) {
-        String statusKey = redisKeyManager.getUserStatusKey(userId);
-        Map<String, Object> status = new HashMap<>();
-        status.put("online", isOnline);
-        status.put("activeRoomId", activeRoomId);
-        status.put("lastActive", LocalDateTime.now().toString());
-        status.put("status", isOnline ? "ONLINE" : "OFFLINE");
-
-        redisTemplate.opsForHash().putAll(statusKey, status);
-
-        if (isOnline) {
-            redisTemplate.expire(statusKey, 5, TimeUnit.MINUTES);
-        } else {
-            redisTemplate.expire(statusKey, 30, TimeUnit.MINUTES);
-        }
-
-        eventPublisher.publishUserEvent(userId, ChatEventType.USER_STATUS, status);
+        presenceTracker.update(userId, isOnline, activeRoomId);
     }
 
     public Long getActiveRoom(Long userId) {
-        String statusKey = redisKeyManager.getUserStatusKey(userId);
-        return (Long) redisTemplate.opsForHash().get(statusKey, "activeRoomId");
+        return presenceTracker.getActiveRoom(userId);
     }
 
     public boolean isUserActiveInRoom(Long userId, Long roomId) {
-        String statusKey = redisKeyManager.getUserStatusKey(userId);
-        Boolean isOnline = (Boolean) redisTemplate.opsForHash().get(statusKey, "online");
-        Object activeRoomObj = redisTemplate.opsForHash().get(statusKey, "activeRoomId");
-
-        if (!Boolean.TRUE.equals(isOnline) || activeRoomObj == null) {
-            return false;
-        }
-
-        Long activeRoomId;
-        try {
-            if (activeRoomObj instanceof Integer) {
-                activeRoomId = ((Integer) activeRoomObj).longValue();
-            } else if (activeRoomObj instanceof Long) {
-                activeRoomId = (Long) activeRoomObj;
-            } else if (activeRoomObj instanceof String) {
-                activeRoomId = Long.parseLong((String) activeRoomObj);
-            } else {
-                log.warn("Unexpected activeRoomId type: {}", activeRoomObj.getClass().getName());
-                return false;
-            }
-            return activeRoomId.equals(roomId);
-        } catch (Exception e) {
-            log.error("Error converting activeRoomId: {}", e.getMessage());
-            return false;
-        }
+        return presenceTracker.isUserActiveInRoom(userId, roomId);
     }
 
     public Long incrementUnreadCountInRedis(Long roomId, Long userId) {
-        // Redis 업데이트
-        String unreadKey = redisKeyManager.getUnreadCountKey(roomId, userId);
-        Long count = redisTemplate.opsForValue().increment(unreadKey);
+        // Redis 업데이트 -> 채팅방 카운트 + 사용자 집계 + dirty 등록을 Lua 스크립트로 원자적으로 처리
+        List<Object> result = redisTemplate.execute((RedisCallback<List<Object>>) connection ->
+                connection.scriptingCommands().eval(
+                        toBytes(INCREMENT_UNREAD_SCRIPT), ReturnType.MULTI, 3,
+                        incrementScriptKeysAndArgs(roomId, userId, 1L)));
+
+        Long count = toLong(result, 0);
+        Long totalCount = toLong(result, 1);
 
         // WebSocket 알림
         notifyUnreadCount(roomId, userId, count);
-        notifyTotalUnreadCount(userId);
+        notifyTotalUnreadCount(userId, totalCount);
 
         log.info("Incremented unread count in Redis for user {} in room {} to {}", userId, roomId, count);
         return count;
     }
 
+    /**
+     * 배치 컨슈머용 미읽음 카운트 일괄 증가
+     * roomId -> (userId -> 증가량) 단위로 모인 값을 하나의 파이프라인에서 스크립트로 처리
+     */
+    public void incrementUnreadCountsInRedis(Map<Long, Map<Long, Long>> deltasByRoom) {
+        List<Long> roomIds = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        deltasByRoom.forEach((roomId, deltaByUser) -> deltaByUser.forEach((userId, delta) -> {
+            if (delta > 0) {
+                roomIds.add(roomId);
+                userIds.add(userId);
+                deltas.add(delta);
+            }
+        }));
+
+        if (roomIds.isEmpty()) {
+            return;
+        }
+
+        byte[] script = toBytes(INCREMENT_UNREAD_SCRIPT);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < roomIds.size(); i++) {
+                connection.scriptingCommands().eval(script, ReturnType.MULTI, 3,
+                        incrementScriptKeysAndArgs(roomIds.get(i), userIds.get(i), deltas.get(i)));
+            }
+            return null;
+        });
+
+        // WebSocket 알림 -> 채팅방별 카운트는 각각, 전체 카운트는 사용자당 마지막 값으로 한 번
+        Map<Long, Long> totalByUser = new LinkedHashMap<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            List<?> result = i < results.size() && results.get(i) instanceof List ? (List<?>) results.get(i) : null;
+            Long count = toLong(result, 0);
+            notifyUnreadCount(roomIds.get(i), userIds.get(i), count != null ? count : deltas.get(i));
+            totalByUser.put(userIds.get(i), toLong(result, 1));
+        }
+        totalByUser.forEach(this::notifyTotalUnreadCount);
+
+        log.info("Incremented unread counts in Redis for {} keys", roomIds.size());
+    }
+
     public void resetUnreadCount(Long roomId, Long userId) {
-        String unreadKey = redisKeyManager.getUnreadCountKey(roomId, userId);
-        redisTemplate.delete(unreadKey);
+        Long totalCount = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.scriptingCommands().eval(
+                        toBytes(RESET_UNREAD_SCRIPT), ReturnType.INTEGER, 3,
+                        toBytes(redisKeyManager.getUnreadCountKey(roomId, userId)),
+                        toBytes(redisKeyManager.getUserUnreadKey(userId)),
+                        toBytes(redisKeyManager.getUnreadDirtyRoomsKey()),
+                        toBytes(roomId)));
 
         notifyUnreadCount(roomId, userId, 0L);
-        notifyTotalUnreadCount(userId);
+        notifyTotalUnreadCount(userId, totalCount);
+    }
+
+    /**
+     * 종료/삭제된 채팅방을 사용자 집계에서 제거
+     * 재계산(findActiveChatRoomByUserId)과 같은 기준 유지
+     */
+    public void removeRoomFromUnreadAggregate(Long roomId, Long userId) {
+        Long totalCount = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.scriptingCommands().eval(
+                        toBytes(REMOVE_ROOM_SCRIPT), ReturnType.INTEGER, 1,
+                        toBytes(redisKeyManager.getUserUnreadKey(userId)),
+                        toBytes(roomId)));
+
+        notifyTotalUnreadCount(userId, totalCount);
     }
 
+    /**
+     * 사용자 전체 미읽음 수
+     * user:{id}:unread 해시의 total 필드를 그대로 사용 -> 채팅방 수와 무관하게 O(1)
+     * 집계가 없는 경우(최초/만료)에만 채팅방 목록으로 재계산
+     */
     public Long getTotalUnreadCount(Long userId) {
-        List<ChatRoom> userChatRooms = chatRoomRepository.findActiveChatRoomByUserId(userId);
-        if (userChatRooms.isEmpty()) {
-            return 0L;
+        byte[] total = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.hashCommands().hGet(toBytes(redisKeyManager.getUserUnreadKey(userId)), toBytes(TOTAL_UNREAD_FIELD)));
+
+        if (total != null) {
+            try {
+                return Long.parseLong(new String(total, StandardCharsets.UTF_8));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid total unread count for user {}, rebuilding", userId);
+            }
         }
+        return rebuildUserUnreadAggregate(userId);
+    }
+
+    private Long rebuildUserUnreadAggregate(Long userId) {
+        List<ChatRoom> userChatRooms = chatRoomRepository.findActiveChatRoomByUserId(userId);
+        Map<byte[], byte[]> aggregate = new HashMap<>();
 
         long totalCount = 0;
 
         for (ChatRoom chatRoom : userChatRooms) {
             String unreadKey = redisKeyManager.getUnreadCountKey(chatRoom.getId(), userId);
             Object redisUnreadCount = redisTemplate.opsForValue().get(unreadKey);
+            long roomCount = 0;
 
             if (redisUnreadCount != null) {
                 // reids에 해당 채팅방의 읽지 않은 값 존재
                 if (redisUnreadCount instanceof Long) {
-                    totalCount += (Long) redisUnreadCount;
+                    roomCount = (Long) redisUnreadCount;
                 } else if (redisUnreadCount instanceof Integer) {
-                    totalCount += ((Integer) redisUnreadCount).longValue();
+                    roomCount = ((Integer) redisUnreadCount).longValue();
                 } else if (redisUnreadCount instanceof String) {
                     try {
-                        totalCount += Long.parseLong((String) redisUnreadCount);
+                        roomCount = Long.parseLong((String) redisUnreadCount);
                     } catch (NumberFormatException e) {
                         log.error("Error parsing unread count from Redis: {}", e.getMessage());
                     }
@@ -131,11 +222,25 @@ public class ChatPresenceService {
             } else {
                 // redis에 값이 없는 경우 db에서 읽어 오기
                 Long dbUnreadCount = getUnreadCountFromDB(chatRoom, userId);
-                totalCount += dbUnreadCount;
+                roomCount = dbUnreadCount;
 
                 redisTemplate.opsForValue().set(unreadKey, dbUnreadCount);
             }
+
+            totalCount += roomCount;
+            aggregate.put(toBytes(chatRoom.getId()), toBytes(roomCount));
         }
+        aggregate.put(toBytes(TOTAL_UNREAD_FIELD), toBytes(totalCount));
+
+        // 집계 해시 재구성 -> 증분 갱신 중 어긋난 값은 TTL 만료 후 재계산으로 보정
+        byte[] aggregateKey = toBytes(redisKeyManager.getUserUnreadKey(userId));
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(aggregateKey);
+            connection.hashCommands().hMSet(aggregateKey, aggregate);
+            connection.keyCommands().expire(aggregateKey, TimeUnit.DAYS.toSeconds(1));
+            return null;
+        });
+
         return totalCount;
     }
 
@@ -150,7 +255,7 @@ public class ChatPresenceService {
         unreadData.put("roomId", roomId);
         unreadData.put("unreadCount", count);
 
-        messagingTemplate.convertAndSendToUser(
+        userDestinationRouter.convertAndSendToUser(
                 userId.toString(),
                 "/queue/unread",
                 unreadData
@@ -158,19 +263,43 @@ public class ChatPresenceService {
     }
 
     public void notifyTotalUnreadCount(Long userId) {
-        Long totalCount = getTotalUnreadCount(userId);
+        notifyTotalUnreadCount(userId, getTotalUnreadCount(userId));
+    }
 
-        String totalUnreadKey = redisKeyManager.getUserTotalUnreadCountKey(userId);
-        redisTemplate.opsForValue().set(totalUnreadKey, totalCount);
-        redisTemplate.expire(totalUnreadKey, 1, TimeUnit.DAYS);
+    // 스크립트 결과 total이 -1(집계 없음)이면 재계산
+    private void notifyTotalUnreadCount(Long userId, Long totalCount) {
+        if (totalCount == null || totalCount < 0) {
+            totalCount = getTotalUnreadCount(userId);
+        }
 
         Map<String, Object> totalUnreadData = new HashMap<>();
         totalUnreadData.put("totalUnreadCount", totalCount);
 
-        messagingTemplate.convertAndSendToUser(
+        userDestinationRouter.convertAndSendToUser(
                 userId.toString(),
                 "/queue/total-unread",
                 totalUnreadData
         );
     }
+
+    private byte[][] incrementScriptKeysAndArgs(Long roomId, Long userId, Long delta) {
+        return new byte[][]{
+                toBytes(redisKeyManager.getUnreadCountKey(roomId, userId)),
+                toBytes(redisKeyManager.getUserUnreadKey(userId)),
+                toBytes(redisKeyManager.getUnreadDirtyRoomsKey()),
+                toBytes(roomId),
+                toBytes(delta)
+        };
+    }
+
+    private static byte[] toBytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Long toLong(List<?> result, int index) {
+        if (result == null || result.size() <= index || !(result.get(index) instanceof Number)) {
+            return null;
+        }
+        return ((Number) result.get(index)).longValue();
+    }
 }
@@ -0,0 +1,90 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mindmate.mindmate_server.chat.dto.ChatRoomAccessSnapshot;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방 권한 스냅샷 로컬 캐시
+ * 메시지 전송 등 hot path의 참여자/상태 검증을 JPA 조회 없이 처리
+ * 상태/삭제 플래그 변경 시 Redis pub/sub으로 모든 노드에서 무효화, TTL은 유실 대비 안전장치
+ */
+@Component
+@Slf4j
+public class ChatRoomAccessCache implements MessageListener {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisKeyManager redisKeyManager;
+    private final Cache<Long, ChatRoomAccessSnapshot> cache;
+
+    public ChatRoomAccessCache(StringRedisTemplate stringRedisTemplate,
+                               RedisKeyManager redisKeyManager,
+                               @Value("${chat.acl.cache.ttl-seconds:30}") long ttlSeconds,
+                               @Value("${chat.acl.cache.maximum-size:10000}") long maximumSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisKeyManager = redisKeyManager;
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public ChatRoomAccessSnapshot get(Long roomId, Supplier<ChatRoomAccessSnapshot> loader) {
+        ChatRoomAccessSnapshot snapshot = cache.getIfPresent(roomId);
+        if (snapshot == null) {
+            snapshot = loader.get();
+            cache.put(roomId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 로컬 즉시 제거 + 커밋 이후 다시 제거하고 다른 노드에 전파
+     * (커밋 전 다른 요청이 이전 상태를 다시 적재하는 경우 대비)
+     */
+    public void invalidate(Long roomId) {
+        cache.invalidate(roomId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcastInvalidation(roomId);
+                }
+            });
+        } else {
+            broadcastInvalidation(roomId);
+        }
+    }
+
+    private void broadcastInvalidation(Long roomId) {
+        cache.invalidate(roomId);
+        try {
+            stringRedisTemplate.convertAndSend(redisKeyManager.getChatRoomAccessChannel(), roomId.toString());
+        } catch (Exception e) {
+            log.warn("Failed to publish chat room access invalidation for room {}: {}", roomId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidate(Long.parseLong(body.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid chat room access invalidation message: {}", body);
+        }
+    }
+}
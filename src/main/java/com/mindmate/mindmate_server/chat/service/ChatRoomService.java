@@ -1,15 +1,18 @@
 package com.mindmate.mindmate_server.chat.service;
 
+import com.mindmate.mindmate_server.chat.domain.ChatMessage;
 import com.mindmate.mindmate_server.chat.domain.ChatRoom;
 import com.mindmate.mindmate_server.chat.domain.ChatRoomStatus;
 import com.mindmate.mindmate_server.chat.dto.ChatMessageResponse;
 import com.mindmate.mindmate_server.chat.dto.ChatRoomDetailResponse;
 import com.mindmate.mindmate_server.chat.dto.ChatRoomResponse;
+import com.mindmate.mindmate_server.chat.dto.ChatRoomSliceResponse;
 import com.mindmate.mindmate_server.matching.domain.Matching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatRoomService {
@@ -18,9 +21,12 @@ public interface ChatRoomService {
     ChatRoom findChatRoomById(Long roomId);
     Page<ChatRoomResponse> getChatRoomsForUser(Long userId, PageRequest pageRequest);
     Page<ChatRoomResponse> getChatRoomsByUserRole(Long userId, PageRequest pageRequest, String role);
+    ChatRoomSliceResponse getChatRoomsByCursor(Long userId, String roleType, ChatRoomStatus status,
+                                               LocalDateTime cursorTime, Long cursorId, int size);
 
     ChatRoomDetailResponse getInitialMessages(Long userId, Long roomId, int size);
     List<ChatMessageResponse> getPreviousMessages(Long roomId, Long messageId, Long userId, int size);
+    List<ChatMessageResponse> getNextMessages(Long roomId, Long messageId, Long userId, int size);
 
     void closeChatRoom(Long userId, Long roomId);
 
@@ -36,9 +42,13 @@ public interface ChatRoomService {
 
     ChatRoom save(ChatRoom chatRoom);
 
+    void updateLastMessage(ChatRoom chatRoom, ChatMessage message);
+
     ChatRoom createChatRoom(Matching matching);
 
     void deleteChatRoomForUser(Long userId, Long roomId);
 
     void deleteChatRoom(ChatRoom chatRoom);
+
+    void invalidateAccessSnapshot(Long roomId);
 }
@@ -6,6 +6,7 @@ import com.mindmate.mindmate_server.chat.domain.ChatRoomCloseType;
 import com.mindmate.mindmate_server.chat.domain.ChatRoomStatus;
 import com.mindmate.mindmate_server.chat.dto.*;
 import com.mindmate.mindmate_server.chat.repository.ChatRoomRepository;
+import com.mindmate.mindmate_server.chat.util.ChatAccessContext;
 import com.mindmate.mindmate_server.global.exception.ChatErrorCode;
 import com.mindmate.mindmate_server.global.exception.CustomException;
 import com.mindmate.mindmate_server.global.service.ResilientEventPublisher;
@@ -16,6 +17,7 @@ import com.mindmate.mindmate_server.notification.service.NotificationService;
 import com.mindmate.mindmate_server.review.repository.ReviewRepository;
 import com.mindmate.mindmate_server.user.domain.User;
 import com.mindmate.mindmate_server.user.service.UserService;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -45,11 +48,14 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     private final RedisMatchingService redisMatchingService;
 
     private final ResilientEventPublisher eventPublisher;
+    private final ChatRoomAccessCache chatRoomAccessCache;
+    private final ChatPresenceService chatPresenceService;
 
     @Override
     public ChatRoom findChatRoomById(Long roomId) {
-        return chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new CustomException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+        // 요청(트랜잭션) 내 재사용 -> 검증 메서드가 다시 호출해도 추가 조회 없음
+        return ChatAccessContext.getChatRoom(roomId, id -> chatRoomRepository.findByIdWithParticipants(id)
+                .orElseThrow(() -> new CustomException(ChatErrorCode.CHAT_ROOM_NOT_FOUND)));
     }
 
     @Override
@@ -62,6 +68,12 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         return chatRoomRepository.findAllByUserIdAndRole(userId, role, pageRequest);
     }
 
+    @Override
+    public ChatRoomSliceResponse getChatRoomsByCursor(Long userId, String roleType, ChatRoomStatus status,
+                                                      LocalDateTime cursorTime, Long cursorId, int size) {
+        return chatRoomRepository.findSliceByUserId(userId, roleType, status, cursorTime, cursorId, size);
+    }
+
     @Override
     public ChatRoomDetailResponse getInitialMessages(Long userId, Long roomId, int size) {
         ChatRoom chatRoom = findChatRoomById(roomId);
@@ -77,7 +89,8 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 ? chatRoom.getListenerLastReadMessageId()
                 : chatRoom.getSpeakerLastReadMessageId();
 
-        List<ChatMessage> messages = fetchMessages(roomId, lastReadMessageId, size);
+        MessageWindow window = fetchMessages(roomId, lastReadMessageId, size);
+        List<ChatMessage> messages = window.getMessages();
 
         if (!messages.isEmpty()) {
             Long lastMessageId = messages.get(messages.size() - 1).getId();
@@ -87,7 +100,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
         boolean isWriteReview = reviewRepository.existsByChatRoomAndReviewer(chatRoom, user);
 
-        return ChatRoomDetailResponse.from(chatRoom, messages, user, isWriteReview);
+        return ChatRoomDetailResponse.from(chatRoom, messages, user, isWriteReview, window.isHasNext());
     }
 
     @Override
@@ -100,6 +113,16 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ChatMessageResponse> getNextMessages(Long roomId, Long messageId, Long userId, int size) {
+        validateChatRead(userId, roomId);
+        List<ChatMessage> messages = chatMessageService.findNextMessages(roomId, messageId, size);
+
+        return messages.stream()
+                .map(message -> ChatMessageResponse.from(message, userId))
+                .collect(Collectors.toList());
+    }
+
 
     @Override
     @Transactional
@@ -110,6 +133,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         ChatRoom chatRoom = findChatRoomById(roomId);
         chatRoom.requestClosure(user);
         save(chatRoom);
+        chatRoomAccessCache.invalidate(roomId);
 
         User recipient = chatRoom.isListener(user) ? chatRoom.getSpeaker() : chatRoom.getListener();
         ChatRoomNotificationEvent event = ChatRoomNotificationEvent.builder()
@@ -123,30 +147,26 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
     @Override
     public void validateChatActivity(Long userId, Long roomId) {
-        User user = userService.findUserById(userId);
-        ChatRoom chatRoom = findChatRoomById(roomId);
+        ChatRoomAccessSnapshot snapshot = getAccessSnapshot(roomId);
 
-        if (chatRoom.getChatRoomStatus() != ChatRoomStatus.ACTIVE) {
+        if (snapshot.getStatus() != ChatRoomStatus.ACTIVE) {
             throw new CustomException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
 
-        if (!chatRoom.isListener(user) && !chatRoom.isSpeaker(user)) {
+        if (!snapshot.isParticipant(userId)) {
             throw new CustomException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
     }
 
     @Override
     public void validateChatRead(Long userId, Long roomId) {
-        User user = userService.findUserById(userId);
-        ChatRoom chatRoom = findChatRoomById(roomId);
+        ChatRoomAccessSnapshot snapshot = getAccessSnapshot(roomId);
 
-        if (!chatRoom.isListener(user) && !chatRoom.isSpeaker(user)) {
+        if (!snapshot.isParticipant(userId)) {
             throw new CustomException(ChatErrorCode.CHAT_ROOM_ACCESS_DENIED);
         }
 
-        boolean isListener = chatRoom.isListener(user);
-        if ((isListener && chatRoom.isDeletedByListener()) ||
-                (!isListener && chatRoom.isDeletedBySpeaker())) {
+        if (snapshot.isDeletedFor(userId)) {
             throw new CustomException(ChatErrorCode.CHAT_ROOM_NOT_FOUND);
         }
     }
@@ -172,6 +192,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
         chatRoom.rejectClosure();
         save(chatRoom);
+        chatRoomAccessCache.invalidate(roomId);
 
         User requester = chatRoom.isClosureRequester(chatRoom.getListener()) ? chatRoom.getListener() : chatRoom.getSpeaker();
 
@@ -200,6 +221,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         User speaker = chatRoom.getSpeaker();
         User listener = chatRoom.getListener();
         save(chatRoom);
+        chatRoomAccessCache.invalidate(roomId);
 
         ChatRoomCloseEvent event = ChatRoomCloseEvent.builder()
                 .chatRoomId(chatRoom.getId())
@@ -216,6 +238,10 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
                 redisMatchingService.decrementUserActiveMatchingCount(speaker.getId());
                 redisMatchingService.decrementUserActiveMatchingCount(listener.getId());
+
+                // 종료된 채팅방은 전체 미읽음 집계에서 제외
+                chatPresenceService.removeRoomFromUnreadAggregate(roomId, speaker.getId());
+                chatPresenceService.removeRoomFromUnreadAggregate(roomId, listener.getId());
             }
         });
     }
@@ -226,25 +252,38 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         return chatRoomRepository.save(chatRoom);
     }
 
+    /**
+     * 채팅방 스냅샷은 더티 체킹, 참여자 정렬 키는 room_id 기준 일괄 UPDATE
+     * -> 전송마다 participants 지연 로딩 + 참여자 행 더티 체킹 없음
+     */
+    @Override
+    @Transactional
+    public void updateLastMessage(ChatRoom chatRoom, ChatMessage message) {
+        chatRoom.updateLastMessage(message);
+        chatRoomRepository.updateParticipantsLastMessageTime(chatRoom.getId(), chatRoom.getLastMessageTime());
+    }
+
     @Override
     public ChatRoom createChatRoom(Matching matching) {
         ChatRoom chatRoom = ChatRoom.builder()
                 .matching(matching)
                 .build();
+        chatRoom.addParticipant(matching.getCreator(), matching.getCreatorRole());
 
         return chatRoomRepository.save(chatRoom);
     }
 
-    private List<ChatMessage> fetchMessages(Long roomId, Long lastReadMessageId, int size) {
-        long totalMessages = chatMessageService.countMessagesByChatRoomId(roomId);
-
-        if (totalMessages == 0) {
-            return new ArrayList<>();
+    private MessageWindow fetchMessages(Long roomId, Long lastReadMessageId, int size) {
+        // COUNT(*) 대신 존재 여부만 확인
+        if (!chatMessageService.existsByChatRoomId(roomId)) {
+            return new MessageWindow(new ArrayList<>(), false);
         }
 
         if (lastReadMessageId == 0) {
-            // 첫 접속: 가장 오래된 메시지부터 표시
-            return chatMessageService.findAllByChatRoomIdOrderByIdAsc(roomId);
+            // 첫 접속: 가장 오래된 메시지부터 size개만 표시, 이후는 nextCursorId로 이어서 조회
+            List<ChatMessage> firstMessages = chatMessageService.findFirstMessages(roomId, size + 1);
+            boolean hasNext = firstMessages.size() > size;
+            return new MessageWindow(hasNext ? new ArrayList<>(firstMessages.subList(0, size)) : firstMessages, hasNext);
         } else {
             // 재접속: 안읽은 메시지 처리
             Optional<ChatMessage> latestMessageOpt = chatMessageService.findLatestMessageByChatRoomId(roomId);
@@ -253,18 +292,19 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 List<ChatMessage> previousMessages = new ArrayList<>(
                         chatMessageService.findMessagesBeforeId(roomId, lastReadMessageId, 10)
                 );
-                List<ChatMessage> newMessages = chatMessageService
-                        .findMessagesAfterOrEqualId(roomId, lastReadMessageId);
+                // 안읽은 메시지도 size개만 표시, 이후는 nextCursorId로 이어서 조회
+                List<ChatMessage> newMessages = chatMessageService.findNextMessages(roomId, lastReadMessageId, size + 1);
+                boolean hasNext = newMessages.size() > size;
 
                 Collections.reverse(previousMessages);
 
                 List<ChatMessage> messages = new ArrayList<>();
                 messages.addAll(previousMessages);
-                messages.addAll(newMessages);
-                return messages;
+                messages.addAll(hasNext ? newMessages.subList(0, size) : newMessages);
+                return new MessageWindow(messages, hasNext);
             } else {
                 // 안읽은 메시지 없음: 최신 메시지 표시
-                return chatMessageService.findRecentMessages(roomId, size);
+                return new MessageWindow(chatMessageService.findRecentMessages(roomId, size), false);
             }
         }
     }
@@ -294,11 +334,34 @@ public class ChatRoomServiceImpl implements ChatRoomService {
             chatRoom.updateChatRoomStatus(ChatRoomStatus.DELETED);
         }
         save(chatRoom);
+        chatRoomAccessCache.invalidate(roomId);
+        // 종료 시 이미 제외되지만 집계가 그 이후 재구성된 경우 대비 (멱등)
+        chatPresenceService.removeRoomFromUnreadAggregate(roomId, userId);
     }
 
     @Override
     @Transactional
     public void deleteChatRoom(ChatRoom chatRoom){
         chatRoomRepository.delete(chatRoom);
+        chatRoomAccessCache.invalidate(chatRoom.getId());
+    }
+
+    @Override
+    public void invalidateAccessSnapshot(Long roomId) {
+        chatRoomAccessCache.invalidate(roomId);
+    }
+
+    /**
+     * 권한 검증용 스냅샷 -> 로컬 캐시 hit 시 DB 조회 없음
+     */
+    private ChatRoomAccessSnapshot getAccessSnapshot(Long roomId) {
+        return chatRoomAccessCache.get(roomId, () -> ChatRoomAccessSnapshot.from(findChatRoomById(roomId)));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class MessageWindow {
+        private final List<ChatMessage> messages;
+        private final boolean hasNext;
     }
 }
\ No newline at end of file
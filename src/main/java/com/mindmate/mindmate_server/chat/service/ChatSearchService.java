@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 public class ChatSearchService {
     private final ChatMessageService chatMessageService;
     private final ChatRoomService chatRoomService;
+    private final ChatSearchSessionCache chatSearchSessionCache;
 
     public ChatSearchResponse searchMessages(
             Long userId, Long roomId, String keyword,
@@ -25,6 +26,7 @@ public class ChatSearchService {
         chatRoomService.validateChatActivity(userId, roomId);
 
         List<Long> matchedMessageIds = chatMessageService.findMessageIdsByKeyword(roomId, keyword);
+        chatSearchSessionCache.put(userId, roomId, keyword, matchedMessageIds);
 
         Long firstVisibleMatchId = null;
         if (oldestLoadedMessageId != null && newestLoadedMessageId != null) {
@@ -58,16 +60,49 @@ public class ChatSearchService {
                     .collect(Collectors.toList());
         }
 
-        List<Long> matchedIds = chatMessageService.findMessageIdsByKeyword(roomId, keyword);
-        int currentIdx = matchedIds.indexOf(targetMessageId);
+        // 검색 세션의 결과 배열 재사용 -> 클릭마다 키워드 조회 x
+        long[] matchedIds = chatSearchSessionCache.getIfPresent(userId, roomId, keyword);
+        int currentIdx = matchedIds != null ? indexOfMatch(matchedIds, targetMessageId) : -1;
+        if (currentIdx < 0) {
+            // 세션이 없거나 세션 이후 새로 매칭된 메시지 -> 한 번만 다시 조회해서 세션 갱신
+            matchedIds = chatSearchSessionCache.put(userId, roomId, keyword,
+                    chatMessageService.findMessageIdsByKeyword(roomId, keyword));
+            currentIdx = indexOfMatch(matchedIds, targetMessageId);
+        }
 
         return SearchNavigationResponse.builder()
                 .targetMessageId(targetMessageId)
                 .additionalMessages(additionalMessages)
                 .hasMoreResults(currentIdx > 0)
                 .currentMatchIndex(currentIdx)
-                .totalMatches(matchedIds.size())
+                .totalMatches(matchedIds.length)
+                .previousMatchId(currentIdx > 0 ? matchedIds[currentIdx - 1] : null)
+                .nextMatchId(currentIdx >= 0 && currentIdx + 1 < matchedIds.length ? matchedIds[currentIdx + 1] : null)
                 .build();
     }
 
+    /**
+     * 정렬된 결과 배열(최신순/오래된순 모두 가능)에서 이진 탐색, 없으면 -1
+     */
+    private int indexOfMatch(long[] matchedIds, long targetMessageId) {
+        boolean descending = matchedIds.length > 1 && matchedIds[0] > matchedIds[matchedIds.length - 1];
+        int low = 0;
+        int high = matchedIds.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = matchedIds[mid];
+
+            if (midId == targetMessageId) {
+                return mid;
+            }
+            if ((midId < targetMessageId) != descending) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
 }
@@ -0,0 +1,48 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 세션 로컬 캐시: (user, room, keyword) -> 검색 결과 메시지 ID 배열
+ * 검색 시 한 번 적재하고, 결과 탐색(다음/이전)은 캐시된 배열에서 이진 탐색
+ * 새 메시지 반영: 재검색, 탐색 대상이 배열에 없을 때의 재조회, 또는 적재 후 TTL 만료
+ * (탐색으로 수명이 늘어나지 않도록 적재 시점 기준 만료)
+ */
+@Component
+public class ChatSearchSessionCache {
+    private final Cache<String, long[]> cache;
+
+    public ChatSearchSessionCache(@Value("${chat.search.session.ttl-seconds:300}") long ttlSeconds,
+                                  @Value("${chat.search.session.maximum-size:10000}") long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 새 검색 -> 세션 갱신
+     */
+    public long[] put(Long userId, Long roomId, String keyword, List<Long> matchedIds) {
+        long[] ids = matchedIds.stream().mapToLong(Long::longValue).toArray();
+        cache.put(key(userId, roomId, keyword), ids);
+        return ids;
+    }
+
+    /**
+     * 결과 탐색 -> 세션이 없거나 만료되면 null
+     */
+    public long[] getIfPresent(Long userId, Long roomId, String keyword) {
+        return cache.getIfPresent(key(userId, roomId, keyword));
+    }
+
+    private String key(Long userId, Long roomId, String keyword) {
+        return userId + ":" + roomId + ":" + keyword.trim();
+    }
+}
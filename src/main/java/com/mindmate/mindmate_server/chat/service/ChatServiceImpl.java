@@ -2,15 +2,15 @@ package com.mindmate.mindmate_server.chat.service;
 
 import com.mindmate.mindmate_server.chat.domain.ChatMessage;
 import com.mindmate.mindmate_server.chat.domain.ChatRoom;
-import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
-import com.mindmate.mindmate_server.chat.dto.ChatMessageRequest;
-import com.mindmate.mindmate_server.chat.dto.ChatMessageResponse;
+import com.mindmate.mindmate_server.chat.domain.ToastBoxKeyword;
+import com.mindmate.mindmate_server.chat.dto.*;
 import com.mindmate.mindmate_server.global.service.ResilientEventPublisher;
 import com.mindmate.mindmate_server.global.util.RedisKeyManager;
 import com.mindmate.mindmate_server.user.domain.User;
 import com.mindmate.mindmate_server.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,7 +18,9 @@ import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -28,12 +30,18 @@ public class ChatServiceImpl implements ChatService {
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisKeyManager redisKeyManager;
     private final ResilientEventPublisher eventPublisher;
+    private final ChatEventPublisher chatEventPublisher;
 
     private final ChatRoomService chatRoomService;
     private final UserService userService;
     private final ChatPresenceService chatPresenceService;
     private final ContentFilterService contentFilterService;
     private final ChatMessageService chatMessageService;
+
+    // true: 전송 시점 스캔 결과로 토스트 박스를 직접 발행 (toast-box-group 컨슈머 비활성화)
+    @Value("${chat.toast-box.inline-publish:false}")
+    private boolean toastBoxInlinePublish;
+
     /**
      * 필터링 + 메시지 저장 동기적 처리 이후 비동기 처리
      */
@@ -46,13 +54,14 @@ public class ChatServiceImpl implements ChatService {
 
             chatRoomService.validateChatActivity(userId, request.getRoomId());
 
-            boolean isFiltered = contentFilterService.isFiltered(request.getContent());
+            // 필터링 단어 + 토스트 박스 키워드 1회 스캔
+            KeywordScanResult scanResult = contentFilterService.scan(request.getContent());
 
-            if (isFiltered) {
+            if (scanResult.isFiltered()) {
                 return handleFilteredMessage(chatRoom, sender, request);
             }
 
-            return handleNormalMessage(chatRoom, sender, request);
+            return handleNormalMessage(chatRoom, sender, request, scanResult.getToastBoxKeywords());
         } catch (Exception e) {
             log.error("메시지 전송 중 오류 발생", e);
 
@@ -91,9 +100,22 @@ public class ChatServiceImpl implements ChatService {
 
     @Override
     public void publishMessageEvent(ChatMessage savedMessage, Long recipientId, boolean recipientActive, String plainContent) {
+        publishMessageEvent(savedMessage, recipientId, recipientActive, plainContent, null);
+    }
+
+    /**
+     * toastBoxKeywords 가 null 이면 토스트 박스 컨슈머가 직접 스캔
+     */
+    private void publishMessageEvent(ChatMessage savedMessage, Long recipientId, boolean recipientActive,
+                                     String plainContent, List<ToastBoxKeyword> toastBoxKeywords) {
+        Long roomId = savedMessage.getChatRoom().getId();
+        List<ToastBoxEvent> toastBoxes = toastBoxKeywords == null ? null : toastBoxKeywords.stream()
+                .map(keyword -> ToastBoxEvent.from(roomId, savedMessage.getId(), keyword))
+                .collect(Collectors.toList());
+
         ChatMessageEvent event = ChatMessageEvent.builder()
                 .messageId(savedMessage.getId())
-                .roomId(savedMessage.getChatRoom().getId())
+                .roomId(roomId)
                 .senderId(savedMessage.getSender().getId())
                 .content(savedMessage.getContent())
                 .type(savedMessage.getType())
@@ -101,8 +123,9 @@ public class ChatServiceImpl implements ChatService {
                 .recipientId(recipientId)
                 .recipientActive(recipientActive)
                 .filtered(false)
-                .encrypted(false)
+                .encrypted(savedMessage.isEncrypted())
                 .plainContent(plainContent)
+                .toastBoxes(toastBoxes)
                 .build();
 
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
@@ -110,11 +133,23 @@ public class ChatServiceImpl implements ChatService {
                 @Override
                 public void afterCommit() {
                     eventPublisher.publishEvent("chat-message-topic", event.getRoomId().toString(), event);
+                    publishToastBoxes(event);
                 }
             });
         } else {
             // 트랜잭션이 활성화되지 않은 경우(테스트 등) 직접 전송
             eventPublisher.publishEvent("chat-message-topic", event.getRoomId().toString(), event);
+            publishToastBoxes(event);
+        }
+    }
+
+    private void publishToastBoxes(ChatMessageEvent event) {
+        if (!toastBoxInlinePublish || event.getToastBoxes() == null) {
+            return;
+        }
+
+        for (ToastBoxEvent toastBox : event.getToastBoxes()) {
+            chatEventPublisher.publishChatRoomEvent(event.getRoomId(), ChatEventType.TOAST_BOX, toastBox);
         }
     }
 
@@ -143,7 +178,8 @@ public class ChatServiceImpl implements ChatService {
         );
     }
 
-    private ChatMessageResponse handleNormalMessage(ChatRoom chatRoom, User sender, ChatMessageRequest request) {
+    private ChatMessageResponse handleNormalMessage(ChatRoom chatRoom, User sender, ChatMessageRequest request,
+                                                    List<ToastBoxKeyword> toastBoxKeywords) {
         // 필터링 통과 시 저장 후 비동기 처리 시작
         ChatMessage chatMessage = ChatMessage.builder()
                 .chatRoom(chatRoom)
@@ -153,12 +189,12 @@ public class ChatServiceImpl implements ChatService {
                 .build();
 
         ChatMessage savedMessage = chatMessageService.save(chatMessage);
-        chatRoom.updateLastMessageTime();
+        chatRoomService.updateLastMessage(chatRoom, savedMessage);
 
         User recipient = chatRoom.isListener(sender) ? chatRoom.getSpeaker() : chatRoom.getListener();
         boolean isRecipientActive = chatPresenceService.isUserActiveInRoom(recipient.getId(), chatRoom.getId());
 
-        publishMessageEvent(savedMessage, recipient.getId(), isRecipientActive, request.getContent());
+        publishMessageEvent(savedMessage, recipient.getId(), isRecipientActive, request.getContent(), toastBoxKeywords);
 
         return ChatMessageResponse.from(savedMessage, sender.getId());
     }
@@ -0,0 +1,289 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 평면 int 배열 기반 Aho-Corasick 오토마타
+ * - 문자 -> 심볼 재매핑(사전에 등장한 문자만 1..N, 나머지는 0 -> 즉시 루트로 복귀)
+ * - 전이는 상태별 정렬된 심볼 구간(CSR)에서 이진 탐색, 루트 전이는 심볼 인덱스 배열로 직접 조회
+ * - 출력은 패턴 id + 출력 링크(실패 경로상 가장 가까운 출력 상태)로 표현 -> 상태별 문자열 리스트 x
+ * 검색 결과/순서는 AhoCorasickMatcher와 동일
+ */
+public class CompiledAhoCorasickMatcher<T> implements KeywordMatcher<T> {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // 새 오토마톤은 완전히 구축된 뒤 참조만 교체 -> 검색 스레드는 잠금 없이 항상 완성된 스냅샷을 읽음
+    private volatile Automaton<T> automaton;
+
+    @Override
+    public void initialize(List<T> items, Function<T, String> patternExtractor, Function<T, Boolean> activeChecker) {
+        this.automaton = compile(items, patternExtractor, activeChecker);
+    }
+
+    @Override
+    public List<T> searchItems(String text) {
+        Automaton<T> current = requireAutomaton();
+        List<T> results = new ArrayList<>();
+        current.scan(text, patternId -> {
+            results.add(current.items.get(patternId));
+            return true;
+        });
+        return results;
+    }
+
+    @Override
+    public List<String> search(String text) {
+        Automaton<T> current = requireAutomaton();
+        List<String> results = new ArrayList<>();
+        current.scan(text, patternId -> {
+            results.add(current.patterns[patternId]);
+            return true;
+        });
+        return results;
+    }
+
+    @Override
+    public Optional<T> findFirstMatchItem(String text) {
+        Automaton<T> current = requireAutomaton();
+        int patternId = current.firstMatch(text);
+        return patternId == NONE ? Optional.empty() : Optional.of(current.items.get(patternId));
+    }
+
+    @Override
+    public Optional<String> findFirstMatch(String text) {
+        Automaton<T> current = requireAutomaton();
+        int patternId = current.firstMatch(text);
+        return patternId == NONE ? Optional.empty() : Optional.of(current.patterns[patternId]);
+    }
+
+    @Override
+    public boolean containsMatch(String text) {
+        return requireAutomaton().firstMatch(text) != NONE;
+    }
+
+    private Automaton<T> requireAutomaton() {
+        Automaton<T> current = automaton;
+        if (current == null) {
+            throw new IllegalStateException("Aho-Corasick matcher is not initialized");
+        }
+        return current;
+    }
+
+    static <T> Automaton<T> compile(List<T> items, Function<T, String> patternExtractor, Function<T, Boolean> activeChecker) {
+        // 1. 활성 패턴 수집 (중복 패턴은 마지막 항목 우선)
+        Map<String, Integer> patternIds = new HashMap<>();
+        List<String> patterns = new ArrayList<>();
+        List<T> patternItems = new ArrayList<>();
+
+        for (T item : items) {
+            if (!activeChecker.apply(item)) continue;
+
+            String pattern = patternExtractor.apply(item);
+            if (pattern == null || pattern.isEmpty()) continue;
+
+            Integer id = patternIds.get(pattern);
+            if (id == null) {
+                patternIds.put(pattern, patterns.size());
+                patterns.add(pattern);
+                patternItems.add(item);
+            } else {
+                patternItems.set(id, item);
+            }
+        }
+
+        // 2. 문자 -> 심볼 재매핑
+        int[] symbolOf = new int[Character.MAX_VALUE + 1];
+        int symbolCount = 0;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (symbolOf[c] == 0) {
+                    symbolOf[c] = ++symbolCount;
+                }
+            }
+        }
+
+        // 3. 트라이 구축 (빌드 시에만 Map 사용)
+        List<Map<Integer, Integer>> children = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        children.add(new HashMap<>());
+        outputs.add(NONE);
+
+        for (int patternId = 0; patternId < patterns.size(); patternId++) {
+            String pattern = patterns.get(patternId);
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                int symbol = symbolOf[pattern.charAt(i)];
+                Integer next = children.get(state).get(symbol);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    outputs.add(NONE);
+                    children.get(state).put(symbol, next);
+                }
+                state = next;
+            }
+            outputs.set(state, patternId);
+        }
+
+        // 4. 평면 배열로 변환 (상태별 심볼 오름차순 CSR)
+        int stateCount = children.size();
+        int[] edgeStart = new int[stateCount + 1];
+        int[] edgeSymbol = new int[stateCount - 1];
+        int[] edgeTarget = new int[stateCount - 1];
+        int[] output = new int[stateCount];
+        int[] rootNext = new int[symbolCount + 1];
+
+        int edge = 0;
+        for (int state = 0; state < stateCount; state++) {
+            edgeStart[state] = edge;
+            output[state] = outputs.get(state);
+
+            List<Integer> symbols = new ArrayList<>(children.get(state).keySet());
+            Collections.sort(symbols);
+            for (int symbol : symbols) {
+                edgeSymbol[edge] = symbol;
+                edgeTarget[edge] = children.get(state).get(symbol);
+                if (state == ROOT) {
+                    rootNext[symbol] = edgeTarget[edge];
+                }
+                edge++;
+            }
+        }
+        edgeStart[stateCount] = edge;
+
+        Automaton<T> automaton = new Automaton<>(symbolOf, rootNext, edgeStart, edgeSymbol, edgeTarget,
+                new int[stateCount], output, new int[stateCount],
+                patterns.toArray(new String[0]), patternItems);
+
+        // 5. 실패 링크 / 출력 링크 -> BFS
+        Arrays.fill(automaton.outputLink, NONE);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            automaton.failure[edgeTarget[e]] = ROOT;
+            queue.add(edgeTarget[e]);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTarget[e];
+                int failure = automaton.transition(automaton.failure[state], edgeSymbol[e]);
+
+                automaton.failure[child] = failure;
+                automaton.outputLink[child] = output[failure] != NONE ? failure : automaton.outputLink[failure];
+                queue.add(child);
+            }
+        }
+
+        return automaton;
+    }
+
+    interface PatternVisitor {
+        // false 반환 시 탐색 중단
+        boolean visit(int patternId);
+    }
+
+    static final class Automaton<T> {
+        private final int[] symbolOf;
+        private final int[] rootNext;
+        private final int[] edgeStart;
+        private final int[] edgeSymbol;
+        private final int[] edgeTarget;
+        private final int[] failure;
+        private final int[] output;
+        private final int[] outputLink;
+        private final String[] patterns;
+        private final List<T> items;
+
+        private Automaton(int[] symbolOf, int[] rootNext, int[] edgeStart, int[] edgeSymbol, int[] edgeTarget,
+                          int[] failure, int[] output, int[] outputLink, String[] patterns, List<T> items) {
+            this.symbolOf = symbolOf;
+            this.rootNext = rootNext;
+            this.edgeStart = edgeStart;
+            this.edgeSymbol = edgeSymbol;
+            this.edgeTarget = edgeTarget;
+            this.failure = failure;
+            this.output = output;
+            this.outputLink = outputLink;
+            this.patterns = patterns;
+            this.items = items;
+        }
+
+        /**
+         * 텍스트 전체를 스캔하며 위치 순서대로 매칭된 패턴 id 방문 (긴 패턴 우선)
+         */
+        void scan(String text, PatternVisitor visitor) {
+            int state = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+                state = next(state, text.charAt(i));
+
+                int matched = output[state] != NONE ? state : outputLink[state];
+                while (matched != NONE) {
+                    if (!visitor.visit(output[matched])) {
+                        return;
+                    }
+                    matched = outputLink[matched];
+                }
+            }
+        }
+
+        /**
+         * 가장 먼저 끝나는 매칭의 패턴 id, 없으면 -1
+         */
+        int firstMatch(String text) {
+            int state = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+                state = next(state, text.charAt(i));
+
+                if (output[state] != NONE) {
+                    return output[state];
+                }
+                if (outputLink[state] != NONE) {
+                    return output[outputLink[state]];
+                }
+            }
+            return NONE;
+        }
+
+        private int next(int state, char c) {
+            int symbol = symbolOf[c];
+            if (symbol == 0) {
+                // 사전에 없는 문자 -> 어떤 패턴도 이어질 수 없으므로 루트
+                return ROOT;
+            }
+            return transition(state, symbol);
+        }
+
+        private int transition(int state, int symbol) {
+            while (state != ROOT) {
+                int target = findEdge(state, symbol);
+                if (target != NONE) {
+                    return target;
+                }
+                state = failure[state];
+            }
+            return rootNext[symbol];
+        }
+
+        private int findEdge(int state, int symbol) {
+            int low = edgeStart[state];
+            int high = edgeStart[state + 1] - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midSymbol = edgeSymbol[mid];
+                if (midSymbol == symbol) {
+                    return edgeTarget[mid];
+                }
+                if (midSymbol < symbol) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return NONE;
+        }
+    }
+}
@@ -1,36 +1,134 @@
 package com.mindmate.mindmate_server.chat.service;
 
 import com.mindmate.mindmate_server.chat.domain.FilteringWord;
+import com.mindmate.mindmate_server.chat.dto.KeywordScanResult;
 import com.mindmate.mindmate_server.chat.repository.FilteringWordRepository;
 import com.mindmate.mindmate_server.chat.util.FilteringWordAdapter;
+import com.mindmate.mindmate_server.chat.util.MessageKeywordScanner;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 필터링 단어 사전 관리
+ * - 매처는 불변 스냅샷을 참조 교체 방식으로 갱신 -> 전송 경로의 isFiltered 는 재구축 중에도 대기하지 않음
+ * - 단어 변경 시 Redis pub/sub 으로 모든 노드에 갱신 요청 전파, 각 노드는 전용 스레드에서 재구축
+ * - 기동/스케줄/전파 등 모든 재구축은 같은 단일 스레드에서 순서대로 실행 -> 늦게 끝난 이전 조회가 새 스냅샷을 덮어쓰지 않음
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class ContentFilterService {
+public class ContentFilterService implements MessageListener {
     private final FilteringWordRepository filteringWordRepository;
     private final FilteringWordAdapter filteringWordAdapter;
+    private final MessageKeywordScanner messageKeywordScanner;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisKeyManager redisKeyManager;
 
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "filtering-word-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 대기 중인 재구축이 있으면 추가 요청은 합쳐짐
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
+
+    /**
+     * 첫 사전은 요청을 받기 전에 준비 -> 재구축 스레드에서 실행하고 완료까지 대기
+     */
     @PostConstruct
     public void initialize() {
-        refreshFilteringWords();
+        try {
+            rebuildExecutor.submit(this::rebuildFilteringWords).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("필터링 단어 목록 초기화가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("필터링 단어 목록 초기화에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @Scheduled(fixedRate = 86400000) // 24시간마다 갱신 (전파 유실 대비)
+    public void scheduledRefresh() {
+        requestRefresh();
+    }
+
+    /**
+     * 로컬 사전 비동기 재구축
+     * 재구축 시작 시점에 대기 플래그를 해제 -> 재구축 도중 들어온 변경은 다음 재구축에 반영됨
+     */
+    public void requestRefresh() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            rebuildExecutor.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuildFilteringWords();
+                } catch (Exception e) {
+                    log.error("필터링 단어 목록 재구축 실패", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuildPending.set(false);
+            log.warn("필터링 단어 재구축 요청 거부: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 이후 모든 노드(자기 자신 포함)에 갱신 전파
+     * 전파 실패 시 최소한 로컬 사전은 갱신
+     */
+    public void publishRefresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcastRefresh();
+                }
+            });
+        } else {
+            broadcastRefresh();
+        }
     }
 
-    @Scheduled(fixedRate = 86400000) // 24시간마다 갱신
-    public void refreshFilteringWords() {
+    private void broadcastRefresh() {
+        try {
+            stringRedisTemplate.convertAndSend(redisKeyManager.getFilteringWordChannel(), "refresh");
+        } catch (Exception e) {
+            log.warn("Failed to publish filtering word refresh: {}", e.getMessage());
+            requestRefresh();
+        }
+    }
+
+    private void rebuildFilteringWords() {
         List<FilteringWord> activeWords = filteringWordRepository.findByActiveTrue();
         filteringWordAdapter.initialize(activeWords);
         log.info("필터링 단어 목록 갱신 완료: {} 개", activeWords.size());
     }
 
-
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        requestRefresh();
+    }
 
     public boolean isFiltered(String content) {
         if (content == null || content.trim().isEmpty()) {
@@ -39,4 +137,20 @@ public class ContentFilterService {
 
         return filteringWordAdapter.isFiltered(content);
     }
+
+    /**
+     * 전송 경로용 통합 스캔 -> 필터링 여부와 토스트 박스 키워드를 한 번에 확인
+     */
+    public KeywordScanResult scan(String content) {
+        if (content == null || content.trim().isEmpty()) {
+            return KeywordScanResult.empty();
+        }
+
+        return messageKeywordScanner.scan(content);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
 }
@@ -58,7 +58,7 @@ public class CustomFormServiceImpl implements CustomFormService {
 
         chatMessage.setCustomForm(savedForm);
         ChatMessage savedMessage = chatMessageService.save(chatMessage);
-        chatRoom.updateLastMessageTime();
+        chatRoomService.updateLastMessage(chatRoom, savedMessage);
 
         User recipient = chatRoom.isListener(user) ? chatRoom.getSpeaker() : chatRoom.getListener();
         boolean isRecipientActive = chatPresenceService.isUserActiveInRoom(recipient.getId(), chatRoom.getId());
@@ -107,7 +107,7 @@ public class CustomFormServiceImpl implements CustomFormService {
 
         responseMessage.setCustomForm(updatedForm);
         ChatMessage savedMessage = chatMessageService.save(responseMessage);
-        customForm.getChatRoom().updateLastMessageTime();
+        chatRoomService.updateLastMessage(customForm.getChatRoom(), savedMessage);
 
         User recipient = customForm.getChatRoom().isListener(user) ?
                 customForm.getChatRoom().getSpeaker() : customForm.getChatRoom().getListener();
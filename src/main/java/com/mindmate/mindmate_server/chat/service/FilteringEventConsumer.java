@@ -15,12 +15,13 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class FilteringEventConsumer {
+public class FilteringEventConsumer implements ChatMessagePipelineStage {
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisKeyManager redisKeyManager;
     private final AdminUserSuspensionService suspensionService;
@@ -45,44 +46,64 @@ public class FilteringEventConsumer {
     @KafkaListener(
             topics = "chat-message-topic",
             groupId = "filtering-event-group",
-            containerFactory = "chatMessageListenerContainerFactory"
+            containerFactory = "chatMessageListenerContainerFactory",
+            autoStartup = STANDALONE_AUTO_STARTUP
     )
     public void processFilteringEvent(ConsumerRecord<String, ChatMessageEvent> record, Acknowledgment ack) {
         ChatMessageEvent event = record.value();
 
-        if (!event.isFiltered() || event.getSenderId() == null) {
+        if (!supports(event)) {
             ack.acknowledge();
             return;
         }
 
         try {
-            String filteringCountKey = redisKeyManager.getFilteringCountKey(event.getSenderId(), event.getRoomId());
-            String filteringContentKey = redisKeyManager.getFilteringContentKey(event.getSenderId(), event.getRoomId());
+            recordFiltering(event);
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("Error processing filtering event: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "filtering-event-group";
+    }
+
+    @Override
+    public boolean supports(ChatMessageEvent event) {
+        return event.isFiltered() && event.getSenderId() != null;
+    }
+
+    @Override
+    public void process(List<ChatMessageEvent> events) {
+        events.forEach(this::recordFiltering);
+    }
 
-            Long count = redisTemplate.opsForValue().increment(filteringCountKey, 1);
+    private void recordFiltering(ChatMessageEvent event) {
+        String filteringCountKey = redisKeyManager.getFilteringCountKey(event.getSenderId(), event.getRoomId());
+        String filteringContentKey = redisKeyManager.getFilteringContentKey(event.getSenderId(), event.getRoomId());
 
-            // 첫 필터링 발생 -> count 값 24시간 만료 설정
-            if (count != null && count == 1) {
-                redisTemplate.expire(filteringCountKey, CHAT_FILTERING_EXPIRY_HOURS, TimeUnit.HOURS);
-            }
+        Long count = redisTemplate.opsForValue().increment(filteringCountKey, 1);
+
+        // 첫 필터링 발생 -> count 값 24시간 만료 설정
+        if (count != null && count == 1) {
+            redisTemplate.expire(filteringCountKey, CHAT_FILTERING_EXPIRY_HOURS, TimeUnit.HOURS);
+        }
 
-            String truncatedContent = event.getContent().length() > 100 ? event.getContent().substring(0, 100) + "..." : event.getContent();
-            redisTemplate.opsForList().leftPush(filteringContentKey, truncatedContent);
-            redisTemplate.opsForList().trim(filteringContentKey, 0, 4);
-            redisTemplate.expire(filteringContentKey, CHAT_FILTERING_EXPIRY_HOURS, TimeUnit.HOURS);
+        String truncatedContent = event.getContent().length() > 100 ? event.getContent().substring(0, 100) + "..." : event.getContent();
+        redisTemplate.opsForList().leftPush(filteringContentKey, truncatedContent);
+        redisTemplate.opsForList().trim(filteringContentKey, 0, 4);
+        redisTemplate.expire(filteringContentKey, CHAT_FILTERING_EXPIRY_HOURS, TimeUnit.HOURS);
 
-            if (count != null && count >= CHAT_FILTERING_SUSPENSION_THRESHOLD) {
+        if (count != null && count >= CHAT_FILTERING_SUSPENSION_THRESHOLD) {
 //            redisTemplate.expire(filteringContentKey, )
-                applySuspension(event.getSenderId());
+            applySuspension(event.getSenderId());
 
-                redisTemplate.delete(filteringCountKey);
-                log.info("User {} reached filtering threshold in room {}. Applied suspension.",
-                        event.getSenderId(), event.getRoomId());
-            }
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("Error processing filtering event: {}", e.getMessage(), e);
-            throw e;
+            redisTemplate.delete(filteringCountKey);
+            log.info("User {} reached filtering threshold in room {}. Applied suspension.",
+                    event.getSenderId(), event.getRoomId());
         }
     }
 
@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class FilteringWordServiceImpl implements FilteringWordService {
     private final FilteringWordRepository filteringWordRepository;
+    private final ContentFilterService contentFilterService;
 
     @Override
     public List<FilteringWordDTO> getAllFilteringWords() {
@@ -38,9 +39,7 @@ public class FilteringWordServiceImpl implements FilteringWordService {
                 .build();
 
         FilteringWord save = filteringWordRepository.save(filteringWord);
-
-        // todo: 이거를 바로바로 업데이트 시킬 지 아니면 스케줄로 처리할 지 고민 -> 만약 바로 할거면 아래에 다 추가해야함
-//        contentFilterService.refreshFilteringWords();
+        contentFilterService.publishRefresh();
         log.info("필터링 단어 추가: {}", word);
         return FilteringWordDTO.from(save);
     }
@@ -52,8 +51,7 @@ public class FilteringWordServiceImpl implements FilteringWordService {
             throw new CustomException(FilteringErrorCode.FILTERING_WORD_NOT_FOUND);
         }
         filteringWordRepository.deleteById(id);
-
-        // 추가
+        contentFilterService.publishRefresh();
     }
 
     @Override
@@ -63,7 +61,7 @@ public class FilteringWordServiceImpl implements FilteringWordService {
         word.setActive(active);
 
         FilteringWord save = filteringWordRepository.save(word);
-        // 추가
+        contentFilterService.publishRefresh();
 
         log.info("필터링 단어 활성화: ID={}, 단어={}", id, word.getWord());
         return FilteringWordDTO.from(save);
@@ -0,0 +1,24 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 다중 키워드 매처 (필터링 단어, 토스트 박스 키워드)
+ */
+public interface KeywordMatcher<T> {
+    void initialize(List<T> items, Function<T, String> patternExtractor, Function<T, Boolean> activeChecker);
+
+    List<T> searchItems(String text);
+
+    List<String> search(String text);
+
+    Optional<T> findFirstMatchItem(String text);
+
+    Optional<String> findFirstMatch(String text);
+
+    default boolean containsMatch(String text) {
+        return findFirstMatch(text).isPresent();
+    }
+}
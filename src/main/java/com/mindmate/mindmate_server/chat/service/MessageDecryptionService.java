@@ -0,0 +1,144 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.domain.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메시지 페이지 일괄 복호화
+ * 작은 페이지는 요청 스레드에서 한 번에 처리, 큰 페이지는 고정 크기 풀에 청크 단위로 분산
+ * 복호화 실패는 버리지 않고 chat.message.decryption{result=failure} 카운터로 집계
+ */
+@Slf4j
+@Service
+public class MessageDecryptionService {
+    private final AesGcmEncryptionService encryptionService;
+    private final ThreadPoolExecutor executor;
+    private final int parallelThreshold;
+    private final int chunkSize;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Timer pageTimer;
+
+    public MessageDecryptionService(AesGcmEncryptionService encryptionService,
+                                    ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                    @Value("${chat.decryption.pool-size:4}") int poolSize,
+                                    @Value("${chat.decryption.queue-capacity:64}") int queueCapacity,
+                                    @Value("${chat.decryption.parallel-threshold:100}") int parallelThreshold,
+                                    @Value("${chat.decryption.chunk-size:50}") int chunkSize) {
+        this.encryptionService = encryptionService;
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = Math.max(1, chunkSize);
+
+        // 큐가 가득 차면 요청 스레드에서 직접 처리 -> 풀 크기 이상으로 스레드가 늘어나지 않음
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "message-decrypt-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.successCounter = Counter.builder("chat.message.decryption")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("chat.message.decryption")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.pageTimer = Timer.builder("chat.message.decryption.page")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 암호화된 메시지만 골라 복호화 -> 실패한 메시지 수 반환
+     * 같은 영속성 컨텍스트에서 이미 복호화된 인스턴스(저장 시 암호화한 메시지 등)는 제외
+     */
+    public int decryptAll(List<ChatMessage> messages) {
+        List<ChatMessage> targets = new ArrayList<>();
+        for (ChatMessage message : messages) {
+            if (needsDecryption(message)) {
+                targets.add(message);
+            }
+        }
+
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        return pageTimer.record(() -> targets.size() < parallelThreshold
+                ? decryptChunk(targets)
+                : decryptInParallel(targets));
+    }
+
+    /**
+     * 단일 메시지 복호화 -> 성공 여부 반환
+     */
+    public boolean decrypt(ChatMessage message) {
+        if (!needsDecryption(message)) {
+            return true;
+        }
+        return decryptChunk(List.of(message)) == 0;
+    }
+
+    public double getFailureCount() {
+        return failureCounter.count();
+    }
+
+    // getContent() 는 복호화된 내용을 우선 반환 -> 이미 복호화된 메시지를 다시 복호화하면 실패
+    private boolean needsDecryption(ChatMessage message) {
+        return message.isEncrypted() && !message.isDecrypted();
+    }
+
+    private int decryptInParallel(List<ChatMessage> targets) {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<ChatMessage> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> decryptChunk(chunk), executor));
+        }
+
+        int failures = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            failures += future.join();
+        }
+        return failures;
+    }
+
+    private int decryptChunk(List<ChatMessage> chunk) {
+        int failures = 0;
+        for (ChatMessage message : chunk) {
+            try {
+                message.setDecryptedContent(encryptionService.decrypt(message.getContent()));
+                successCounter.increment();
+            } catch (Exception e) {
+                failures++;
+                failureCounter.increment();
+                log.warn("메시지 복호화 실패: messageId={}, reason={}", message.getId(), e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
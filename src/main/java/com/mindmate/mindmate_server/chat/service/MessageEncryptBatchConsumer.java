@@ -0,0 +1,87 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * message-encryption-group 배치 모드
+ * 이벤트에 담긴 평문을 그대로 암호화 -> 엔티티 조회 없이 JDBC batch UPDATE 한 번으로 반영
+ * 암호문과 blind index 토큰은 같은 트랜잭션에서 반영
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.encryption.batch.enabled", havingValue = "true")
+public class MessageEncryptBatchConsumer implements ChatMessagePipelineStage {
+    private final AesGcmEncryptionService aesGcmEncryptionService;
+    private final ChatMessageService chatMessageService;
+    private final MessageSearchIndexService messageSearchIndexService;
+
+    @KafkaListener(
+            topics = "chat-message-topic",
+            groupId = "message-encryption-group",
+            containerFactory = "messageEncryptionBatchListenerContainerFactory",
+            properties = "max.poll.records=${chat.encryption.batch.max-poll-records:500}",
+            autoStartup = STANDALONE_AUTO_STARTUP
+    )
+    public void encryptMessages(List<ConsumerRecord<String, ChatMessageEvent>> records, Acknowledgment ack) {
+        List<ChatMessageEvent> events = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(event -> event != null && supports(event))
+                .collect(Collectors.toList());
+
+        try {
+            process(events);
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("Error processing encryption batch", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "message-encryption-group";
+    }
+
+    // 실패 시 배치 전체가 롤백됨 -> 배치 단위 재시도해도 중복 반영 없음
+    @Override
+    public boolean isAtomicBatch() {
+        return true;
+    }
+
+    @Override
+    public boolean supports(ChatMessageEvent event) {
+        return !event.isFiltered() && !event.isEncrypted()
+                && event.getMessageId() != null && event.getContent() != null;
+    }
+
+    @Override
+    public void process(List<ChatMessageEvent> events) {
+        Map<Long, String> encryptedContents = new LinkedHashMap<>();
+        List<ChatMessageSearchIndexDTO> searchIndexes = new ArrayList<>();
+
+        for (ChatMessageEvent event : events) {
+            encryptedContents.put(event.getMessageId(), aesGcmEncryptionService.encrypt(event.getContent()));
+            searchIndexes.add(messageSearchIndexService.buildIndex(event.getRoomId(), event.getMessageId(), event.getContent()));
+        }
+
+        if (!encryptedContents.isEmpty()) {
+            int updated = chatMessageService.bulkUpdateEncryptedContents(encryptedContents, searchIndexes);
+            log.info("Encrypted {} of {} messages in encryption batch", updated, encryptedContents.size());
+        }
+    }
+}
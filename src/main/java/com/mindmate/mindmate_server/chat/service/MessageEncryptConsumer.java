@@ -5,6 +5,7 @@ import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.support.Acknowledgment;
@@ -12,14 +13,17 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Random;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class MessageEncryptConsumer {
+@ConditionalOnProperty(name = "chat.encryption.batch.enabled", havingValue = "false", matchIfMissing = true)
+public class MessageEncryptConsumer implements ChatMessagePipelineStage {
     private final AesGcmEncryptionService aesGcmEncryptionService;
     private final ChatMessageService chatMessageService;
+    private final MessageSearchIndexService messageSearchIndexService;
 
 //    // 실패 확률 (0.0 ~ 1.0)
 //    private static final double FAILURE_PROBABILITY = 0.7; // 70% 확률로 실패
@@ -38,13 +42,14 @@ public class MessageEncryptConsumer {
     @KafkaListener(
             topics = "chat-message-topic",
             groupId = "message-encryption-group",
-            containerFactory = "chatMessageListenerContainerFactory"
+            containerFactory = "chatMessageListenerContainerFactory",
+            autoStartup = STANDALONE_AUTO_STARTUP
     )
     @Transactional
     public void encryptMessage(ConsumerRecord<String, ChatMessageEvent> record, Acknowledgment ack) {
         ChatMessageEvent event = record.value();
 
-        if (event.isFiltered() || event.isEncrypted() || event.getMessageId() == null) {
+        if (!supports(event)) {
             ack.acknowledge();
             return;
         }
@@ -63,14 +68,38 @@ public class MessageEncryptConsumer {
 //        }
 
         try {
-            ChatMessage message = chatMessageService.findChatMessageById(event.getMessageId());
-            String encryptedContent = aesGcmEncryptionService.encrypt(message.getContent());
-            message.updateEncryptedContent(encryptedContent);
-            chatMessageService.save(message);
+            encrypt(event);
             ack.acknowledge();
         } catch (Exception e) {
             log.error("메시지 암호화 중 오류: {}", e.getMessage(), e);
             throw e;
         }
     }
+
+    @Override
+    public String getName() {
+        return "message-encryption-group";
+    }
+
+    @Override
+    public boolean supports(ChatMessageEvent event) {
+        return !event.isFiltered() && !event.isEncrypted() && event.getMessageId() != null;
+    }
+
+    @Override
+    @Transactional
+    public void process(List<ChatMessageEvent> events) {
+        events.forEach(this::encrypt);
+    }
+
+    private void encrypt(ChatMessageEvent event) {
+        ChatMessage message = chatMessageService.findChatMessageById(event.getMessageId());
+        String plainContent = message.getContent();
+        String encryptedContent = aesGcmEncryptionService.encrypt(plainContent);
+        message.updateEncryptedContent(encryptedContent);
+        chatMessageService.save(message);
+
+        // 암호화 이후에도 검색 가능하도록 blind index 토큰 저장
+        messageSearchIndexService.index(event.getRoomId(), message.getId(), plainContent);
+    }
 }
@@ -0,0 +1,152 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
+import com.mindmate.mindmate_server.chat.repository.ChatMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 암호화된 메시지 키워드 검색용 blind index
+ * - 정규화(NFKC, 소문자, 공백 축약)한 평문을 1-gram + 2-gram으로 분해
+ * - 각 n-gram을 HMAC-SHA256(검색키, roomId:gram) 앞 12바이트로 토큰화 -> 채팅방마다 다른 토큰
+ * - 암호화 시점에 토큰을 저장하고, 검색은 키워드 토큰의 교집합 조회로 처리 (복호화 x)
+ * 2-gram 교집합은 부분 문자열 포함을 근사하므로 3글자 이상 키워드는 드물게 오탐 가능
+ *
+ * 보안상 한계: 토큰은 채팅방 안에서 결정적이므로 DB 읽기 권한이 있으면 복호화 없이도
+ * 같은 토큰의 등장 빈도(= 채팅방 내 글자/글자쌍 빈도)와 메시지 간 공통 글자를 알 수 있음
+ * -> 빈도 분석으로 짧은 메시지 내용이 추정될 수 있으므로 토큰 테이블도 암호문과 같은 수준으로 접근 제한 필요
+ */
+@Service
+public class MessageSearchIndexService {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int TOKEN_LENGTH_BYTE = 12;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ThreadLocal<Mac> mac;
+
+    public MessageSearchIndexService(ChatMessageRepository chatMessageRepository,
+                                     @Value("${encryption.search-key:${encryption.secret-key}}") String encodedKey) {
+        this.chatMessageRepository = chatMessageRepository;
+
+        // 암호화 키를 그대로 쓰지 않고 검색 전용 키를 파생
+        SecretKeySpec indexKey = new SecretKeySpec(
+                hmac(Base64.getDecoder().decode(encodedKey), "chat-search-index".getBytes(StandardCharsets.UTF_8)),
+                HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+                instance.init(indexKey);
+                return instance;
+            } catch (Exception e) {
+                throw new IllegalStateException("검색 인덱스 키 초기화 과정에서 오류가 발생했습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 메시지 평문 -> blind index 토큰 묶음
+     */
+    public ChatMessageSearchIndexDTO buildIndex(Long roomId, Long messageId, String plainText) {
+        return ChatMessageSearchIndexDTO.builder()
+                .roomId(roomId)
+                .messageId(messageId)
+                .tokens(tokenize(roomId, plainText))
+                .build();
+    }
+
+    public void index(Long roomId, Long messageId, String plainText) {
+        indexAll(List.of(buildIndex(roomId, messageId, plainText)));
+    }
+
+    public void indexAll(List<ChatMessageSearchIndexDTO> indexes) {
+        if (!indexes.isEmpty()) {
+            chatMessageRepository.bulkInsertSearchTokens(indexes);
+        }
+    }
+
+    /**
+     * 키워드 토큰 교집합으로 메시지 ID 조회 (최신순)
+     */
+    public List<Long> search(Long roomId, String keyword) {
+        int[] codePoints = normalize(keyword).codePoints().toArray();
+        if (codePoints.length == 0) {
+            return Collections.emptyList();
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        if (codePoints.length == 1) {
+            tokens.add(token(roomId, gram(codePoints, 0, 1)));
+        } else {
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(token(roomId, gram(codePoints, i, 2)));
+            }
+        }
+
+        return chatMessageRepository.findMessageIdsBySearchTokens(roomId, tokens);
+    }
+
+    /**
+     * 평문 메시지 검색용 포함 여부 (색인과 같은 정규화)
+     */
+    public boolean matches(String plainText, String keyword) {
+        if (plainText == null || keyword == null) {
+            return false;
+        }
+        String normalizedKeyword = normalize(keyword);
+        return !normalizedKeyword.isEmpty() && normalize(plainText).contains(normalizedKeyword);
+    }
+
+    Set<String> tokenize(Long roomId, String plainText) {
+        if (plainText == null) {
+            return Collections.emptySet();
+        }
+
+        int[] codePoints = normalize(plainText).codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(gram(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(gram(codePoints, i, 2));
+            }
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String gram : grams) {
+            tokens.add(token(roomId, gram));
+        }
+        return tokens;
+    }
+
+    // 색인/평문 검색 공통: 대소문자 무시 + 전각/반각 통일 + 연속 공백 축약
+    private String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private String gram(int[] codePoints, int offset, int length) {
+        return new String(codePoints, offset, length);
+    }
+
+    private String token(Long roomId, String gram) {
+        byte[] digest = mac.get().doFinal((roomId + ":" + gram).getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, TOKEN_LENGTH_BYTE));
+    }
+
+    private static byte[] hmac(byte[] key, byte[] data) {
+        try {
+            Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+            instance.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+            return instance.doFinal(data);
+        } catch (Exception e) {
+            throw new IllegalStateException("검색 인덱스 키 파생 과정에서 오류가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mindmate.mindmate_server.chat.util.ChatRoomSubscriptionRegistry;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전송 경로의 수신자 활성 여부 확인용 노드 로컬 접속 상태 캐시
+ * - 이 노드가 기록한 상태(PresenceTracker flush)와 이미 수신 중인 user:status:{userId} 이벤트로 갱신
+ * - 미스일 때만 Redis 조회 후 적재
+ * - 이 노드가 user:status:{userId} 이벤트를 받는 사용자만 캐시 -> 다른 노드의 상태 변경으로 무효화 가능한 항목만 유지
+ *   (채널 affinity 모드에서는 로컬 세션이 해당 상태 topic 을 구독 중일 때만, 구독이 끝나면 다음 조회에서 버림)
+ */
+@Component
+@Slf4j
+public class PresenceNearCache {
+    private final ObjectMapper objectMapper;
+    private final RedisKeyManager redisKeyManager;
+    // affinity 가 꺼져 있으면 빈이 없음 -> 패턴 구독으로 모든 상태 이벤트 수신
+    private final ObjectProvider<ChatRoomSubscriptionRegistry> subscriptionRegistry;
+    private final Cache<Long, Snapshot> cache;
+
+    public PresenceNearCache(ObjectMapper objectMapper,
+                             RedisKeyManager redisKeyManager,
+                             ObjectProvider<ChatRoomSubscriptionRegistry> subscriptionRegistry,
+                             @Value("${chat.presence.near-cache.ttl-ms:1000}") long ttlMillis,
+                             @Value("${chat.presence.near-cache.maximum-size:100000}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.redisKeyManager = redisKeyManager;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * @return 캐시에 있으면 활성 여부, 없으면 null
+     */
+    public Boolean isUserActiveInRoom(Long userId, Long roomId) {
+        Snapshot snapshot = cache.getIfPresent(userId);
+        if (snapshot == null) {
+            return null;
+        }
+        if (!receivesStatusEvents(userId)) {
+            // 적재 이후 구독이 끝난 사용자 -> 더 이상 무효화되지 않으므로 버림
+            cache.invalidate(userId);
+            return null;
+        }
+        return snapshot.online && roomId.equals(snapshot.activeRoomId);
+    }
+
+    public void put(Long userId, boolean online, Long activeRoomId) {
+        if (!receivesStatusEvents(userId)) {
+            return;
+        }
+        cache.put(userId, new Snapshot(online, activeRoomId));
+    }
+
+    /**
+     * user:status:{userId} 채널 이벤트 반영
+     * ChatEventPublisher.publishUserEvent 가 JSON 문자열을 한 번 더 직렬화하므로 문자열이면 다시 파싱
+     */
+    public void applyStatusEvent(Long userId, String payload) {
+        try {
+            JsonNode event = objectMapper.readTree(payload);
+            if (event.isTextual()) {
+                event = objectMapper.readTree(event.asText());
+            }
+
+            JsonNode data = event.path("data");
+            if (!data.has("online")) {
+                return;
+            }
+
+            JsonNode activeRoom = data.path("activeRoomId");
+            put(userId, data.path("online").asBoolean(), activeRoom.canConvertToLong() ? activeRoom.asLong() : null);
+        } catch (Exception e) {
+            // 해석할 수 없는 이벤트 -> 다음 조회에서 Redis 값 사용
+            cache.invalidate(userId);
+            log.debug("Failed to apply user status event for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private boolean receivesStatusEvents(Long userId) {
+        ChatRoomSubscriptionRegistry registry = subscriptionRegistry.getIfAvailable();
+        return registry == null
+                || registry.getLocalSubscriptionCount(redisKeyManager.getUserStatusChannel(userId)) > 0;
+    }
+
+    private static final class Snapshot {
+        private final boolean online;
+        private final Long activeRoomId;
+
+        private Snapshot(boolean online, Long activeRoomId) {
+            this.online = online;
+            this.activeRoomId = activeRoomId;
+        }
+    }
+}
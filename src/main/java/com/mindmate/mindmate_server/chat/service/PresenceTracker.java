@@ -0,0 +1,244 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mindmate.mindmate_server.chat.dto.ChatEventType;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 접속 상태 관리
+ * - 상태 변경은 바로 쓰지 않고 flush 주기 동안 사용자별 마지막 값만 유지 -> 연결/해제가 반복돼도 한 번만 기록
+ * - 기록 직전 Redis 에 있던 값과 같으면 USER_STATUS 를 다시 발행하지 않음
+ *   (비교와 기록을 한 스크립트로 처리 -> 다른 노드가 그 사이 바꾼 상태도 기준으로 삼음)
+ * - STOMP 하트비트(및 모든 인바운드 프레임)로 온라인 TTL 갱신 -> 클라이언트 presence 프레임 불필요
+ * - 한 번의 flush 에서 생긴 쓰기는 하나의 파이프라인으로 전송
+ *
+ * 저장 형식 (user:presence:{userId} 해시, 모두 문자열)
+ * o: 온라인 여부 "1"/"0", r: 활성 채팅방 ID(없으면 ""), t: 마지막 활동 epoch millis
+ */
+@Service
+@Slf4j
+public class PresenceTracker {
+    static final String ONLINE_FIELD = "o";
+    static final String ROOM_FIELD = "r";
+    static final String LAST_ACTIVE_FIELD = "t";
+    private static final List<Object> ACTIVE_ROOM_FIELDS = List.of(ONLINE_FIELD, ROOM_FIELD);
+
+    /**
+     * KEYS[1] 사용자 접속 상태 해시
+     * ARGV[1] o, ARGV[2] r, ARGV[3] t, ARGV[4] TTL(초)
+     * 기록 전 o/r 과 달라졌으면 1, 같으면 0 반환
+     */
+    private static final String WRITE_PRESENCE_SCRIPT =
+            "local previous = redis.call('HMGET', KEYS[1], 'o', 'r') " +
+            "redis.call('HMSET', KEYS[1], 'o', ARGV[1], 'r', ARGV[2], 't', ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "if previous[1] == ARGV[1] and previous[2] == ARGV[2] then return 0 end " +
+            "return 1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisKeyManager redisKeyManager;
+    private final ChatEventPublisher eventPublisher;
+    private final PresenceNearCache presenceNearCache;
+    private final long onlineTtlSeconds;
+    private final long offlineTtlSeconds;
+    private final long touchIntervalMillis;
+
+    // flush 대기 중인 상태 (사용자별 최신 값만 유지)
+    private final Map<Long, Presence> pending = new ConcurrentHashMap<>();
+    // flush 대기 중인 TTL 갱신 대상
+    private final Set<Long> pendingTouches = ConcurrentHashMap.newKeySet();
+    // 이 노드가 마지막으로 TTL 을 갱신한 시각
+    private final Cache<Long, Long> lastTouched;
+
+    public PresenceTracker(StringRedisTemplate stringRedisTemplate,
+                           RedisKeyManager redisKeyManager,
+                           ChatEventPublisher eventPublisher,
+                           PresenceNearCache presenceNearCache,
+                           @Value("${chat.presence.online-ttl-seconds:300}") long onlineTtlSeconds,
+                           @Value("${chat.presence.offline-ttl-seconds:1800}") long offlineTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisKeyManager = redisKeyManager;
+        this.eventPublisher = eventPublisher;
+        this.presenceNearCache = presenceNearCache;
+        this.onlineTtlSeconds = onlineTtlSeconds;
+        this.offlineTtlSeconds = offlineTtlSeconds;
+        // TTL 의 1/3 마다 갱신 -> 하트비트 몇 번을 놓쳐도 만료되지 않음
+        this.touchIntervalMillis = TimeUnit.SECONDS.toMillis(onlineTtlSeconds) / 3;
+        this.lastTouched = CacheBuilder.newBuilder()
+                .expireAfterWrite(onlineTtlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public void update(Long userId, boolean online, Long activeRoomId) {
+        pending.put(userId, new Presence(online, activeRoomId, System.currentTimeMillis()));
+    }
+
+    /**
+     * 하트비트 등 클라이언트 활동 -> 온라인 TTL 갱신 예약 (touchInterval 당 최대 한 번)
+     */
+    public void touch(Long userId) {
+        long now = System.currentTimeMillis();
+        Long last = lastTouched.getIfPresent(userId);
+        if (last != null && now - last < touchIntervalMillis) {
+            return;
+        }
+
+        lastTouched.put(userId, now);
+        pendingTouches.add(userId);
+    }
+
+    public Long getActiveRoom(Long userId) {
+        Presence local = pending.get(userId);
+        if (local != null) {
+            return local.activeRoomId;
+        }
+
+        Object room = stringRedisTemplate.opsForHash().get(redisKeyManager.getUserPresenceKey(userId), ROOM_FIELD);
+        return parseRoomId(room);
+    }
+
+    /**
+     * 확인 순서: 이 노드에 아직 flush 되지 않은 상태 -> 로컬 near-cache -> Redis HMGET 한 번 (결과는 near-cache 에 적재)
+     */
+    public boolean isUserActiveInRoom(Long userId, Long roomId) {
+        Presence local = pending.get(userId);
+        if (local != null) {
+            return local.online && roomId.equals(local.activeRoomId);
+        }
+
+        Boolean cached = presenceNearCache.isUserActiveInRoom(userId, roomId);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Object> values = stringRedisTemplate.opsForHash()
+                .multiGet(redisKeyManager.getUserPresenceKey(userId), ACTIVE_ROOM_FIELDS);
+        boolean online = values != null && values.size() == 2 && "1".equals(values.get(0));
+        Long activeRoomId = values != null && values.size() == 2 ? parseRoomId(values.get(1)) : null;
+        presenceNearCache.put(userId, online, activeRoomId);
+
+        return online && roomId.equals(activeRoomId);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.presence.flush-interval:500}")
+    public void flush() {
+        Map<Long, Presence> writes = new LinkedHashMap<>();
+        for (Long userId : new ArrayList<>(pending.keySet())) {
+            Presence presence = pending.remove(userId);
+            if (presence != null) {
+                writes.put(userId, presence);
+            }
+        }
+
+        List<Long> touches = new ArrayList<>();
+        for (Long userId : new ArrayList<>(pendingTouches)) {
+            if (pendingTouches.remove(userId) && !writes.containsKey(userId)) {
+                touches.add(userId);
+            }
+        }
+
+        if (writes.isEmpty() && touches.isEmpty()) {
+            return;
+        }
+
+        byte[] script = toBytes(WRITE_PRESENCE_SCRIPT);
+        List<Object> results;
+        try {
+            // 결과 순서: 상태 기록 스크립트(writes 순서) -> TTL 갱신
+            results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                writes.forEach((userId, presence) ->
+                        connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                                toBytes(redisKeyManager.getUserPresenceKey(userId)),
+                                toBytes(presence.online ? "1" : "0"),
+                                toBytes(presence.activeRoomId != null ? presence.activeRoomId : ""),
+                                toBytes(presence.lastActiveMillis),
+                                toBytes(ttlSeconds(presence))));
+                touches.forEach(userId ->
+                        connection.keyCommands().expire(toBytes(redisKeyManager.getUserPresenceKey(userId)), onlineTtlSeconds));
+                return null;
+            });
+        } catch (Exception e) {
+            // 다음 flush 에서 다시 시도 (그 사이 들어온 더 최신 상태는 유지)
+            log.warn("Failed to flush presence for {} users: {}", writes.size(), e.getMessage());
+            writes.forEach(pending::putIfAbsent);
+            return;
+        }
+
+        int index = 0;
+        for (Map.Entry<Long, Presence> write : writes.entrySet()) {
+            Long userId = write.getKey();
+            Presence presence = write.getValue();
+            presenceNearCache.put(userId, presence.online, presence.activeRoomId);
+
+            // 결과를 알 수 없으면 발행 (중복 발행이 누락보다 안전)
+            Object result = index < results.size() ? results.get(index) : null;
+            index++;
+            if (!Long.valueOf(0L).equals(result)) {
+                eventPublisher.publishUserEvent(userId, ChatEventType.USER_STATUS, presence.toEvent());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private long ttlSeconds(Presence presence) {
+        return presence.online ? onlineTtlSeconds : offlineTtlSeconds;
+    }
+
+    private static Long parseRoomId(Object room) {
+        if (room == null || room.toString().isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(room.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static byte[] toBytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class Presence {
+        private final boolean online;
+        private final Long activeRoomId;
+        private final long lastActiveMillis;
+
+        private Presence(boolean online, Long activeRoomId, long lastActiveMillis) {
+            this.online = online;
+            this.activeRoomId = activeRoomId;
+            this.lastActiveMillis = lastActiveMillis;
+        }
+
+        // 클라이언트에 전달하는 USER_STATUS 형식은 기존과 동일
+        private Map<String, Object> toEvent() {
+            Map<String, Object> status = new HashMap<>();
+            status.put("online", online);
+            status.put("activeRoomId", activeRoomId);
+            status.put("lastActive", LocalDateTime.ofInstant(Instant.ofEpochMilli(lastActiveMillis), ZoneId.systemDefault()).toString());
+            status.put("status", online ? "ONLINE" : "OFFLINE");
+            return status;
+        }
+    }
+}
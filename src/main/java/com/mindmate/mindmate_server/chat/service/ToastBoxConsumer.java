@@ -8,6 +8,7 @@ import com.mindmate.mindmate_server.chat.dto.ToastBoxEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.support.Acknowledgment;
@@ -15,11 +16,13 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class ToastBoxConsumer {
+@ConditionalOnProperty(name = "chat.toast-box.inline-publish", havingValue = "false", matchIfMissing = true)
+public class ToastBoxConsumer implements ChatMessagePipelineStage {
     private final ToastBoxService toastBoxService;
     private final ChatEventPublisher eventPublisher;
 
@@ -40,45 +43,63 @@ public class ToastBoxConsumer {
     @KafkaListener(
             topics = "chat-message-topic",
             groupId = "toast-box-group",
-            containerFactory = "chatMessageListenerContainerFactory"
+            containerFactory = "chatMessageListenerContainerFactory",
+            autoStartup = STANDALONE_AUTO_STARTUP
     )
     public void processToastBox(ConsumerRecord<String, ChatMessageEvent> record, Acknowledgment ack) {
         ChatMessageEvent event = record.value();
 
-        if (event.isFiltered() || event.getMessageId() == null || event.getType() == MessageType.EMOTICON) {
+        if (!supports(event)) {
             ack.acknowledge();
             return;
         }
 
         try {
-            List<ToastBoxKeyword> keywords = toastBoxService.findToastBoxKeywords(event.getContent());
-
-            if (!keywords.isEmpty()) {
-                for (ToastBoxKeyword keyword : keywords) {
-                    ToastBoxEvent toastBoxEvent = ToastBoxEvent.builder()
-                            .roomId(event.getRoomId())
-                            .messageId(event.getMessageId())
-                            .keyword(keyword.getKeyword())
-                            .title(keyword.getTitle())
-                            .content(keyword.getContent())
-                            .linkUrl(keyword.getLinkUrl())
-                            .imageUrl(keyword.getImageUrl())
-                            .build();
-
-                    eventPublisher.publishChatRoomEvent(
-                            event.getRoomId(),
-                            ChatEventType.TOAST_BOX,
-                            toastBoxEvent
-                    );
-
-                    log.info("토스트 박스 이벤트 발행: 방={}, 키워드={}",
-                            event.getRoomId(), keyword.getKeyword());
-                }
-            }
+            publishToastBoxes(event);
             ack.acknowledge();
         } catch (Exception e) {
             log.error("토스트 박스 처리 중 오류: {}", e.getMessage(), e);
             throw e;
         }
     }
+
+    @Override
+    public String getName() {
+        return "toast-box-group";
+    }
+
+    @Override
+    public boolean supports(ChatMessageEvent event) {
+        return !event.isFiltered() && event.getMessageId() != null && event.getType() != MessageType.EMOTICON;
+    }
+
+    @Override
+    public void process(List<ChatMessageEvent> events) {
+        events.forEach(this::publishToastBoxes);
+    }
+
+    private void publishToastBoxes(ChatMessageEvent event) {
+        // 전송 시점에 이미 스캔된 이벤트는 결과를 그대로 사용 -> 재스캔 없음
+        List<ToastBoxEvent> toastBoxes = event.getToastBoxes() != null
+                ? event.getToastBoxes()
+                : scanToastBoxes(event);
+
+        for (ToastBoxEvent toastBoxEvent : toastBoxes) {
+            eventPublisher.publishChatRoomEvent(
+                    event.getRoomId(),
+                    ChatEventType.TOAST_BOX,
+                    toastBoxEvent
+            );
+
+            log.info("토스트 박스 이벤트 발행: 방={}, 키워드={}",
+                    event.getRoomId(), toastBoxEvent.getKeyword());
+        }
+    }
+
+    private List<ToastBoxEvent> scanToastBoxes(ChatMessageEvent event) {
+        List<ToastBoxKeyword> keywords = toastBoxService.findToastBoxKeywords(event.getContent());
+        return keywords.stream()
+                .map(keyword -> ToastBoxEvent.from(event.getRoomId(), event.getMessageId(), keyword))
+                .collect(Collectors.toList());
+    }
 }
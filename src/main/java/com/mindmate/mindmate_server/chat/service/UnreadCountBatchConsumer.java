@@ -0,0 +1,165 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.domain.ChatRoom;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
+import com.mindmate.mindmate_server.user.service.UserService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * unread-count-group 배치 모드
+ * poll 단위로 이벤트를 채팅방/수신자별로 묶어 채팅방당 한 번만 ChatRoom 조회
+ * Redis 카운트는 커밋 이후 파이프라인으로 한 번에 INCRBY
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.unread.batch.enabled", havingValue = "true")
+public class UnreadCountBatchConsumer implements ChatMessagePipelineStage {
+    private final ChatRoomService chatRoomService;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatService chatService;
+    private final UserService userService;
+
+    @KafkaListener(
+            topics = "chat-message-topic",
+            groupId = "unread-count-group",
+            containerFactory = "unreadCountBatchListenerContainerFactory",
+            properties = "max.poll.records=${chat.unread.batch.max-poll-records:500}",
+            autoStartup = STANDALONE_AUTO_STARTUP
+    )
+    @Transactional
+    public void updateUnreadCounts(List<ConsumerRecord<String, ChatMessageEvent>> records, Acknowledgment ack) {
+        List<ChatMessageEvent> events = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(event -> event != null && supports(event))
+                .collect(Collectors.toList());
+
+        try {
+            process(events);
+            ack.acknowledge();
+            log.info("Processed {} records in unread-count batch", records.size());
+        } catch (Exception e) {
+            log.error("Error processing unread-count batch", e);
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "unread-count-group";
+    }
+
+    // 실패 시 배치 전체가 롤백됨 -> 배치 단위 재시도해도 중복 반영 없음
+    @Override
+    public boolean isAtomicBatch() {
+        return true;
+    }
+
+    @Override
+    public boolean supports(ChatMessageEvent event) {
+        return !event.isFiltered() && event.getMessageId() != null;
+    }
+
+    @Override
+    @Transactional
+    public void process(List<ChatMessageEvent> events) {
+        Map<Long, List<ChatMessageEvent>> eventsByRoom = events.stream()
+                .collect(Collectors.groupingBy(ChatMessageEvent::getRoomId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, Map<Long, Long>> unreadDeltas = new LinkedHashMap<>();
+        eventsByRoom.forEach((roomId, roomEvents) -> {
+            Map<Long, Long> deltaByRecipient = applyRoomEvents(roomId, roomEvents);
+            if (!deltaByRecipient.isEmpty()) {
+                unreadDeltas.put(roomId, deltaByRecipient);
+            }
+        });
+
+        incrementRedisAfterCommit(unreadDeltas);
+    }
+
+    /**
+     * 한 채팅방의 이벤트를 순서대로 집계
+     * 수신자가 활성 상태인 이벤트가 나오면 그 시점까지의 미읽음은 읽음 처리되므로 누적값 초기화
+     */
+    private Map<Long, Long> applyRoomEvents(Long roomId, List<ChatMessageEvent> events) {
+        ChatRoom chatRoom = chatRoomService.findChatRoomById(roomId);
+
+        Map<Long, Long> lastMessageBySender = new LinkedHashMap<>();
+        Map<Long, UnreadDelta> deltaByRecipient = new LinkedHashMap<>();
+
+        for (ChatMessageEvent event : events) {
+            lastMessageBySender.merge(event.getSenderId(), event.getMessageId(), Long::max);
+
+            UnreadDelta delta = deltaByRecipient.computeIfAbsent(event.getRecipientId(), id -> new UnreadDelta());
+            if (event.isRecipientActive()) {
+                delta.markAsRead();
+            } else {
+                delta.increment();
+            }
+        }
+
+        // 1. 발신자의 메시지 읽음 처리
+        lastMessageBySender.forEach((senderId, messageId) ->
+                chatRoom.markAsRead(userService.findUserById(senderId), messageId));
+
+        // 2. 수신자별 읽음 처리 / 미읽음 카운트 누적 반영
+        Map<Long, Long> unreadByRecipient = new LinkedHashMap<>();
+        deltaByRecipient.forEach((recipientId, delta) -> {
+            if (delta.isMarkAsRead()) {
+                chatService.markAsRead(recipientId, roomId);
+            }
+
+            // DB 카운트는 write-behind로 반영되므로 Redis 증가량만 모음
+            if (delta.getCount() > 0) {
+                unreadByRecipient.put(recipientId, delta.getCount());
+            }
+        });
+
+        return unreadByRecipient;
+    }
+
+    private void incrementRedisAfterCommit(Map<Long, Map<Long, Long>> unreadDeltas) {
+        if (unreadDeltas.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    chatPresenceService.incrementUnreadCountsInRedis(unreadDeltas);
+                }
+            });
+        } else {
+            chatPresenceService.incrementUnreadCountsInRedis(unreadDeltas);
+        }
+    }
+
+    @Getter
+    private static class UnreadDelta {
+        private boolean markAsRead;
+        private long count;
+
+        void markAsRead() {
+            this.markAsRead = true;
+            this.count = 0;
+        }
+
+        void increment() {
+            this.count++;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.mindmate.mindmate_server.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.support.Acknowledgment;
@@ -14,10 +15,13 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class UnreadCountConsumer {
+@ConditionalOnProperty(name = "chat.unread.batch.enabled", havingValue = "false", matchIfMissing = true)
+public class UnreadCountConsumer implements ChatMessagePipelineStage {
     private final ChatRoomService chatRoomService;
     private final ChatPresenceService chatPresenceService;
     private final ChatService chatService;
@@ -39,47 +43,61 @@ public class UnreadCountConsumer {
     @KafkaListener(
             topics = "chat-message-topic",
             groupId = "unread-count-group",
-            containerFactory = "chatMessageListenerContainerFactory"
+            containerFactory = "chatMessageListenerContainerFactory",
+            autoStartup = STANDALONE_AUTO_STARTUP
     )
     @Transactional
     public void updateUnreadCount(ConsumerRecord<String, ChatMessageEvent> record, Acknowledgment ack) {
         ChatMessageEvent event = record.value();
 
-        if (event.isFiltered() || event.getMessageId() == null) {
+        if (!supports(event)) {
             ack.acknowledge();
             return;
         }
 
         try {
-            ChatRoom chatRoom = chatRoomService.findChatRoomById(event.getRoomId());
-            User sender = userService.findUserById(event.getSenderId());
-            User recipient = userService.findUserById(event.getRecipientId());
-
-            // 1. 발신자의 메시지 읽음 처리
-            chatRoom.markAsRead(sender, event.getMessageId());
-
-            // 2. 수신자 상태 확인
-            if (event.isRecipientActive()) {
-                // 수신자가 채팅방에 있는 경우 -> 읽음 처리
-                chatService.markAsRead(recipient.getId(), event.getRoomId());
-                log.info("Marked message as read for recipient {} in room {}", recipient.getId(), event.getRoomId());
-            } else {
-                // 수신자가 채팅방에 없는 경우 -> 미읽음 카운트 증가
-                chatPresenceService.incrementUnreadCountInRedis(event.getRoomId(), recipient.getId());
-
-                if (chatRoom.isListener(recipient)) {
-                    chatRoom.increaseUnreadCountForListener();
-                } else {
-                    chatRoom.increaseUnreadCountForSpeaker();
-                }
-
-                chatRoomService.save(chatRoom);
-                log.info("Incremented unread count for recipient {} in room {}", recipient.getId(), event.getRoomId());
-            }
+            applyUnreadCount(event);
             ack.acknowledge();
         } catch (Exception e) {
             log.error("Error processing message event", e);
             throw e;
         }
     }
+
+    @Override
+    public String getName() {
+        return "unread-count-group";
+    }
+
+    @Override
+    public boolean supports(ChatMessageEvent event) {
+        return !event.isFiltered() && event.getMessageId() != null;
+    }
+
+    @Override
+    @Transactional
+    public void process(List<ChatMessageEvent> events) {
+        events.forEach(this::applyUnreadCount);
+    }
+
+    private void applyUnreadCount(ChatMessageEvent event) {
+        ChatRoom chatRoom = chatRoomService.findChatRoomById(event.getRoomId());
+        User sender = userService.findUserById(event.getSenderId());
+        User recipient = userService.findUserById(event.getRecipientId());
+
+        // 1. 발신자의 메시지 읽음 처리
+        chatRoom.markAsRead(sender, event.getMessageId());
+
+        // 2. 수신자 상태 확인
+        if (event.isRecipientActive()) {
+            // 수신자가 채팅방에 있는 경우 -> 읽음 처리
+            chatService.markAsRead(recipient.getId(), event.getRoomId());
+            log.info("Marked message as read for recipient {} in room {}", recipient.getId(), event.getRoomId());
+        } else {
+            // 수신자가 채팅방에 없는 경우 -> 미읽음 카운트 증가
+            // Redis가 원본, DB 카운트는 UnreadCountWriteBehindService가 주기적으로 반영
+            chatPresenceService.incrementUnreadCountInRedis(event.getRoomId(), recipient.getId());
+            log.info("Incremented unread count for recipient {} in room {}", recipient.getId(), event.getRoomId());
+        }
+    }
 }
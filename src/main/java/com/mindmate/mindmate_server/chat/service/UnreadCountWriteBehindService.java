@@ -0,0 +1,125 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatRoomUnreadCountDTO;
+import com.mindmate.mindmate_server.chat.repository.ChatRoomRepository;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 미읽음 카운트 write-behind
+ * Redis 카운트가 원본이고, 변경된 채팅방(dirty set)만 주기적으로 chat_rooms에 일괄 반영
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UnreadCountWriteBehindService {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisKeyManager redisKeyManager;
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Value("${chat.unread.flush.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${chat.unread.flush.interval:5000}")
+    public void scheduledFlush() {
+        flushBatch();
+    }
+
+    /**
+     * dirty set이 빌 때까지 flush (장애 복구용)
+     */
+    public int flushAll() {
+        int total = 0;
+        int flushed;
+        do {
+            flushed = flushBatch();
+            total += flushed;
+        } while (flushed >= batchSize);
+        return total;
+    }
+
+    /**
+     * dirty set에서 최대 batchSize개 채팅방을 꺼내 DB에 반영
+     * SPOP으로 꺼내므로 여러 노드가 동시에 실행해도 중복 처리 x
+     * 실패 시 꺼낸 채팅방을 다시 dirty set에 등록
+     */
+    public int flushBatch() {
+        String dirtyKey = redisKeyManager.getUnreadDirtyRoomsKey();
+        List<Object> popped = redisTemplate.opsForSet().pop(dirtyKey, batchSize);
+        if (popped == null || popped.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            List<Long> roomIds = popped.stream()
+                    .map(this::convertToLong)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            // 수락자가 없는 채팅방은 카운트 대상 x
+            List<ChatRoomUnreadCountDTO> targets = chatRoomRepository.findUnreadCountTargets(roomIds).stream()
+                    .filter(target -> target.getListenerId() != null && target.getSpeakerId() != null)
+                    .collect(Collectors.toList());
+            chatRoomRepository.bulkUpdateUnreadCounts(readUnreadCounts(targets));
+
+            log.debug("Flushed unread counts for {} rooms", targets.size());
+            return popped.size();
+        } catch (Exception e) {
+            log.error("Error flushing unread counts, re-marking {} rooms as dirty: {}", popped.size(), e.getMessage());
+            redisTemplate.opsForSet().add(dirtyKey, popped.toArray());
+            return 0;
+        }
+    }
+
+    /**
+     * 채팅방별 리스너/스피커 카운트를 한 번의 MGET으로 조회
+     * Redis에 값이 없으면 null -> DB 값 유지
+     */
+    private List<ChatRoomUnreadCountDTO> readUnreadCounts(List<ChatRoomUnreadCountDTO> targets) {
+        List<String> keys = new ArrayList<>(targets.size() * 2);
+        for (ChatRoomUnreadCountDTO target : targets) {
+            keys.add(redisKeyManager.getUnreadCountKey(target.getRoomId(), target.getListenerId()));
+            keys.add(redisKeyManager.getUnreadCountKey(target.getRoomId(), target.getSpeakerId()));
+        }
+
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+
+        List<ChatRoomUnreadCountDTO> unreadCounts = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            ChatRoomUnreadCountDTO target = targets.get(i);
+            unreadCounts.add(ChatRoomUnreadCountDTO.builder()
+                    .roomId(target.getRoomId())
+                    .listenerId(target.getListenerId())
+                    .speakerId(target.getSpeakerId())
+                    .listenerUnreadCount(values != null ? convertToLong(values.get(i * 2)) : null)
+                    .speakerUnreadCount(values != null ? convertToLong(values.get(i * 2 + 1)) : null)
+                    .build());
+        }
+        return unreadCounts;
+    }
+
+    private Long convertToLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                log.warn("Invalid unread count value in Redis: {}", value);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.util.ChatEventEnvelopeCodec;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 목적지(/user/queue/**) 전송
+ * - local (기본값): SimpleBroker 로 직접 전송 -> 같은 노드에 연결된 세션에만 전달됨
+ * - redis: user:queue:{userId} 채널로 발행 -> 해당 사용자의 세션이 연결된 노드만 구독 중이므로 소유 노드로 라우팅
+ *   (ChatRoomSubscriptionRegistry 가 /user/queue/** 구독 시 채널 구독, ChatMessageListener 가 로컬 세션에 전달)
+ */
+@Service
+@Slf4j
+public class UserDestinationRouter {
+    public static final String REDIS_MODE = "redis";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final ChatEventEnvelopeCodec envelopeCodec;
+    private final RedisKeyManager redisKeyManager;
+    private final boolean redisRouting;
+
+    public UserDestinationRouter(SimpMessagingTemplate messagingTemplate,
+                                 RedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                                 ChatEventEnvelopeCodec envelopeCodec,
+                                 RedisKeyManager redisKeyManager,
+                                 @Value("${chat.websocket.user-destination:local}") String mode) {
+        this.messagingTemplate = messagingTemplate;
+        this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+        this.envelopeCodec = envelopeCodec;
+        this.redisKeyManager = redisKeyManager;
+        this.redisRouting = REDIS_MODE.equalsIgnoreCase(mode);
+    }
+
+    public void convertAndSendToUser(String user, String destination, Object payload) {
+        if (!redisRouting) {
+            messagingTemplate.convertAndSendToUser(user, destination, payload);
+            return;
+        }
+
+        try {
+            byte[] envelope = envelopeCodec.encode(destination, payload);
+            byteArrayRedisTemplate.convertAndSend(redisKeyManager.getUserQueueChannel(Long.parseLong(user)), envelope);
+        } catch (Exception e) {
+            // 라우팅 실패 시 최소한 현재 노드의 세션에는 전달
+            log.warn("Failed to route {} for user {} via Redis: {}", destination, user, e.getMessage());
+            messagingTemplate.convertAndSendToUser(user, destination, payload);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.mindmate.mindmate_server.chat.util;
+
+import com.mindmate.mindmate_server.chat.domain.ChatRoom;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 트랜잭션(= HTTP 요청 / STOMP 프레임 처리) 단위 채팅방 접근 컨텍스트
+ * 같은 트랜잭션에서 findChatRoomById, validateChatActivity, validateChatRead가 반복 호출돼도
+ * 채팅방(+ matching, creator, acceptedUser)은 한 번만 조회
+ * 트랜잭션 밖에서는 캐싱 없이 매번 조회
+ */
+public final class ChatAccessContext {
+    private static final Object RESOURCE_KEY = ChatAccessContext.class;
+
+    private ChatAccessContext() {
+    }
+
+    public static ChatRoom getChatRoom(Long roomId, Function<Long, ChatRoom> loader) {
+        Map<Long, ChatRoom> chatRooms = currentChatRooms();
+        if (chatRooms == null) {
+            return loader.apply(roomId);
+        }
+
+        ChatRoom chatRoom = chatRooms.get(roomId);
+        if (chatRoom == null) {
+            chatRoom = loader.apply(roomId);
+            chatRooms.put(roomId, chatRoom);
+        }
+        return chatRoom;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, ChatRoom> currentChatRooms() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Map<Long, ChatRoom> chatRooms = (Map<Long, ChatRoom>) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (chatRooms == null) {
+            Map<Long, ChatRoom> newChatRooms = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(RESOURCE_KEY, newChatRooms);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+                }
+            });
+            chatRooms = newChatRooms;
+        }
+        return chatRooms;
+    }
+}
@@ -0,0 +1,96 @@
+package com.mindmate.mindmate_server.chat.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmate.mindmate_server.chat.dto.ChatEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 채팅방 이벤트 / 사용자 목적지 메시지 Redis fan-out 용 바이너리 엔벨로프
+ * [MAGIC][VERSION][헤더 길이][헤더(ASCII, 이벤트 타입 또는 사용자 목적지)][data JSON(UTF-8)]
+ * - 발행 시 data 를 한 번만 직렬화, 수신 노드는 JSON 파싱 없이 payload 바이트를 그대로 STOMP 로 전달
+ * - MAGIC(0xC1)은 UTF-8 에 나올 수 없는 바이트 -> 기존 JSON 문자열 메시지와 구분 가능 (롤링 배포 중 혼재 대비)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatEventEnvelopeCodec {
+    static final byte MAGIC = (byte) 0xC1;
+    static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 3;
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(ChatEventType type, Object data) throws JsonProcessingException {
+        return encode(type.name(), data);
+    }
+
+    public byte[] encode(String header, Object data) throws JsonProcessingException {
+        byte[] headerBytes = header.getBytes(StandardCharsets.US_ASCII);
+        if (headerBytes.length > 0xFF) {
+            throw new IllegalArgumentException("Chat event envelope header too long: " + header);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(headerBytes.length);
+        out.write(headerBytes, 0, headerBytes.length);
+
+        try {
+            objectMapper.writeValue(out, data);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // ByteArrayOutputStream 은 I/O 예외를 던지지 않음
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public boolean isEnvelope(byte[] body) {
+        return body != null && body.length >= HEADER_SIZE && body[0] == MAGIC;
+    }
+
+    public Envelope decode(byte[] body) {
+        if (!isEnvelope(body)) {
+            throw new IllegalArgumentException("Not a chat event envelope");
+        }
+        if (body[1] != VERSION) {
+            throw new IllegalArgumentException("Unsupported chat event envelope version: " + body[1]);
+        }
+
+        int headerLength = body[2] & 0xFF;
+        int payloadOffset = HEADER_SIZE + headerLength;
+        if (payloadOffset > body.length) {
+            throw new IllegalArgumentException("Truncated chat event envelope");
+        }
+
+        String header = new String(body, HEADER_SIZE, headerLength, StandardCharsets.US_ASCII);
+        return new Envelope(header, Arrays.copyOfRange(body, payloadOffset, body.length));
+    }
+
+    /**
+     * 이미 직렬화된 JSON 바이트를 메시지 컨버터를 거치지 않고 그대로 전달하기 위한 STOMP 메시지
+     */
+    public Message<byte[]> toStompMessage(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    public record Envelope(String header, byte[] payload) {
+    }
+}
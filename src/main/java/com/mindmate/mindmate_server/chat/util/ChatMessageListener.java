@@ -3,6 +3,7 @@ package com.mindmate.mindmate_server.chat.util;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmate.mindmate_server.chat.service.PresenceNearCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -21,6 +22,8 @@ public class ChatMessageListener implements MessageListener {
     private final SimpMessagingTemplate messagingTemplate;
     private final ObjectMapper objectMapper;
     private final WebSocketDestinationResolver webSocketDestinationResolver;
+    private final ChatEventEnvelopeCodec envelopeCodec;
+    private final PresenceNearCache presenceNearCache;
 
     /**
      * Redis 채널에서 메시지 수신
@@ -30,13 +33,19 @@ public class ChatMessageListener implements MessageListener {
     public void onMessage(Message message, byte[] pattern) {
         try {
             String channel = new String(message.getChannel());
-            String payload = new String(message.getBody());
+            byte[] body = message.getBody();
             log.debug("Received Redis message on channel: {}", channel);
 
             if (channel.startsWith("chat:room:")) {
-                handleChatRoomMessage(channel, payload);
+                if (envelopeCodec.isEnvelope(body)) {
+                    handleChatRoomEnvelope(channel, body);
+                } else {
+                    handleChatRoomMessage(channel, new String(body));
+                }
             } else if (channel.startsWith("user:status:")) {
-                handleUserStatusMessage(channel, payload);
+                handleUserStatusMessage(channel, new String(body));
+            } else if (channel.startsWith("user:queue:")) {
+                handleUserQueueMessage(channel, body);
             }
         } catch (Exception e) {
             log.error("Error processing Redis message", e);
@@ -44,7 +53,23 @@ public class ChatMessageListener implements MessageListener {
     }
 
     /**
-     * 채팅방 메시지: WebSocket을 통해 클라이언트에게 전달
+     * 채팅방 이벤트 엔벨로프: 헤더의 이벤트 타입으로 목적지 결정
+     * 발행 시 직렬화된 data 바이트를 JSON 파싱/재직렬화 없이 그대로 전달
+     */
+    private void handleChatRoomEnvelope(String channel, byte[] body) {
+        String roomId = channel.split(":")[2];
+
+        try {
+            ChatEventEnvelopeCodec.Envelope envelope = envelopeCodec.decode(body);
+            String destination = webSocketDestinationResolver.getDestinationByEventType(roomId, envelope.header());
+            messagingTemplate.send(destination, envelopeCodec.toStompMessage(envelope.payload()));
+        } catch (Exception e) {
+            log.error("Error handling chat room envelope: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 채팅방 메시지(기존 JSON 문자열 형식): WebSocket을 통해 클라이언트에게 전달
      * 이벤트 타입에 따라 적절한 목적지로 라우팅 실행
      */
     private void handleChatRoomMessage(String channel, String payload) throws JsonProcessingException {
@@ -85,11 +110,26 @@ public class ChatMessageListener implements MessageListener {
 
 
     /**
-     * 사용자 상태 메시지: 상태 변경 알림 전송
+     * 사용자 목적지 메시지: 다른 노드에서 라우팅된 /user/queue/** 메시지를 로컬 세션에 전달
+     * 엔벨로프 헤더가 사용자 목적지, payload 는 직렬화된 JSON 바이트
+     */
+    private void handleUserQueueMessage(String channel, byte[] body) {
+        try {
+            String userId = channel.split(":")[2];
+            ChatEventEnvelopeCodec.Envelope envelope = envelopeCodec.decode(body);
+            messagingTemplate.send("/user/" + userId + envelope.header(), envelopeCodec.toStompMessage(envelope.payload()));
+        } catch (Exception e) {
+            log.error("Error handling user queue message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 상태 메시지: 로컬 접속 상태 캐시 갱신 후 상태 변경 알림 전송
      */
     private void handleUserStatusMessage(String channel, String payload) {
         try {
             String userId = channel.split(":")[2];
+            presenceNearCache.applyStatusEvent(Long.parseLong(userId), payload);
             messagingTemplate.convertAndSend("/topic/user/" + userId + "/status", payload);
         } catch (Exception e) {
             log.error("Error handling user status message: {}", e.getMessage());
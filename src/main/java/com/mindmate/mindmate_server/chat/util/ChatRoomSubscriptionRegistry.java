@@ -0,0 +1,209 @@
+package com.mindmate.mindmate_server.chat.util;
+
+import com.mindmate.mindmate_server.chat.service.UserDestinationRouter;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드별 Redis 채널 구독 관리 (chat.redis.subscription-affinity=true, 기본값)
+ * - 로컬 STOMP 세션이 채팅방/사용자 상태 topic 을 구독하는 동안에만 해당 Redis 채널(chat:room:{id}, user:status:{id}) 구독
+ * - 사용자 목적지 redis 모드에서는 /user/queue/** 구독 시 user:queue:{userId} 도 구독 -> 사용자 소유 노드로 라우팅
+ * - SUBSCRIBE / UNSUBSCRIBE / 연결 종료 시 채널별 참조 카운트 증감, 0 이 되면 Redis 구독 해제
+ * -> 노드의 fan-out 작업량이 클러스터 전체 트래픽이 아니라 로컬 세션 수에 비례
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.redis.subscription-affinity", havingValue = "true", matchIfMissing = true)
+public class ChatRoomSubscriptionRegistry {
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chat.room.";
+    private static final String USER_STATUS_DESTINATION_PREFIX = "/topic/user/";
+    private static final String USER_STATUS_DESTINATION_SUFFIX = "/status";
+    private static final String USER_QUEUE_DESTINATION_PREFIX = "/user/queue/";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ChatMessageListener chatMessageListener;
+    private final RedisKeyManager redisKeyManager;
+
+    @Value("${chat.websocket.user-destination:local}")
+    private String userDestinationMode;
+
+    // sessionId -> (subscriptionId -> Redis 채널)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // Redis 채널 -> 로컬 구독 상태
+    private final Map<String, ChannelSubscription> channelSubscriptions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String channel = resolveChannel(accessor.getDestination(), event.getUser());
+
+        if (sessionId == null || subscriptionId == null || channel == null) {
+            return;
+        }
+
+        try {
+            acquire(channel);
+        } catch (Exception e) {
+            log.warn("Failed to subscribe to Redis channel {}: {}", channel, e.getMessage());
+            return;
+        }
+
+        // Redis 구독이 성공한 뒤에만 세션 매핑 기록 -> 실패한 구독이 해제 대상으로 남지 않음
+        String previous = sessionSubscriptions
+                .computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, channel);
+        if (previous != null) {
+            // 같은 subscriptionId 재사용 -> 이전 구독은 해제된 것으로 간주
+            release(previous);
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String channel = subscriptions.remove(accessor.getSubscriptionId());
+        if (channel != null) {
+            release(channel);
+        }
+    }
+
+    /**
+     * 연결 종료 이벤트는 한 세션에 여러 번 발생할 수 있음 -> 세션 항목을 먼저 제거해서 한 번만 해제
+     */
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    public int getLocalSubscriptionCount(String channel) {
+        ChannelSubscription subscription = channelSubscriptions.get(channel);
+        return subscription == null ? 0 : subscription.refCount;
+    }
+
+    /**
+     * 참조 카운트만 compute 안에서 변경하고, Redis SUBSCRIBE 는 compute 밖에서 실행
+     * 실패 시 카운트를 되돌리고 예외 전파
+     */
+    private void acquire(String channel) {
+        ChannelSubscription subscription = channelSubscriptions.compute(channel, (key, current) -> {
+            ChannelSubscription target = current != null ? current : new ChannelSubscription();
+            target.refCount++;
+            return target;
+        });
+
+        try {
+            synchronize(channel, subscription);
+        } catch (RuntimeException e) {
+            release(channel);
+            throw e;
+        }
+    }
+
+    private void release(String channel) {
+        ChannelSubscription subscription = channelSubscriptions.computeIfPresent(channel, (key, current) -> {
+            current.refCount--;
+            return current;
+        });
+
+        if (subscription != null) {
+            synchronize(channel, subscription);
+        }
+    }
+
+    /**
+     * 채널별 모니터 안에서 현재 참조 카운트에 맞춰 Redis 구독 상태를 맞춤
+     * - 같은 채널의 SUBSCRIBE / UNSUBSCRIBE 는 순서대로 실행, 다른 채널과 맵 버킷은 블로킹하지 않음
+     * - 구독 해제된 항목은 카운트가 여전히 0 일 때만 맵에서 제거 -> 사이에 들어온 구독은 같은 항목에서 다시 구독
+     */
+    private void synchronize(String channel, ChannelSubscription subscription) {
+        synchronized (subscription) {
+            boolean needed = subscription.refCount > 0;
+            if (needed && !subscription.subscribed) {
+                redisMessageListenerContainer.addMessageListener(chatMessageListener, new ChannelTopic(channel));
+                subscription.subscribed = true;
+                log.debug("Subscribed to Redis channel {}", channel);
+            } else if (!needed && subscription.subscribed) {
+                try {
+                    redisMessageListenerContainer.removeMessageListener(chatMessageListener, new ChannelTopic(channel));
+                    log.debug("Unsubscribed from Redis channel {}", channel);
+                } catch (Exception e) {
+                    log.warn("Failed to unsubscribe from Redis channel {}: {}", channel, e.getMessage());
+                }
+                subscription.subscribed = false;
+            }
+
+            if (!subscription.subscribed) {
+                channelSubscriptions.computeIfPresent(channel, (key, current) ->
+                        current == subscription && current.refCount == 0 ? null : current);
+            }
+        }
+    }
+
+    /**
+     * STOMP 목적지 -> Redis 채널
+     * /topic/chat.room.{roomId}[.read|.reaction|...] -> chat:room:{roomId}
+     * /topic/user/{userId}/status -> user:status:{userId}
+     * /user/queue/** -> user:queue:{principal} (redis 모드)
+     */
+    String resolveChannel(String destination, Principal user) {
+        if (destination == null) {
+            return null;
+        }
+
+        try {
+            if (destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+                String rest = destination.substring(ROOM_DESTINATION_PREFIX.length());
+                int end = rest.indexOf('.');
+                Long roomId = Long.parseLong(end < 0 ? rest : rest.substring(0, end));
+                return redisKeyManager.getChatRoomChannel(roomId);
+            }
+
+            if (destination.startsWith(USER_STATUS_DESTINATION_PREFIX) && destination.endsWith(USER_STATUS_DESTINATION_SUFFIX)) {
+                String userId = destination.substring(USER_STATUS_DESTINATION_PREFIX.length(),
+                        destination.length() - USER_STATUS_DESTINATION_SUFFIX.length());
+                return redisKeyManager.getUserStatusChannel(Long.parseLong(userId));
+            }
+
+            if (destination.startsWith(USER_QUEUE_DESTINATION_PREFIX) && user != null
+                    && UserDestinationRouter.REDIS_MODE.equalsIgnoreCase(userDestinationMode)) {
+                return redisKeyManager.getUserQueueChannel(Long.parseLong(user.getName()));
+            }
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring subscription to unrecognized destination {}", destination);
+        }
+        return null;
+    }
+
+    private static final class ChannelSubscription {
+        // compute 안에서만 변경
+        private volatile int refCount;
+        // 모니터 안에서만 변경
+        private volatile boolean subscribed;
+    }
+}
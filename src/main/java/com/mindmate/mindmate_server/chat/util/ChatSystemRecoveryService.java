@@ -1,60 +1,95 @@
 package com.mindmate.mindmate_server.chat.util;
 
-import com.mindmate.mindmate_server.chat.domain.ChatRoom;
-import com.mindmate.mindmate_server.chat.dto.ChatRoomResponse;
 import com.mindmate.mindmate_server.chat.repository.ChatRoomRepository;
-import com.mindmate.mindmate_server.chat.service.ChatRoomService;
+import com.mindmate.mindmate_server.chat.service.UnreadCountWriteBehindService;
 import com.mindmate.mindmate_server.global.util.RedisKeyManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
 
 @Component
+@Slf4j
 @RequiredArgsConstructor
 // todo : implements ApplicationListener<ApplicationReadyEvent>
 public class ChatSystemRecoveryService  {
-    private final ChatRoomService chatRoomService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final RedisKeyManager redisKeyManager;
+    private static final String PARTICIPANTS_BACKFILL = "chat-room-participants";
+    private static final String LAST_MESSAGE_BACKFILL = "chat-room-last-message";
 
+    private final UnreadCountWriteBehindService unreadCountWriteBehindService;
     private final ChatRoomRepository chatRoomRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisKeyManager redisKeyManager;
+
+    /**
+     * 채팅방 목록용 참여자 테이블 누락분 보정 (최초 1회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillChatRoomParticipants() {
+        runOnce(PARTICIPANTS_BACKFILL, chatRoomRepository::backfillParticipants,
+                "Backfilled {} chat room participants");
+    }
+
+    /**
+     * 마지막 메시지 스냅샷 누락분 보정 (최초 1회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLastMessageSnapshots() {
+        runOnce(LAST_MESSAGE_BACKFILL, chatRoomRepository::backfillLastMessageSnapshots,
+                "Backfilled last message snapshot for {} chat rooms");
+    }
+
+    /**
+     * 일회성 데이터 보정 -> 완료 표시가 있으면 건너뜀 (평상시 기동에서는 전체 테이블 보정 쿼리 실행 x)
+     * 보정 쿼리는 멱등이므로 여러 노드가 동시에 처음 기동해 함께 실행되어도 안전
+     * 실패 시 완료 표시를 남기지 않음 -> 다음 기동에서 재시도
+     */
+    private void runOnce(String migration, IntSupplier backfill, String completedMessage) {
+        String markerKey = redisKeyManager.getDataMigrationKey(migration);
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(markerKey))) {
+                return;
+            }
+
+            int updated = backfill.getAsInt();
+            if (updated > 0) {
+                log.info(completedMessage, updated);
+            }
+            stringRedisTemplate.opsForValue().set(markerKey, LocalDateTime.now().toString());
+        } catch (Exception e) {
+            log.error("Failed to run data migration {}", migration, e);
+        }
+    }
 
     /**
-     * 애플리케이션 시작 시 Redis에 DB 값 동기화
+     * 애플리케이션 시작 시 밀려있는 미읽음 카운트 DB 반영
      */
 //    @Override
 //    public void onApplicationEvent(ApplicationReadyEvent event) {
-//        recoverUnreadCountsFromDb();
+//        reconcileDirtyUnreadCounts();
 //    }
 
     /**
      * 자동 장애 복구
+     * Redis가 미읽음 카운트의 원본이므로 DB -> Redis 전체 덮어쓰기 x
+     * 변경이 기록된(dirty) 채팅방만 남김없이 DB에 반영
      */
     @Scheduled(fixedRate = 1800000)
     public void scheduledRecovery() {
-        recoverUnreadCountsFromDb();
+        reconcileDirtyUnreadCounts();
     }
 
-    private void recoverUnreadCountsFromDb() {
-        List<ChatRoom> chatRooms = chatRoomRepository.findAll();
-        for (ChatRoom room : chatRooms) {
-            String listenerUnreadKey = redisKeyManager.getUnreadCountKey(
-                    room.getId(),
-                    // todo : LazyInitializationException 발생
-                    room.getListener().getId()
-            );
-            redisTemplate.opsForValue().set(listenerUnreadKey, String.valueOf(room.getListenerUnreadCount()));
-
-            String speakerUnreadKey = redisKeyManager.getUnreadCountKey(
-                    room.getId(),
-                    room.getSpeaker().getId()
-            );
-            redisTemplate.opsForValue().set(speakerUnreadKey, String.valueOf(room.getSpeakerUnreadCount()));
+    private void reconcileDirtyUnreadCounts() {
+        int reconciled = unreadCountWriteBehindService.flushAll();
+        if (reconciled > 0) {
+            log.info("Reconciled unread counts for {} dirty rooms", reconciled);
         }
     }
 }
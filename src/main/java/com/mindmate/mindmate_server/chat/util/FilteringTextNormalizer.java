@@ -0,0 +1,189 @@
+package com.mindmate.mindmate_server.chat.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * 필터링 전용 텍스트 정규화 (단일 패스)
+ * - 공백/구두점/기호/결합 문자/제로폭 문자 제거 -> "씨 발", "씨.발", "씨​발" 우회 차단
+ * - 비 ASCII 문자는 코드포인트 단위 NFKC -> 전각 문자, 수학 기호형 영문 등을 기본 문자로
+ * - 조합형 자모(U+1100~) 는 NFC 와 동일하게 음절로 합성
+ * - decomposeJamo 사용 시 모든 한글을 호환 자모(ㄱ, ㅏ ...)로 분해 -> "ㅅㅣㅂㅏㄹ" 같은 자모 분리 우회 대응
+ * 사전 단어도 같은 정규화를 거치므로 변형마다 금칙어를 추가할 필요 없음
+ */
+public class FilteringTextNormalizer {
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final int CHO_BASE = 0x1100;
+    private static final int CHO_END = 0x1112;
+    private static final int JUNG_BASE = 0x1161;
+    private static final int JUNG_END = 0x1175;
+    private static final int JONG_BASE = 0x11A7;
+    private static final int JONG_END = 0x11C2;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ"; // 0번은 받침 없음
+
+    private final boolean decomposeJamo;
+
+    public FilteringTextNormalizer(boolean decomposeJamo) {
+        this.decomposeJamo = decomposeJamo;
+    }
+
+    public String normalize(String text) {
+        Output out = new Output(text.length());
+
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+
+            if (codePoint < 0x80 || isHangul(codePoint)) {
+                emit(out, codePoint);
+            } else {
+                String compat = Normalizer.normalize(text.substring(i, next), Normalizer.Form.NFKC);
+                for (int j = 0; j < compat.length(); ) {
+                    int normalized = compat.codePointAt(j);
+                    emit(out, normalized);
+                    j += Character.charCount(normalized);
+                }
+            }
+            i = next;
+        }
+        return out.build();
+    }
+
+    private void emit(Output out, int codePoint) {
+        if (isSeparator(codePoint)) {
+            return;
+        }
+
+        if (codePoint >= SYLLABLE_BASE && codePoint <= SYLLABLE_END) {
+            if (decomposeJamo) {
+                int index = codePoint - SYLLABLE_BASE;
+                out.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)));
+                out.append(JUNG.charAt(index % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT));
+                if (index % JONG_COUNT != 0) {
+                    out.append(JONG.charAt(index % JONG_COUNT));
+                }
+            } else {
+                out.append((char) codePoint);
+            }
+            return;
+        }
+
+        if (codePoint >= CHO_BASE && codePoint <= JONG_END) {
+            emitConjoiningJamo(out, codePoint);
+            return;
+        }
+
+        out.appendCodePoint(Character.toLowerCase(codePoint));
+    }
+
+    // 조합형 자모: 분해 모드는 호환 자모로, 음절 모드는 직전 문자와 NFC 합성
+    private void emitConjoiningJamo(Output out, int codePoint) {
+        if (decomposeJamo) {
+            if (codePoint <= CHO_END) {
+                out.append(CHO.charAt(codePoint - CHO_BASE));
+            } else if (codePoint >= JUNG_BASE && codePoint <= JUNG_END) {
+                out.append(JUNG.charAt(codePoint - JUNG_BASE));
+            } else if (codePoint > JONG_BASE) {
+                out.append(JONG.charAt(codePoint - JONG_BASE));
+            } else {
+                out.appendCodePoint(codePoint);
+            }
+            return;
+        }
+
+        char last = out.last();
+        if (codePoint >= JUNG_BASE && codePoint <= JUNG_END && last >= CHO_BASE && last <= CHO_END) {
+            int syllable = SYLLABLE_BASE + ((last - CHO_BASE) * JUNG_COUNT + (codePoint - JUNG_BASE)) * JONG_COUNT;
+            out.replaceLast((char) syllable);
+        } else if (codePoint > JONG_BASE && last >= SYLLABLE_BASE && last <= SYLLABLE_END
+                && (last - SYLLABLE_BASE) % JONG_COUNT == 0) {
+            out.replaceLast((char) (last + (codePoint - JONG_BASE)));
+        } else {
+            out.appendCodePoint(codePoint);
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return (codePoint >= SYLLABLE_BASE && codePoint <= SYLLABLE_END)
+                || (codePoint >= 0x3131 && codePoint <= 0x318E)
+                || (codePoint >= CHO_BASE && codePoint <= 0x11FF);
+    }
+
+    private static boolean isSeparator(int codePoint) {
+        // 한글 채움 문자는 Lo 로 분류되지만 보이지 않으므로 제거
+        if (codePoint == 0x3164 || codePoint == 0x115F || codePoint == 0x1160 || codePoint == 0xFFA0) {
+            return true;
+        }
+        if (Character.isWhitespace(codePoint)) {
+            return true;
+        }
+
+        switch (Character.getType(codePoint)) {
+            case Character.SPACE_SEPARATOR:
+            case Character.LINE_SEPARATOR:
+            case Character.PARAGRAPH_SEPARATOR:
+            case Character.CONTROL:
+            case Character.FORMAT:
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+            case Character.MATH_SYMBOL:
+            case Character.CURRENCY_SYMBOL:
+            case Character.MODIFIER_SYMBOL:
+            case Character.OTHER_SYMBOL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static final class Output {
+        private char[] chars;
+        private int length;
+
+        Output(int capacity) {
+            this.chars = new char[Math.max(capacity, 16)];
+        }
+
+        void appendCodePoint(int codePoint) {
+            if (Character.isBmpCodePoint(codePoint)) {
+                append((char) codePoint);
+            } else {
+                append(Character.highSurrogate(codePoint));
+                append(Character.lowSurrogate(codePoint));
+            }
+        }
+
+        void append(char c) {
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+            chars[length++] = c;
+        }
+
+        char last() {
+            return length == 0 ? 0 : chars[length - 1];
+        }
+
+        void replaceLast(char c) {
+            chars[length - 1] = c;
+        }
+
+        String build() {
+            return new String(chars, 0, length);
+        }
+    }
+}
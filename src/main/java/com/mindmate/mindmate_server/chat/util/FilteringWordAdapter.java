@@ -1,25 +1,24 @@
 package com.mindmate.mindmate_server.chat.util;
 
 import com.mindmate.mindmate_server.chat.domain.FilteringWord;
-import com.mindmate.mindmate_server.chat.service.AhoCorasickMatcher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 @Component
 public class FilteringWordAdapter {
-    private final AhoCorasickMatcher<FilteringWord> matcher;
+    private final MessageKeywordScanner scanner;
 
-    public FilteringWordAdapter(AhoCorasickMatcher<FilteringWord> matcher) {
-        this.matcher = matcher;
+    public FilteringWordAdapter(MessageKeywordScanner scanner) {
+        this.scanner = scanner;
     }
 
     public void initialize(List<FilteringWord> keywords) {
-        matcher.initialize(keywords, FilteringWord::getWord, FilteringWord::isActive);
+        scanner.updateFilteringWords(keywords);
     }
 
     public boolean isFiltered(String content) {
-        return matcher.findFirstMatch(content).isPresent();
+        return scanner.isFiltered(content);
     }
 
 }
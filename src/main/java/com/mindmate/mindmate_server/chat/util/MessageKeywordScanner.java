@@ -0,0 +1,79 @@
+package com.mindmate.mindmate_server.chat.util;
+
+import com.mindmate.mindmate_server.chat.domain.FilteringWord;
+import com.mindmate.mindmate_server.chat.domain.ToastBoxKeyword;
+import com.mindmate.mindmate_server.chat.dto.KeywordScanResult;
+import com.mindmate.mindmate_server.chat.service.KeywordMatcher;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 전송 경로에서 필터링 단어 + 토스트 박스 키워드를 한 번에 확인하는 스캐너
+ * - 필터링 단어: 정규화된 텍스트 기준 매칭 (구분자 제거, 자모 분해 등 우회 대응)
+ * - 토스트 박스 키워드: 기존과 같이 원문 기준 매칭 -> 필터 정규화 규칙이 토스트 박스 노출 조건을 바꾸지 않음
+ * - 사전별 매처는 스냅샷 교체로 갱신 -> 한쪽 사전 갱신이 다른 쪽에 영향 없음
+ */
+public class MessageKeywordScanner {
+    private final KeywordMatcher<FilteringWord> filteringMatcher;
+    private final KeywordMatcher<ToastBoxKeyword> toastBoxMatcher;
+    private final FilteringTextNormalizer normalizer;
+
+    public MessageKeywordScanner(KeywordMatcher<FilteringWord> filteringMatcher,
+                                 KeywordMatcher<ToastBoxKeyword> toastBoxMatcher,
+                                 FilteringTextNormalizer normalizer) {
+        this.filteringMatcher = filteringMatcher;
+        this.toastBoxMatcher = toastBoxMatcher;
+        this.normalizer = normalizer;
+        updateFilteringWords(List.of());
+        updateToastBoxKeywords(List.of());
+    }
+
+    // 사전 단어와 메시지를 같은 규칙으로 정규화해야 매칭됨 -> 정규화 후 비어버리는 단어는 제외
+    public void updateFilteringWords(List<FilteringWord> words) {
+        filteringMatcher.initialize(List.copyOf(words),
+                word -> normalizer.normalize(word.getWord()),
+                word -> word.isActive() && !normalizer.normalize(word.getWord()).isEmpty());
+    }
+
+    public void updateToastBoxKeywords(List<ToastBoxKeyword> keywords) {
+        toastBoxMatcher.initialize(List.copyOf(keywords), ToastBoxKeyword::getKeyword, ToastBoxKeyword::isActive);
+    }
+
+    /**
+     * 필터링 여부만 필요한 경우 -> 첫 매칭에서 바로 종료 (매칭 목록 할당 없음)
+     */
+    public boolean isFiltered(String content) {
+        if (content == null || content.isBlank()) {
+            return false;
+        }
+
+        return filteringMatcher.containsMatch(normalizer.normalize(content));
+    }
+
+    /**
+     * 토스트 박스만 필요한 경우 -> 정규화, 필터 매칭 없이 원문만 탐색
+     */
+    public List<ToastBoxKeyword> findToastBoxKeywords(String content) {
+        if (content == null || content.isBlank()) {
+            return List.of();
+        }
+
+        // 같은 키워드가 여러 번 나와도 토스트 박스는 한 번만
+        return List.copyOf(new LinkedHashSet<>(toastBoxMatcher.searchItems(content)));
+    }
+
+    public KeywordScanResult scan(String content) {
+        if (content == null || content.isBlank()) {
+            return KeywordScanResult.empty();
+        }
+
+        boolean filtered = isFiltered(content);
+        List<ToastBoxKeyword> toastBoxHits = findToastBoxKeywords(content);
+        if (!filtered && toastBoxHits.isEmpty()) {
+            return KeywordScanResult.empty();
+        }
+
+        return new KeywordScanResult(filtered, toastBoxHits);
+    }
+}
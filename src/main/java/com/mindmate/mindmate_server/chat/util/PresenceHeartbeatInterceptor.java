@@ -0,0 +1,42 @@
+package com.mindmate.mindmate_server.chat.util;
+
+import com.mindmate.mindmate_server.chat.service.PresenceTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+
+/**
+ * 인바운드 STOMP 프레임(하트비트 포함)을 접속 유지 신호로 사용 -> 온라인 상태 TTL 갱신
+ * PresenceTracker 는 SimpMessagingTemplate 에 의존하므로 채널 설정 시점의 순환 참조를 피하기 위해 지연 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class PresenceHeartbeatInterceptor implements ChannelInterceptor {
+    private final ObjectProvider<PresenceTracker> presenceTracker;
+
+    @Override
+    public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (!sent || type == SimpMessageType.CONNECT || type == SimpMessageType.DISCONNECT) {
+            return;
+        }
+
+        Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        if (user == null) {
+            return;
+        }
+
+        try {
+            presenceTracker.getObject().touch(Long.parseLong(user.getName()));
+        } catch (NumberFormatException ignored) {
+            // userId 가 아닌 principal 은 대상 아님
+        }
+    }
+}
@@ -1,24 +1,23 @@
 package com.mindmate.mindmate_server.chat.util;
 
 import com.mindmate.mindmate_server.chat.domain.ToastBoxKeyword;
-import com.mindmate.mindmate_server.chat.service.AhoCorasickMatcher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
 @Component
 public class ToastBoxAdapter {
-    private final AhoCorasickMatcher<ToastBoxKeyword> matcher;
+    private final MessageKeywordScanner scanner;
 
-    public ToastBoxAdapter(AhoCorasickMatcher<ToastBoxKeyword> matcher) {
-        this.matcher = matcher;
+    public ToastBoxAdapter(MessageKeywordScanner scanner) {
+        this.scanner = scanner;
     }
 
     public void initialize(List<ToastBoxKeyword> keywords) {
-        matcher.initialize(keywords, ToastBoxKeyword::getKeyword, ToastBoxKeyword::isActive);
+        scanner.updateToastBoxKeywords(keywords);
     }
 
     public List<ToastBoxKeyword> findMatchingKeywords(String content) {
-        return matcher.searchItems(content);
+        return scanner.findToastBoxKeywords(content);
     }
 }
@@ -256,7 +256,7 @@ public class EmoticonServiceImpl implements EmoticonService {
             chatMessage.setEmoticon(emoticon);
 
             ChatMessage savedMessage = chatMessageService.save(chatMessage);
-            chatRoom.updateLastMessageTime();
+            chatRoomService.updateLastMessage(chatRoom, savedMessage);
 
             User recipient = chatRoom.isListener(sender) ? chatRoom.getSpeaker() : chatRoom.getListener();
             boolean isRecipientActive = chatPresenceService.isUserActiveInRoom(recipient.getId(), chatRoom.getId());
@@ -15,6 +15,7 @@ import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.TopicConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -26,6 +27,8 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.retrytopic.DltStrategy;
 import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
 import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
@@ -34,6 +37,7 @@ import org.springframework.kafka.support.EndpointHandlerMethod;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -150,6 +154,23 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Batch Listener Container Factory 생성
+     * poll 단위로 레코드를 받아 처리 -> 실패 시 배치 재시도 후 레코드별로 DLT 전송
+     * (@RetryableTopic은 배치 리스너를 지원하지 않음)
+     */
+    private <T> ConcurrentKafkaListenerContainerFactory<String, T> batchListenerContainerFactory(String groupId, Class<T> valueType, String dltTopicSuffix) {
+        ConcurrentKafkaListenerContainerFactory<String, T> factory = listenerContainerFactory(groupId, valueType);
+        factory.setBatchListener(true);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+                this.<Object>kafkaTemplate(),
+                (record, ex) -> new TopicPartition(record.topic() + dltTopicSuffix, -1)
+        );
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 2L)));
+        return factory;
+    }
+
     /**
      * 토픽 설정
      */
@@ -208,6 +229,22 @@ public class KafkaConfig {
         return listenerContainerFactory("chat-group", ChatMessageEvent.class);
     }
 
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageEvent> unreadCountBatchListenerContainerFactory() {
+        return batchListenerContainerFactory("unread-count-group", ChatMessageEvent.class, "-unread-count-group-dlt");
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageEvent> messageEncryptionBatchListenerContainerFactory() {
+        return batchListenerContainerFactory("message-encryption-group", ChatMessageEvent.class, "-message-encryption-group-dlt");
+    }
+
+    // chat.pipeline.enabled=true 일 때 단계별 컨슈머 그룹을 대신하는 통합 그룹
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageEvent> chatMessagePipelineListenerContainerFactory() {
+        return batchListenerContainerFactory("chat-pipeline-group", ChatMessageEvent.class, "-chat-pipeline-group-dlt");
+    }
+
 
     /**
      * ChatRoomEvent 처리
@@ -256,6 +293,12 @@ public class KafkaConfig {
         return createTopic("chat-message-topic", 3, (short) 1, getDefaultTopicConfigs());
     }
 
+    // 통합 파이프라인 컨슈머 그룹의 DLT (chatMessagePipelineListenerContainerFactory 에러 핸들러가 전송)
+    @Bean
+    public NewTopic chatMessagePipelineDltTopic() {
+        return createTopic("chat-message-topic-chat-pipeline-group-dlt", 3, (short) 1, getDefaultTopicConfigs());
+    }
+
     @Bean
     public NewTopic chatRoomCloseTopic() {
         return createTopic("chat-room-close-topic", 3, (short) 1, getDefaultTopicConfigs());
@@ -3,32 +3,50 @@ package com.mindmate.mindmate_server.global.config;
 import com.mindmate.mindmate_server.chat.domain.FilteringWord;
 import com.mindmate.mindmate_server.chat.domain.ToastBoxKeyword;
 import com.mindmate.mindmate_server.chat.service.AhoCorasickMatcher;
+import com.mindmate.mindmate_server.chat.service.CompiledAhoCorasickMatcher;
+import com.mindmate.mindmate_server.chat.service.KeywordMatcher;
+import com.mindmate.mindmate_server.chat.util.FilteringTextNormalizer;
 import com.mindmate.mindmate_server.chat.util.FilteringWordAdapter;
+import com.mindmate.mindmate_server.chat.util.MessageKeywordScanner;
 import com.mindmate.mindmate_server.chat.util.ToastBoxAdapter;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class MatcherConfig {
+    // true: 평면 배열 기반 오토마타 / false: 기존 HashMap 노드 기반 매처
+    @Value("${chat.matcher.compiled:true}")
+    private boolean compiled;
+
+    // true: 한글을 자모 단위로 분해해서 매칭 (자모 분리 우회 대응, 오탐 가능성 증가)
+    @Value("${chat.filter.normalize.decompose-jamo:false}")
+    private boolean decomposeJamo;
+
     @Bean
-    public AhoCorasickMatcher<FilteringWord> filteringMatcher() {
-        return new AhoCorasickMatcher();
+    public FilteringTextNormalizer filteringTextNormalizer() {
+        return new FilteringTextNormalizer(decomposeJamo);
     }
 
+    // 필터링 단어 + 토스트 박스 키워드 통합 스캐너 -> 전송 시 메시지당 1회 호출
     @Bean
-    @Qualifier("toastBoxMatcher")
-    public AhoCorasickMatcher<ToastBoxKeyword> toastBoxMatcher() {
-        return new AhoCorasickMatcher();
+    public MessageKeywordScanner messageKeywordScanner(FilteringTextNormalizer filteringTextNormalizer) {
+        KeywordMatcher<FilteringWord> filteringMatcher = createMatcher();
+        KeywordMatcher<ToastBoxKeyword> toastBoxMatcher = createMatcher();
+        return new MessageKeywordScanner(filteringMatcher, toastBoxMatcher, filteringTextNormalizer);
     }
 
     @Bean
-    public FilteringWordAdapter filteringWordAdapter(AhoCorasickMatcher<FilteringWord> filteringMatcher) {
-        return new FilteringWordAdapter(filteringMatcher);
+    public FilteringWordAdapter filteringWordAdapter(MessageKeywordScanner messageKeywordScanner) {
+        return new FilteringWordAdapter(messageKeywordScanner);
     }
 
     @Bean
-    public ToastBoxAdapter toastBoxAdapter(@Qualifier("toastBoxMatcher") AhoCorasickMatcher<ToastBoxKeyword> toastBoxMatcher) {
-        return new ToastBoxAdapter(toastBoxMatcher);
+    public ToastBoxAdapter toastBoxAdapter(MessageKeywordScanner messageKeywordScanner) {
+        return new ToastBoxAdapter(messageKeywordScanner);
+    }
+
+    private <T> KeywordMatcher<T> createMatcher() {
+        return compiled ? new CompiledAhoCorasickMatcher<>() : new AhoCorasickMatcher<>();
     }
 }
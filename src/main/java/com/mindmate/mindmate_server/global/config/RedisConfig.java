@@ -1,5 +1,7 @@
 package com.mindmate.mindmate_server.global.config;
 
+import com.mindmate.mindmate_server.chat.service.ChatRoomAccessCache;
+import com.mindmate.mindmate_server.chat.service.ContentFilterService;
 import com.mindmate.mindmate_server.chat.util.ChatMessageListener;
 import com.mindmate.mindmate_server.global.util.SuspensionExpirationListener;
 import com.mindmate.mindmate_server.user.service.UserService;
@@ -12,10 +14,12 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -27,6 +31,10 @@ public class RedisConfig {
     @Value("${spring.redis.port}")
     private int redisPort;
 
+    // true: 로컬 세션이 구독 중인 채널만 구독 (ChatRoomSubscriptionRegistry), false: 전체 패턴 구독
+    @Value("${chat.redis.subscription-affinity:true}")
+    private boolean subscriptionAffinity;
+
     /**
      * Redis 서버와의 연결 관리
      * LettuceConnectionFactory
@@ -73,6 +81,20 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 바이트 배열 템플릿 (value 는 직렬화 없이 그대로 전송)
+     * 채팅방 이벤트 엔벨로프 발행용
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> byteArrayRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
     /**
      * Redis 구독 설정
      * 채팅방별 채널 구독 설정?ㅇ
@@ -81,12 +103,19 @@ public class RedisConfig {
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             ChatMessageListener chatMessageListener,
+            ChatRoomAccessCache chatRoomAccessCache,
+            ContentFilterService contentFilterService,
             SuspensionExpirationListener suspensionExpirationListener) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
 
-        container.addMessageListener(chatMessageListener, new PatternTopic("chat:room:*")); // 채팅방 관련 이벤트 구독
-        container.addMessageListener(chatMessageListener, new PatternTopic("user:status:*")); // 사용자 상태 관련 이벤트 구독
+        if (!subscriptionAffinity) {
+            container.addMessageListener(chatMessageListener, new PatternTopic("chat:room:*")); // 채팅방 관련 이벤트 구독
+            container.addMessageListener(chatMessageListener, new PatternTopic("user:status:*")); // 사용자 상태 관련 이벤트 구독
+            container.addMessageListener(chatMessageListener, new PatternTopic("user:queue:*")); // 사용자 목적지 라우팅 (redis 모드)
+        }
+        container.addMessageListener(chatRoomAccessCache, new ChannelTopic("chat:access:invalidate")); // 채팅방 권한 스냅샷 무효화
+        container.addMessageListener(contentFilterService, new ChannelTopic("chat:filtering:refresh")); // 필터링 단어 사전 갱신
 
         // 키 만료 이벤트 구독 설정 -> 키 만료됨에 따라 자동적으로 unsuspension 용도
         container.addMessageListener(suspensionExpirationListener, new PatternTopic("__keyevent@*__:expired"));;
@@ -2,6 +2,7 @@ package com.mindmate.mindmate_server.global.config;
 
 import com.mindmate.mindmate_server.auth.util.JwtTokenProvider;
 import com.mindmate.mindmate_server.chat.domain.UserPrincipal;
+import com.mindmate.mindmate_server.chat.util.PresenceHeartbeatInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -32,6 +33,7 @@ import java.util.List;
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JwtTokenProvider jwtTokenProvider;
+    private final PresenceHeartbeatInterceptor presenceHeartbeatInterceptor;
     /**
      * WebSocket 연결 관리 정리
      * 1. 연결 시점: 클라이언트가 /ws 엔드포인트로 연결 요청 시
@@ -131,7 +133,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 }
                 return message;
             }
-        });
+        }, presenceHeartbeatInterceptor); // 하트비트 등 인바운드 프레임으로 접속 상태 TTL 갱신
     }
 
 }
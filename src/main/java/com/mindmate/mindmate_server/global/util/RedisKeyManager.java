@@ -7,9 +7,9 @@ import java.time.LocalDate;
 
 @Component
 public class RedisKeyManager {
-    // 사용자 상태 관련 키
-    public String getUserStatusKey(Long userId) {
-        return "user:status:" + userId;
+    // 사용자 접속 상태 키 (PresenceTracker 압축 형식)
+    public String getUserPresenceKey(Long userId) {
+        return "user:presence:" + userId;
     }
 
     // 읽지 않은 메시지 카운트 관련 키
@@ -17,16 +17,41 @@ public class RedisKeyManager {
         return "chat:room:" + roomId + ":unread:" + userId;
     }
 
+    // DB 반영 대기 중인 미읽음 카운트 채팅방 목록 (write-behind)
+    public String getUnreadDirtyRoomsKey() {
+        return "chat:unread:dirty";
+    }
+
+    // 일회성 데이터 보정 완료 표시
+    public String getDataMigrationKey(String migration) {
+        return "migration:done:" + migration;
+    }
+
     // 채팅방 채널 키
     public String getChatRoomChannel(Long roomId) {
         return "chat:room:" + roomId;
     }
 
+    // 채팅방 권한 스냅샷 무효화 채널
+    public String getChatRoomAccessChannel() {
+        return "chat:access:invalidate";
+    }
+
+    // 필터링 단어 사전 갱신 채널
+    public String getFilteringWordChannel() {
+        return "chat:filtering:refresh";
+    }
+
     // 사용자 상태 채널 키
     public String getUserStatusChannel(Long userId) {
         return "user:status:" + userId;
     }
 
+    // 사용자 목적지(/user/queue/**) 라우팅 채널 키
+    public String getUserQueueChannel(Long userId) {
+        return "user:queue:" + userId;
+    }
+
     // 읽음 상태 키
     public String getReadStatusKey(Long roomId, Long userId) {
         return "chat:room:" + roomId + ":read:" + userId;
@@ -76,8 +101,9 @@ public class RedisKeyManager {
         return "magazine:processed:" + eventId;
     }
 
-    public String getUserTotalUnreadCountKey(Long userId) {
-        return String.format("user:%d:total-unread", userId);
+    // 사용자별 미읽음 집계 해시 (roomId -> count, total)
+    public String getUserUnreadKey(Long userId) {
+        return "user:" + userId + ":unread";
     }
 
 
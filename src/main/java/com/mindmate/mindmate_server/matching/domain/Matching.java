@@ -93,6 +93,11 @@ public class Matching extends BaseTimeEntity {
         this.acceptedUser = acceptedUser;
         this.matchedAt = LocalDateTime.now();
         this.status = MatchingStatus.MATCHED;
+
+        if (chatRoom != null) {
+            chatRoom.addParticipant(acceptedUser,
+                    creatorRole == InitiatorType.LISTENER ? InitiatorType.SPEAKER : InitiatorType.LISTENER);
+        }
     }
 
     public boolean isOpen() {
@@ -168,6 +168,7 @@ public class MatchingServiceImpl implements MatchingService {
         });
 
         matching.getChatRoom().updateChatRoomStatus(ChatRoomStatus.ACTIVE);
+        chatRoomService.invalidateAccessSnapshot(matching.getChatRoom().getId());
         return matching.getId();
     }
 
@@ -6,6 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -82,4 +88,39 @@ class AesGcmEncryptionServiceTest {
         // when & then
         assertThrows(RuntimeException.class, () -> differentService.decrypt(encrypted));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("바이트 배열 암호화 -> IV + 태그 길이만큼 늘어나고 복호화 시 원본 반환")
+    void encryptAndDecrypt_Bytes() {
+        // given
+        byte[] original = "바이트 배열 테스트".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] encrypted = encryptionService.encrypt(original);
+        byte[] decrypted = encryptionService.decrypt(encrypted);
+
+        // then
+        assertThat(encrypted).hasSize(original.length + 12 + 16);
+        assertThat(decrypted).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 암호화/복호화해도 결과 일치")
+    void encryptAndDecrypt_Concurrently() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            String plainText = "message-" + i;
+            results.add(executor.submit(() -> plainText.equals(encryptionService.decrypt(encryptionService.encrypt(plainText)))));
+        }
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,94 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmate.mindmate_server.chat.dto.ChatEventType;
+import com.mindmate.mindmate_server.chat.util.ChatEventEnvelopeCodec;
+import com.mindmate.mindmate_server.chat.util.ChatMessageListener;
+import com.mindmate.mindmate_server.chat.util.WebSocketDestinationResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ChatEventEnvelopeCodecTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ChatEventEnvelopeCodec codec = new ChatEventEnvelopeCodec(objectMapper);
+
+    private SimpMessagingTemplate messagingTemplate;
+    private ChatMessageListener listener;
+
+    @BeforeEach
+    void setup() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        listener = new ChatMessageListener(messagingTemplate, objectMapper, new WebSocketDestinationResolver(), codec,
+                mock(PresenceNearCache.class));
+    }
+
+    @Test
+    @DisplayName("인코딩한 엔벨로프를 디코딩하면 타입과 data JSON 바이트 복원")
+    void encodeDecode_RoundTrip() throws Exception {
+        // given
+        Map<String, Object> data = Map.of("content", "안녕하세요");
+
+        // when
+        byte[] body = codec.encode(ChatEventType.MESSAGE, data);
+        ChatEventEnvelopeCodec.Envelope envelope = codec.decode(body);
+
+        // then
+        assertTrue(codec.isEnvelope(body));
+        assertEquals("MESSAGE", envelope.header());
+        assertArrayEquals(objectMapper.writeValueAsBytes(data), envelope.payload());
+    }
+
+    @Test
+    @DisplayName("기존 JSON 문자열 메시지는 엔벨로프로 인식하지 않음")
+    void isEnvelope_LegacyJson_False() {
+        byte[] legacy = "\"{\\\"type\\\":\\\"MESSAGE\\\"}\"".getBytes(StandardCharsets.UTF_8);
+
+        assertFalse(codec.isEnvelope(legacy));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(legacy));
+    }
+
+    @Test
+    @DisplayName("리스너는 엔벨로프 payload 바이트를 그대로 이벤트 타입 목적지로 전달")
+    void listener_ForwardsPayloadBytes() throws Exception {
+        // given
+        Map<String, Object> data = Map.of("messageId", 10, "content", "반가워요");
+        byte[] body = codec.encode(ChatEventType.REACTION, data);
+
+        // when
+        listener.onMessage(new DefaultMessage("chat:room:7".getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/chat.room.7.reaction"), captor.capture());
+        assertArrayEquals(objectMapper.writeValueAsBytes(data), (byte[]) captor.getValue().getPayload());
+        assertEquals(MimeTypeUtils.APPLICATION_JSON, captor.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("리스너는 기존 JSON 문자열 메시지도 계속 처리")
+    void listener_HandlesLegacyJson() throws Exception {
+        // given
+        String event = objectMapper.writeValueAsString(Map.of("type", "MESSAGE", "data", Map.of("content", "hi")));
+        byte[] body = objectMapper.writeValueAsBytes(event); // 이중 직렬화된 기존 형식
+
+        // when
+        listener.onMessage(new DefaultMessage("chat:room:7".getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        verify(messagingTemplate).convertAndSend("/topic/chat.room.7", "{\"content\":\"hi\"}");
+    }
+}
@@ -3,18 +3,23 @@ package com.mindmate.mindmate_server.chat.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mindmate.mindmate_server.chat.dto.ChatEventType;
+import com.mindmate.mindmate_server.chat.util.ChatEventEnvelopeCodec;
 import com.mindmate.mindmate_server.chat.util.WebSocketDestinationResolver;
 import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -25,12 +30,13 @@ import static org.mockito.Mockito.*;
 class ChatEventPublisherTest {
 
     @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private RedisTemplate<String, byte[]> byteArrayRedisTemplate;
     @Mock private ObjectMapper objectMapper;
+    @Mock private ChatEventEnvelopeCodec envelopeCodec;
     @Mock private RedisKeyManager redisKeyManager;
     @Mock private WebSocketDestinationResolver webSocketDestinationResolver;
     @Mock private SimpMessagingTemplate messagingTemplate;
 
-    @InjectMocks
     private ChatEventPublisher chatEventPublisher;
 
     private static final Long ROOM_ID = 123L;
@@ -39,32 +45,59 @@ class ChatEventPublisherTest {
     private static final String USER_CHANNEL = "user:status:99";
     private static final String EVENT_JSON = "{\"type\":\"MESSAGE\",\"data\":\"hello\"}";
     private static final String DESTINATION = "/topic/chat.room.123";
+    private static final byte[] ENVELOPE = new byte[]{(byte) 0xC1, 1, 7, 'M', 'E', 'S', 'S', 'A', 'G', 'E', '{', '}'};
+
+    @BeforeEach
+    void setup() {
+        // 같은 타입(RedisTemplate) mock 이 둘이라 생성자 주입을 직접 지정
+        chatEventPublisher = new ChatEventPublisher(redisTemplate, byteArrayRedisTemplate, objectMapper,
+                envelopeCodec, redisKeyManager, webSocketDestinationResolver, messagingTemplate);
+    }
 
     @Test
-    @DisplayName("채팅방 이벤트 정상 발행")
+    @DisplayName("채팅방 이벤트 정상 발행 - 엔벨로프 바이트 그대로 발행")
     void publishChatRoomEvent_success() throws Exception {
         // given
         when(redisKeyManager.getChatRoomChannel(ROOM_ID)).thenReturn(CHANNEL);
-        when(objectMapper.writeValueAsString(any())).thenReturn(EVENT_JSON);
+        when(envelopeCodec.encode(ChatEventType.MESSAGE, "hello")).thenReturn(ENVELOPE);
 
         // when
         chatEventPublisher.publishChatRoomEvent(ROOM_ID, ChatEventType.MESSAGE, "hello");
 
         // then
-        verify(redisTemplate).convertAndSend(CHANNEL, EVENT_JSON);
+        verify(byteArrayRedisTemplate).convertAndSend(CHANNEL, ENVELOPE);
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+        verify(objectMapper, never()).writeValueAsString(any());
         verifyNoInteractions(messagingTemplate);
     }
 
     @Test
-    @DisplayName("채팅방 이벤트 발행 - 직렬화 예외 발생 후 fallback WebSocket 전송")
-    void publishChatRoomEvent_jsonException_fallbackToWebSocket() throws Exception {
+    @DisplayName("채팅방 이벤트 발행 - 직렬화 실패 시 재시도 없이 종료")
+    void publishChatRoomEvent_serializationFailure_noPublish() throws Exception {
         // given
         when(redisKeyManager.getChatRoomChannel(ROOM_ID)).thenReturn(CHANNEL);
-        when(objectMapper.writeValueAsString(any()))
-                .thenThrow(new JsonProcessingException("fail") {})
-                .thenThrow(new JsonProcessingException("fail2") {})
-                .thenThrow(new JsonProcessingException("fail3") {})
-                .thenReturn("{\"data\":\"hello\"}");
+        when(envelopeCodec.encode(any(ChatEventType.class), any())).thenThrow(new JsonProcessingException("fail") {});
+
+        // when
+        chatEventPublisher.publishChatRoomEvent(ROOM_ID, ChatEventType.MESSAGE, "hello");
+
+        // then
+        verify(envelopeCodec, times(1)).encode(any(ChatEventType.class), any());
+        verifyNoInteractions(byteArrayRedisTemplate, messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("채팅방 이벤트 발행 - Redis 발행 실패 후 fallback WebSocket 전송")
+    void publishChatRoomEvent_redisFailure_fallbackToWebSocket() throws Exception {
+        // given
+        byte[] payload = "{\"data\":\"hello\"}".getBytes(StandardCharsets.UTF_8);
+        Message<byte[]> stompMessage = MessageBuilder.withPayload(payload).build();
+
+        when(redisKeyManager.getChatRoomChannel(ROOM_ID)).thenReturn(CHANNEL);
+        when(envelopeCodec.encode(ChatEventType.MESSAGE, "hello")).thenReturn(ENVELOPE);
+        when(envelopeCodec.decode(ENVELOPE)).thenReturn(new ChatEventEnvelopeCodec.Envelope("MESSAGE", payload));
+        when(envelopeCodec.toStompMessage(payload)).thenReturn(stompMessage);
+        doThrow(new RuntimeException("redis down")).when(byteArrayRedisTemplate).convertAndSend(CHANNEL, ENVELOPE);
         when(webSocketDestinationResolver.getDestinationByEventType(ROOM_ID.toString(), "MESSAGE"))
                 .thenReturn(DESTINATION);
 
@@ -72,8 +105,9 @@ class ChatEventPublisherTest {
         chatEventPublisher.publishChatRoomEvent(ROOM_ID, ChatEventType.MESSAGE, "hello");
 
         // then
-        verify(redisTemplate, times(0)).convertAndSend(any(), any());
-        verify(messagingTemplate).convertAndSend(eq(DESTINATION), eq("{\"data\":\"hello\"}"));
+        verify(envelopeCodec, times(1)).encode(any(ChatEventType.class), any());
+        verify(byteArrayRedisTemplate, times(3)).convertAndSend(CHANNEL, ENVELOPE);
+        verify(messagingTemplate).send(DESTINATION, stompMessage);
     }
 
 
@@ -82,14 +116,11 @@ class ChatEventPublisherTest {
     void publishChatRoomEvent_fallbackWebSocketFailure_noException() throws Exception {
         // given
         when(redisKeyManager.getChatRoomChannel(ROOM_ID)).thenReturn(CHANNEL);
-        when(objectMapper.writeValueAsString(any()))
-                .thenThrow(new JsonProcessingException("fail") {})
-                .thenThrow(new JsonProcessingException("fail2") {})
-                .thenThrow(new JsonProcessingException("fail3") {});
+        when(envelopeCodec.encode(any(ChatEventType.class), any())).thenReturn(ENVELOPE);
+        doThrow(new RuntimeException("redis down")).when(byteArrayRedisTemplate).convertAndSend(any(), any());
+        when(envelopeCodec.decode(any())).thenThrow(new IllegalArgumentException("broken"));
         when(webSocketDestinationResolver.getDestinationByEventType(any(), any()))
                 .thenReturn(DESTINATION);
-        doThrow(new RuntimeException("WebSocket fail"))
-                .when(messagingTemplate).convertAndSend(anyString(), anyString());
 
         // when & then
         assertDoesNotThrow(() ->
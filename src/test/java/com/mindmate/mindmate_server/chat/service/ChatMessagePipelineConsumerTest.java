@@ -0,0 +1,147 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatMessagePipelineConsumerTest {
+    @Mock private ChatMessagePipelineStage savedMessageStage;
+    @Mock private ChatMessagePipelineStage filteredMessageStage;
+    @Mock private KafkaTemplate<String, Object> kafkaTemplate;
+    @Mock private Acknowledgment acknowledgment;
+
+    private ChatMessagePipelineConsumer pipelineConsumer;
+
+    private final ChatMessageEvent savedEvent = ChatMessageEvent.builder().roomId(1L).messageId(10L).build();
+    private final ChatMessageEvent otherSavedEvent = ChatMessageEvent.builder().roomId(1L).messageId(11L).build();
+    private final ChatMessageEvent filteredEvent = ChatMessageEvent.builder().roomId(1L).senderId(5L).filtered(true).build();
+
+    @BeforeEach
+    void setup() {
+        when(savedMessageStage.getName()).thenReturn("unread-count-group");
+        when(savedMessageStage.isAtomicBatch()).thenReturn(true);
+        when(savedMessageStage.supports(any())).thenAnswer(inv -> ((ChatMessageEvent) inv.getArgument(0)).getMessageId() != null);
+        when(filteredMessageStage.getName()).thenReturn("filtering-event-group");
+        when(filteredMessageStage.supports(any())).thenAnswer(inv -> ((ChatMessageEvent) inv.getArgument(0)).isFiltered());
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        pipelineConsumer = new ChatMessagePipelineConsumer(
+                List.of(savedMessageStage, filteredMessageStage), kafkaTemplate, 1, 4, 2, 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipelineConsumer.shutdown();
+    }
+
+    private ConsumerRecord<String, ChatMessageEvent> record(long offset, ChatMessageEvent event) {
+        return new ConsumerRecord<>("chat-message-topic", 0, offset, "1", event);
+    }
+
+    @Test
+    @DisplayName("한 번 받은 레코드를 단계별로 관련 이벤트만 전달 후 커밋")
+    void consume_RoutesEventsToStages() {
+        // when
+        pipelineConsumer.consume(List.of(record(0, savedEvent), record(1, filteredEvent), record(2, otherSavedEvent)), acknowledgment);
+
+        // then
+        verify(savedMessageStage).process(List.of(savedEvent, otherSavedEvent));
+        verify(filteredMessageStage).process(List.of(filteredEvent));
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("대상 이벤트가 없는 단계는 실행하지 않음")
+    void consume_SkipsStageWithoutEvents() {
+        // when
+        pipelineConsumer.consume(List.of(record(0, savedEvent)), acknowledgment);
+
+        // then
+        verify(filteredMessageStage, never()).process(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("원자적 배치 단계 - 재시도 후에도 실패하면 실패한 레코드만 해당 단계 DLT 로 전송")
+    void consume_FailingRecordGoesToStageDlt() {
+        // given
+        doThrow(new RuntimeException("boom")).when(savedMessageStage).process(List.of(savedEvent, otherSavedEvent));
+        doThrow(new RuntimeException("boom")).when(savedMessageStage).process(List.of(savedEvent));
+
+        // when
+        pipelineConsumer.consume(List.of(record(0, savedEvent), record(1, otherSavedEvent)), acknowledgment);
+
+        // then
+        verify(savedMessageStage, times(2)).process(List.of(savedEvent, otherSavedEvent));
+        verify(savedMessageStage).process(List.of(otherSavedEvent));
+
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertThat(captor.getValue().topic()).isEqualTo("chat-message-topic-unread-count-group-dlt");
+        assertThat(captor.getValue().value()).isSameAs(savedEvent);
+
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("이벤트 단위 단계 - 중간 이벤트가 실패해도 성공한 이벤트는 정확히 한 번만 처리")
+    void consume_NonAtomicStage_ProcessesSuccessfulEventsOnce() {
+        // given
+        ChatMessageEvent first = ChatMessageEvent.builder().roomId(1L).senderId(5L).filtered(true).build();
+        ChatMessageEvent failing = ChatMessageEvent.builder().roomId(1L).senderId(6L).filtered(true).build();
+        ChatMessageEvent last = ChatMessageEvent.builder().roomId(1L).senderId(7L).filtered(true).build();
+        doThrow(new RuntimeException("boom")).when(filteredMessageStage).process(List.of(failing));
+
+        // when
+        pipelineConsumer.consume(List.of(record(0, first), record(1, failing), record(2, last)), acknowledgment);
+
+        // then
+        verify(filteredMessageStage, times(1)).process(List.of(first));
+        verify(filteredMessageStage, times(2)).process(List.of(failing));
+        verify(filteredMessageStage, times(1)).process(List.of(last));
+        verify(filteredMessageStage, never()).process(List.of(first, failing, last));
+
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertThat(captor.getValue().topic()).isEqualTo("chat-message-topic-filtering-event-group-dlt");
+        assertThat(captor.getValue().value()).isSameAs(failing);
+
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("DLT 전송까지 실패하면 커밋하지 않고 예외 전파")
+    void consume_DltFailure_Throws() {
+        // given
+        doThrow(new RuntimeException("boom")).when(filteredMessageStage).process(any());
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when & then
+        assertThrows(RuntimeException.class,
+                () -> pipelineConsumer.consume(List.of(record(0, filteredEvent)), acknowledgment));
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
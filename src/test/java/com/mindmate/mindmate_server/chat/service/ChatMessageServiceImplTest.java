@@ -1,6 +1,9 @@
 package com.mindmate.mindmate_server.chat.service;
 
 import com.mindmate.mindmate_server.chat.domain.ChatMessage;
+import com.mindmate.mindmate_server.chat.domain.ChatRoom;
+import com.mindmate.mindmate_server.chat.domain.MessageType;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
 import com.mindmate.mindmate_server.chat.repository.ChatMessageRepository;
 import com.mindmate.mindmate_server.global.exception.CustomException;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,20 +20,25 @@ import org.mockito.quality.Strictness;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ChatMessageServiceImplTest {
     @Mock private ChatMessageRepository chatMessageRepository;
+    @Mock private AesGcmEncryptionService encryptionService;
+    @Mock private MessageDecryptionService messageDecryptionService;
+    @Mock private MessageSearchIndexService messageSearchIndexService;
 
     @InjectMocks
     private ChatMessageServiceImpl chatMessageService;
@@ -85,38 +94,46 @@ class ChatMessageServiceImplTest {
     }
 
     @Nested
-    @DisplayName("채팅방 메시지 수 조회")
-    class CountMessageByChatRoomIdTest {
+    @DisplayName("채팅방 메시지 조회 (오랜된 순)")
+    class FindFirstMessagesTest {
         @Test
-        @DisplayName("채팅방 메시지 수 조회 성공")
-        void countMessageByChatRoomId_Success() {
+        @DisplayName("첫 방문 메시지 N개 조회 성공")
+        void findFirstMessages_Success() {
             // given
-            when(chatMessageRepository.countByChatRoomId(roomId)).thenReturn(5L);
+            when(chatMessageRepository.findByChatRoomIdOrderByIdAsc(roomId, PageRequest.of(0, 5))).thenReturn(mockMessages);
 
             // when
-            long count = chatMessageService.countMessagesByChatRoomId(roomId);
+            List<ChatMessage> result = chatMessageService.findFirstMessages(roomId, 5);
 
             // then
-            assertEquals(5L, count);
+            assertNotNull(result);
+            assertEquals(5, result.size());
+            verify(messageDecryptionService).decryptAll(mockMessages);
         }
-    }
 
-    @Nested
-    @DisplayName("채팅방 메시지 조회 (오랜된 순)")
-    class FindAllByChatRoomIdOrderByIdAscTest {
         @Test
-        @DisplayName("채팅방 메시지 조회 성공")
-        void findAllByChatROomIdOrderByIdAsc_Success() {
+        @DisplayName("커서 이후 메시지 조회 성공")
+        void findNextMessages_Success() {
             // given
-            when(chatMessageRepository.findByChatRoomIdOrderByIdAsc(roomId)).thenReturn(mockMessages);
+            when(chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, messageId, PageRequest.of(0, 5)))
+                    .thenReturn(mockMessages);
 
             // when
-            List<ChatMessage> result = chatMessageService.findAllByChatRoomIdOrderByIdAsc(roomId);
+            List<ChatMessage> result = chatMessageService.findNextMessages(roomId, messageId, 5);
 
             // then
-            assertNotNull(result);
             assertEquals(5, result.size());
         }
+
+        @Test
+        @DisplayName("메시지 존재 여부 확인")
+        void existsByChatRoomId_Success() {
+            // given
+            when(chatMessageRepository.existsByChatRoomId(roomId)).thenReturn(true);
+
+            // when & then
+            assertTrue(chatMessageService.existsByChatRoomId(roomId));
+        }
     }
 
     @Nested
@@ -170,25 +187,6 @@ class ChatMessageServiceImplTest {
         }
     }
 
-    @Nested
-    @DisplayName("특정 메시지 ID 이상 메시지 조회")
-    class FindMessagesAfterOrEqualIdTest {
-        @Test
-        @DisplayName("트정 메시지 Id 이상 메시지 조회 성공")
-        void findMessagesAfterOrEqualId_Success() {
-            // given
-            when(chatMessageRepository.findByChatRoomIdAndIdGreaterThanEqualOrderByIdAsc(roomId, messageId))
-                    .thenReturn(mockMessages);
-
-            // when
-            List<ChatMessage> result = chatMessageService.findMessagesAfterOrEqualId(roomId, messageId);
-
-            // then
-            assertNotNull(result);
-            assertEquals(5, result.size());
-        }
-    }
-
     @Nested
     @DisplayName("최근 메시지 조회")
     class FindRecentMessagesTest {
@@ -246,6 +244,48 @@ class ChatMessageServiceImplTest {
             // then
             assertNotNull(result);
             assertEquals(messageId, result.getId());
+            verify(encryptionService, never()).encrypt(anyString());
+        }
+
+        @Test
+        @DisplayName("저장 시 암호화 모드 - 암호문으로 저장하고 평문은 응답용으로 유지")
+        void save_EncryptOnWrite() {
+            // given
+            ReflectionTestUtils.setField(chatMessageService, "encryptOnWrite", true);
+            ChatRoom chatRoom = mock(ChatRoom.class);
+            when(chatRoom.getId()).thenReturn(roomId);
+            ChatMessage newMessage = ChatMessage.builder()
+                    .chatRoom(chatRoom)
+                    .content("안녕하세요")
+                    .type(MessageType.TEXT)
+                    .build();
+            when(encryptionService.encrypt("안녕하세요")).thenReturn("encrypted");
+            when(chatMessageRepository.save(newMessage)).thenReturn(newMessage);
+
+            // when
+            ChatMessage result = chatMessageService.save(newMessage);
+
+            // then
+            assertTrue(result.isEncrypted());
+            assertEquals("encrypted", ReflectionTestUtils.getField(result, "content"));
+            assertEquals("안녕하세요", result.getContent());
+            verify(messageSearchIndexService).index(roomId, null, "안녕하세요");
+        }
+
+        @Test
+        @DisplayName("저장 시 암호화 모드 - 이미 암호화된 메시지는 재암호화 x")
+        void save_EncryptOnWrite_SkipsEncrypted() {
+            // given
+            ReflectionTestUtils.setField(chatMessageService, "encryptOnWrite", true);
+            when(mockMessage.isEncrypted()).thenReturn(true);
+            when(chatMessageRepository.save(mockMessage)).thenReturn(mockMessage);
+
+            // when
+            chatMessageService.save(mockMessage);
+
+            // then
+            verify(encryptionService, never()).encrypt(anyString());
+            verify(mockMessage, never()).updateEncryptedContent(anyString());
         }
     }
 
@@ -257,15 +297,23 @@ class ChatMessageServiceImplTest {
         void findMessageIdsByKeyword_Success() {
             // given
             String keyword = "test";
-            List<Long> messageIds = List.of(1L, 2L, 3L);
-            when(chatMessageRepository.findMessageIdsByKeyword(roomId, keyword)).thenReturn(messageIds);
+            when(messageSearchIndexService.search(roomId, keyword)).thenReturn(List.of(2L, 1L));
+            when(chatMessageRepository.findPlainMessageContents(roomId)).thenReturn(List.of(
+                    new Object[]{4L, "other"},
+                    new Object[]{3L, "TEST message"}));
+            when(messageSearchIndexService.matches("TEST message", keyword)).thenReturn(true);
 
             // when
             List<Long> result = chatMessageService.findMessageIdsByKeyword(roomId, keyword);
 
             // then
             assertNotNull(result);
-            assertEquals(3, result.size());
+            assertEquals(List.of(3L, 2L, 1L), result);
+
+            // 평문 조회가 blind index 조회보다 먼저 실행
+            InOrder inOrder = inOrder(chatMessageRepository, messageSearchIndexService);
+            inOrder.verify(chatMessageRepository).findPlainMessageContents(roomId);
+            inOrder.verify(messageSearchIndexService).search(roomId, keyword);
         }
 
         @Test
@@ -290,6 +338,28 @@ class ChatMessageServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("암호문 일괄 반영")
+    class BulkUpdateEncryptedContentsTest {
+        @Test
+        @DisplayName("암호문 반영과 토큰 저장을 함께 처리")
+        void bulkUpdateEncryptedContents_IndexesTogether() {
+            // given
+            Map<Long, String> encryptedContents = Map.of(1L, "enc");
+            List<ChatMessageSearchIndexDTO> indexes = List.of(ChatMessageSearchIndexDTO.builder()
+                    .roomId(roomId).messageId(1L).tokens(Set.of("t")).build());
+            when(chatMessageRepository.bulkUpdateEncryptedContents(encryptedContents)).thenReturn(1);
+
+            // when
+            int updated = chatMessageService.bulkUpdateEncryptedContents(encryptedContents, indexes);
+
+            // then
+            assertEquals(1, updated);
+            verify(chatMessageRepository).bulkUpdateEncryptedContents(encryptedContents);
+            verify(messageSearchIndexService).indexAll(indexes);
+        }
+    }
+
     @Nested
     @DisplayName("ID 범위 내 메시지 조회")
     class FindByRoomIdAndIdBetweenTest {
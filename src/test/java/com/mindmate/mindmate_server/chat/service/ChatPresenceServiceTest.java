@@ -1,7 +1,6 @@
 package com.mindmate.mindmate_server.chat.service;
 
 import com.mindmate.mindmate_server.chat.domain.ChatRoom;
-import com.mindmate.mindmate_server.chat.dto.ChatEventType;
 import com.mindmate.mindmate_server.chat.repository.ChatRoomRepository;
 import com.mindmate.mindmate_server.global.util.RedisKeyManager;
 import com.mindmate.mindmate_server.user.domain.User;
@@ -21,10 +20,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -39,11 +40,12 @@ import static org.mockito.Mockito.*;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ChatPresenceServiceTest {
     @Mock private RedisTemplate<String, Object> redisTemplate;
-    @Mock private SimpMessagingTemplate messagingTemplate;
+    @Mock private UserDestinationRouter userDestinationRouter;
     @Mock private RedisKeyManager redisKeyManager;
     @Mock private HashOperations<String, Object, Object> hashOperations;
     @Mock private ValueOperations<String, Object> valueOperations;
-    @Mock private ChatEventPublisher eventPublisher;
+    @Mock private SetOperations<String, Object> setOperations;
+    @Mock private PresenceTracker presenceTracker;
     @Mock private ChatRoomRepository chatRoomRepository;
     @Mock private UserService userService;
 
@@ -53,9 +55,9 @@ class ChatPresenceServiceTest {
     private static final Long USER_ID = 1L;
     private static final Long ROOM_ID = 100L;
     private static final Long ROOM_ID_2 = 200L;
-    private static final String USER_STATUS_KEY = "user:status:1";
     private static final String UNREAD_COUNT_KEY = "unread:count:100:1";
-    private static final String TOTAL_UNREAD_KEY = "user:total:unread:1";
+    private static final String USER_UNREAD_KEY = "user:1:unread";
+    private static final String UNREAD_DIRTY_KEY = "chat:unread:dirty";
 
     private ChatRoom mockChatRoom;
     private ChatRoom mockChatRoom2;
@@ -73,15 +75,16 @@ class ChatPresenceServiceTest {
     }
 
     private void setupRedisKeyManager() {
-        when(redisKeyManager.getUserStatusKey(USER_ID)).thenReturn(USER_STATUS_KEY);
         when(redisKeyManager.getUnreadCountKey(ROOM_ID, USER_ID)).thenReturn(UNREAD_COUNT_KEY);
         when(redisKeyManager.getUnreadCountKey(ROOM_ID_2, USER_ID)).thenReturn("unread:count:200:1");
-        when(redisKeyManager.getUserTotalUnreadCountKey(USER_ID)).thenReturn(TOTAL_UNREAD_KEY);
+        when(redisKeyManager.getUserUnreadKey(USER_ID)).thenReturn(USER_UNREAD_KEY);
+        when(redisKeyManager.getUnreadDirtyRoomsKey()).thenReturn(UNREAD_DIRTY_KEY);
     }
 
     private void setupRedisOperations() {
         when(redisTemplate.opsForHash()).thenReturn(hashOperations);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
         when(redisTemplate.expire(anyString(), anyLong(), any(TimeUnit.class))).thenReturn(true);
         when(redisTemplate.delete(anyString())).thenReturn(true);
     }
@@ -98,157 +101,124 @@ class ChatPresenceServiceTest {
     }
 
     @Nested
-    @DisplayName("사용자 상태 업데이트 테스트")
-    class UserStatusTest {
-        @ParameterizedTest
-        @DisplayName("사용자 상태 업데이트 시나리오")
-        @MethodSource("userStatusScenarios")
-        void updateUserStatus_Scenarios(
-                String description,
-                boolean isOnline,
-                Long expectedExpireTime) {
+    @DisplayName("접속 상태는 PresenceTracker 에 위임")
+    class PresenceDelegationTest {
+        @Test
+        @DisplayName("상태 변경 위임")
+        void updateUserStatus_DelegatesToTracker() {
             // when
-            chatPresenceService.updateUserStatus(USER_ID, isOnline, ROOM_ID);
+            chatPresenceService.updateUserStatus(USER_ID, true, ROOM_ID);
 
             // then
-            ArgumentCaptor<Map<String, Object>> statusCaptor = ArgumentCaptor.forClass(Map.class);
-            verify(hashOperations).putAll(eq(USER_STATUS_KEY), statusCaptor.capture());
-
-            Map<String, Object> capturedStatus = statusCaptor.getValue();
-            assertThat(capturedStatus.get("online")).isEqualTo(isOnline);
-            assertThat(capturedStatus.get("activeRoomId")).isEqualTo(ROOM_ID);
-            assertThat(capturedStatus.get("status")).isEqualTo(isOnline ? "ONLINE" : "OFFLINE");
-            assertThat(capturedStatus.get("lastActive")).isNotNull();
-
-            verify(redisTemplate).expire(eq(USER_STATUS_KEY), eq(expectedExpireTime), eq(TimeUnit.MINUTES));
-            verify(eventPublisher).publishUserEvent(eq(USER_ID), eq(ChatEventType.USER_STATUS), any(Map.class));
+            verify(presenceTracker).update(USER_ID, true, ROOM_ID);
+            verifyNoInteractions(hashOperations);
         }
 
-        static Stream<Arguments> userStatusScenarios() {
-            return Stream.of(
-                    Arguments.of("온라인 상태", true, 5L),
-                    Arguments.of("오프라인 상태", false, 30L)
-            );
-        }
-    }
-
-
-    @Test
-    @DisplayName("활성 채팅방 조회")
-    void getActiveRoom_Success() {
-        // given
-        when(hashOperations.get(USER_STATUS_KEY, "activeRoomId")).thenReturn(ROOM_ID);
-
-        // when
-        Long activeRoom = chatPresenceService.getActiveRoom(USER_ID);
+        @Test
+        @DisplayName("활성 채팅방 조회 위임")
+        void isUserActiveInRoom_DelegatesToTracker() {
+            // given
+            when(presenceTracker.isUserActiveInRoom(USER_ID, ROOM_ID)).thenReturn(true);
+            when(presenceTracker.getActiveRoom(USER_ID)).thenReturn(ROOM_ID);
 
-        // then
-        assertThat(activeRoom).isEqualTo(ROOM_ID);
-        verify(hashOperations).get(USER_STATUS_KEY, "activeRoomId");
+            // when & then
+            assertThat(chatPresenceService.isUserActiveInRoom(USER_ID, ROOM_ID)).isTrue();
+            assertThat(chatPresenceService.getActiveRoom(USER_ID)).isEqualTo(ROOM_ID);
+        }
     }
 
     @Nested
-    @DisplayName("사용자 채팅방 활성 상태 확인")
-    class IsUserActiveRoomTest {
-        @ParameterizedTest
-        @DisplayName("사용자 활성 상태 확인 시나리오")
-        @MethodSource("userActiveScenarios")
-        void isUserActiveInRoom_Scenarios(
-                String description,
-                Boolean isOnline,
-                Object activeRoomObj,
-                boolean expectedResult) {
+    @DisplayName("읽지 않은 메시지 수 관리")
+    class UnreadCountTest {
+        @Test
+        @DisplayName("Redis에서 읽지 않은 메시지 수 증가")
+        void incrementUnreadCountInRedis_Success() {
             // given
-            when(hashOperations.get(USER_STATUS_KEY, "online")).thenReturn(isOnline);
-            when(hashOperations.get(USER_STATUS_KEY, "activeRoomId")).thenReturn(activeRoomObj);
+            when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(3L, 10L));
 
             // when
-            boolean isActive = chatPresenceService.isUserActiveInRoom(USER_ID, ROOM_ID);
+            Long count = chatPresenceService.incrementUnreadCountInRedis(ROOM_ID, USER_ID);
 
             // then
-            assertThat(isActive).isEqualTo(expectedResult);
-        }
+            assertThat(count).isEqualTo(3L);
+            verify(redisTemplate).execute(any(RedisCallback.class));
+            verify(chatRoomRepository, never()).findActiveChatRoomByUserId(any());
 
+            ArgumentCaptor<Map<String, Object>> unreadCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(userDestinationRouter).convertAndSendToUser(
+                    eq(USER_ID.toString()),
+                    eq("/queue/unread"),
+                    unreadCaptor.capture()
+            );
 
-        static Stream<Arguments> userActiveScenarios() {
-            return Stream.of(
-                    Arguments.of("온라인이고 같은 방에 있음", true, ROOM_ID, true),
-                    Arguments.of("온라인이지만 다른 방에 있음", true, 999L, false),
-                    Arguments.of("오프라인 상태", false, ROOM_ID, false),
-                    Arguments.of("활성 방이 null", true, null, false),
-                    Arguments.of("온라인 상태가 null", null, ROOM_ID, false)
+            Map<String, Object> unreadData = unreadCaptor.getValue();
+            assertThat(unreadData.get("roomId")).isEqualTo(ROOM_ID);
+            assertThat(unreadData.get("unreadCount")).isEqualTo(3L);
+
+            ArgumentCaptor<Map<String, Object>> totalCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(userDestinationRouter).convertAndSendToUser(
+                    eq(USER_ID.toString()),
+                    eq("/queue/total-unread"),
+                    totalCaptor.capture()
             );
+            assertThat(totalCaptor.getValue().get("totalUnreadCount")).isEqualTo(10L);
         }
 
-        @ParameterizedTest
-        @DisplayName("activeRoomId 타입 변환 테스트")
-        @MethodSource("roomIdTypeScenarios")
-        void isUserActiveInRoom_TypeConversion(
-                String description,
-                Object activeRoomObj,
-                boolean expectedResult) {
+        @Test
+        @DisplayName("집계 해시가 없으면 증가 후 전체 카운트 재계산")
+        void incrementUnreadCountInRedis_RebuildAggregate() {
             // given
-            when(hashOperations.get(USER_STATUS_KEY, "online")).thenReturn(true);
-            when(hashOperations.get(USER_STATUS_KEY, "activeRoomId")).thenReturn(activeRoomObj);
+            when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of(1L, -1L), null, null);
+            when(chatRoomRepository.findActiveChatRoomByUserId(USER_ID)).thenReturn(List.of(mockChatRoom));
+            when(valueOperations.get(UNREAD_COUNT_KEY)).thenReturn(1L);
 
             // when
-            boolean isActive = chatPresenceService.isUserActiveInRoom(USER_ID, ROOM_ID);
+            chatPresenceService.incrementUnreadCountInRedis(ROOM_ID, USER_ID);
 
             // then
-            assertThat(isActive).isEqualTo(expectedResult);
-        }
+            verify(chatRoomRepository).findActiveChatRoomByUserId(USER_ID);
 
-        static Stream<Arguments> roomIdTypeScenarios() {
-            return Stream.of(
-                    Arguments.of("Long 타입", ROOM_ID, true),
-                    Arguments.of("Integer 타입", 100, true),
-                    Arguments.of("String 타입 (유효한 숫자)", "100", true),
-                    Arguments.of("String 타입 (다른 숫자)", "999", false),
-                    Arguments.of("String 타입 (잘못된 형식)", "invalid", false),
-                    Arguments.of("지원되지 않는 타입", new Object(), false)
+            ArgumentCaptor<Map<String, Object>> totalCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(userDestinationRouter).convertAndSendToUser(
+                    eq(USER_ID.toString()),
+                    eq("/queue/total-unread"),
+                    totalCaptor.capture()
             );
+            assertThat(totalCaptor.getValue().get("totalUnreadCount")).isEqualTo(1L);
         }
-    }
 
-    @Nested
-    @DisplayName("읽지 않은 메시지 수 관리")
-    class UnreadCountTest {
         @Test
-        @DisplayName("Redis에서 읽지 않은 메시지 수 증가")
-        void incrementUnreadCountInRedis_Success() {
+        @DisplayName("배치 증가는 하나의 파이프라인으로 처리")
+        void incrementUnreadCountsInRedis_Pipelined() {
             // given
-            when(valueOperations.increment(UNREAD_COUNT_KEY)).thenReturn(3L);
+            when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenReturn(List.of(List.of(2L, 5L), List.of(4L, 9L)));
 
             // when
-            Long count = chatPresenceService.incrementUnreadCountInRedis(ROOM_ID, USER_ID);
+            chatPresenceService.incrementUnreadCountsInRedis(Map.of(
+                    ROOM_ID, Map.of(USER_ID, 2L),
+                    ROOM_ID_2, Map.of(USER_ID, 4L)));
 
             // then
-            assertThat(count).isEqualTo(3L);
-            verify(valueOperations).increment(UNREAD_COUNT_KEY);
-
-            ArgumentCaptor<Map<String, Object>> unreadCaptor = ArgumentCaptor.forClass(Map.class);
-            verify(messagingTemplate).convertAndSendToUser(
-                    eq(USER_ID.toString()),
-                    eq("/queue/unread"),
-                    unreadCaptor.capture()
-            );
-
-            Map<String, Object> unreadData = unreadCaptor.getValue();
-            assertThat(unreadData.get("roomId")).isEqualTo(ROOM_ID);
-            assertThat(unreadData.get("unreadCount")).isEqualTo(3L);
+            verify(redisTemplate).executePipelined(any(RedisCallback.class));
+            verify(userDestinationRouter, times(2)).convertAndSendToUser(eq(USER_ID.toString()), eq("/queue/unread"), any(Map.class));
+            verify(userDestinationRouter, times(1)).convertAndSendToUser(eq(USER_ID.toString()), eq("/queue/total-unread"), any(Map.class));
         }
 
         @Test
         @DisplayName("읽지 않은 메시지 수 초기화")
         void resetUnreadCount_Success() {
+            // given
+            when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(2L);
+
             // when
             chatPresenceService.resetUnreadCount(ROOM_ID, USER_ID);
 
             // then
-            verify(redisTemplate).delete(UNREAD_COUNT_KEY);
+            verify(redisTemplate).execute(any(RedisCallback.class));
 
             ArgumentCaptor<Map<String, Object>> unreadCaptor = ArgumentCaptor.forClass(Map.class);
-            verify(messagingTemplate).convertAndSendToUser(
+            verify(userDestinationRouter).convertAndSendToUser(
                     eq(USER_ID.toString()),
                     eq("/queue/unread"),
                     unreadCaptor.capture()
@@ -257,12 +227,56 @@ class ChatPresenceServiceTest {
             Map<String, Object> unreadData = unreadCaptor.getValue();
             assertThat(unreadData.get("roomId")).isEqualTo(ROOM_ID);
             assertThat(unreadData.get("unreadCount")).isEqualTo(0L);
+
+            ArgumentCaptor<Map<String, Object>> totalCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(userDestinationRouter).convertAndSendToUser(
+                    eq(USER_ID.toString()),
+                    eq("/queue/total-unread"),
+                    totalCaptor.capture()
+            );
+            assertThat(totalCaptor.getValue().get("totalUnreadCount")).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("종료된 채팅방을 전체 미읽음 집계에서 제외")
+        void removeRoomFromUnreadAggregate_Success() {
+            // given
+            when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(1L);
+
+            // when
+            chatPresenceService.removeRoomFromUnreadAggregate(ROOM_ID, USER_ID);
+
+            // then
+            verify(redisTemplate).execute(any(RedisCallback.class));
+            verify(userDestinationRouter, never()).convertAndSendToUser(eq(USER_ID.toString()), eq("/queue/unread"), any());
+
+            ArgumentCaptor<Map<String, Object>> totalCaptor = ArgumentCaptor.forClass(Map.class);
+            verify(userDestinationRouter).convertAndSendToUser(
+                    eq(USER_ID.toString()),
+                    eq("/queue/total-unread"),
+                    totalCaptor.capture()
+            );
+            assertThat(totalCaptor.getValue().get("totalUnreadCount")).isEqualTo(1L);
         }
     }
 
     @Nested
     @DisplayName("전체 읽지 않은 메시지 수 계싼")
     class TotalUnreadCountTest {
+        @Test
+        @DisplayName("집계 해시가 있으면 채팅방 조회 없이 반환")
+        void getTotalUnreadCount_FromAggregate() {
+            // given
+            when(redisTemplate.execute(any(RedisCallback.class))).thenReturn("8".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            Long totalCount = chatPresenceService.getTotalUnreadCount(USER_ID);
+
+            // then
+            assertThat(totalCount).isEqualTo(8L);
+            verify(chatRoomRepository, never()).findActiveChatRoomByUserId(any());
+        }
+
         @Test
         @DisplayName("사용자 채팅방이 없는 경우")
         void getTotalUnreadCount_NoRooms() {
@@ -0,0 +1,100 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.domain.ChatRoomStatus;
+import com.mindmate.mindmate_server.chat.dto.ChatRoomAccessSnapshot;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatRoomAccessCacheTest {
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private RedisKeyManager redisKeyManager;
+
+    private ChatRoomAccessCache chatRoomAccessCache;
+
+    private static final Long ROOM_ID = 100L;
+    private static final String ACCESS_CHANNEL = "chat:access:invalidate";
+
+    private AtomicInteger loadCount;
+    private Supplier<ChatRoomAccessSnapshot> loader;
+
+    @BeforeEach
+    void setup() {
+        when(redisKeyManager.getChatRoomAccessChannel()).thenReturn(ACCESS_CHANNEL);
+        chatRoomAccessCache = new ChatRoomAccessCache(stringRedisTemplate, redisKeyManager, 30L, 100L);
+
+        loadCount = new AtomicInteger();
+        loader = () -> {
+            loadCount.incrementAndGet();
+            return ChatRoomAccessSnapshot.builder()
+                    .roomId(ROOM_ID)
+                    .listenerId(1L)
+                    .speakerId(2L)
+                    .status(ChatRoomStatus.ACTIVE)
+                    .build();
+        };
+    }
+
+    @Test
+    @DisplayName("캐시 hit 시 로더 재호출 없음")
+    void get_CachesSnapshot() {
+        // when
+        ChatRoomAccessSnapshot first = chatRoomAccessCache.get(ROOM_ID, loader);
+        ChatRoomAccessSnapshot second = chatRoomAccessCache.get(ROOM_ID, loader);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(first.isListener(1L)).isTrue();
+        assertThat(first.isParticipant(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화 시 다른 노드로 전파하고 다시 로딩")
+    void invalidate_PublishesAndReloads() {
+        // given
+        chatRoomAccessCache.get(ROOM_ID, loader);
+
+        // when
+        chatRoomAccessCache.invalidate(ROOM_ID);
+        chatRoomAccessCache.get(ROOM_ID, loader);
+
+        // then
+        verify(stringRedisTemplate).convertAndSend(ACCESS_CHANNEL, ROOM_ID.toString());
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지 수신 시 로컬 캐시 제거")
+    void onMessage_EvictsLocalSnapshot() {
+        // given
+        chatRoomAccessCache.get(ROOM_ID, loader);
+        DefaultMessage message = new DefaultMessage(
+                ACCESS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ROOM_ID.toString().getBytes(StandardCharsets.UTF_8));
+
+        // when
+        chatRoomAccessCache.onMessage(message, null);
+        chatRoomAccessCache.get(ROOM_ID, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
@@ -41,8 +41,10 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -60,6 +62,8 @@ class ChatRoomServiceTest {
     @Mock private RedisMatchingService redisMatchingService;
     @Mock private ResilientEventPublisher eventPublisher;
     @Mock private ReviewRepository reviewRepository;
+    @Mock private ChatRoomAccessCache chatRoomAccessCache;
+    @Mock private ChatPresenceService chatPresenceService;
 
     @InjectMocks
     private ChatRoomServiceImpl chatRoomService;
@@ -135,11 +139,22 @@ class ChatRoomServiceTest {
         when(mockMatching.isAnonymous()).thenReturn(false);
 
         // Repository Mock 설정
-        when(chatRoomRepository.findById(ROOM_ID)).thenReturn(Optional.of(mockChatRoom));
+        when(chatRoomRepository.findByIdWithParticipants(ROOM_ID)).thenReturn(Optional.of(mockChatRoom));
         when(userService.findUserById(USER_ID)).thenReturn(mockUser);
         when(userService.findUserById(SPEAKER_ID)).thenReturn(mockSpeaker);
         when(userService.findUserById(LISTENER_ID)).thenReturn(mockListener);
         when(reviewRepository.existsByChatRoomAndReviewer(any(), any())).thenReturn(false);
+
+        // 권한 스냅샷 캐시 -> 항상 로더 호출 (캐시 미스)
+        when(chatRoomAccessCache.get(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<ChatRoomAccessSnapshot>>getArgument(1).get());
+    }
+
+    private void stubParticipantRole(boolean isListener, boolean isSpeaker) {
+        when(mockChatRoom.isListener(mockUser)).thenReturn(isListener);
+        when(mockChatRoom.isSpeaker(mockUser)).thenReturn(isSpeaker);
+        when(mockChatRoom.getListener()).thenReturn(isListener ? mockUser : mockListener);
+        when(mockChatRoom.getSpeaker()).thenReturn(isSpeaker && !isListener ? mockUser : mockSpeaker);
     }
 
     private ChatMessage createMockChatMessage(Long id) {
@@ -170,7 +185,29 @@ class ChatRoomServiceTest {
             // then
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(ROOM_ID);
-            verify(chatRoomRepository).findById(ROOM_ID);
+            verify(chatRoomRepository).findByIdWithParticipants(ROOM_ID);
+        }
+
+        @Test
+        @DisplayName("같은 트랜잭션 내 반복 조회 시 채팅방은 한 번만 로딩")
+        void findChatRoomById_ReusedWithinTransaction() {
+            // given
+            stubParticipantRole(true, false);
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                // when
+                chatRoomService.findChatRoomById(ROOM_ID);
+                chatRoomService.validateChatActivity(USER_ID, ROOM_ID);
+                chatRoomService.validateChatRead(USER_ID, ROOM_ID);
+
+                // then
+                verify(chatRoomRepository, times(1)).findByIdWithParticipants(ROOM_ID);
+            } finally {
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                TransactionSynchronizationManager.clearSynchronization();
+            }
         }
 
         @Test
@@ -178,7 +215,7 @@ class ChatRoomServiceTest {
         void findChatRoomById_NotFound() {
             // given
             Long nonExistRoomId = 999L;
-            when(chatRoomRepository.findById(nonExistRoomId)).thenReturn(Optional.empty());
+            when(chatRoomRepository.findByIdWithParticipants(nonExistRoomId)).thenReturn(Optional.empty());
 
             // when & then
             CustomException exception = assertThrows(CustomException.class,
@@ -243,6 +280,28 @@ class ChatRoomServiceTest {
             assertThat(result.getTotalElements()).isEqualTo(1);
             verify(chatRoomRepository).findAllByUserIdAndStatus(USER_ID, status, pageRequest);
         }
+
+        @Test
+        @DisplayName("커서 기반 채팅방 목록 조회")
+        void getChatRoomsByCursor_Success() {
+            // given
+            LocalDateTime cursorTime = LocalDateTime.now();
+            ChatRoomSliceResponse mockSlice = ChatRoomSliceResponse.builder()
+                    .rooms(List.of(new ChatRoomResponse()))
+                    .hasNext(false)
+                    .build();
+            when(chatRoomRepository.findSliceByUserId(USER_ID, null, ChatRoomStatus.ACTIVE, cursorTime, ROOM_ID, 10))
+                    .thenReturn(mockSlice);
+
+            // when
+            ChatRoomSliceResponse result = chatRoomService.getChatRoomsByCursor(
+                    USER_ID, null, ChatRoomStatus.ACTIVE, cursorTime, ROOM_ID, 10);
+
+            // then
+            assertThat(result.getRooms()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            verify(chatRoomRepository).findSliceByUserId(USER_ID, null, ChatRoomStatus.ACTIVE, cursorTime, ROOM_ID, 10);
+        }
     }
 
     @Nested
@@ -297,7 +356,7 @@ class ChatRoomServiceTest {
                 when(mockChatRoom.getSpeakerLastReadMessageId()).thenReturn(lastReadMessageId);
             }
 
-            when(chatMessageService.countMessagesByChatRoomId(ROOM_ID)).thenReturn(totalMessages);
+            when(chatMessageService.existsByChatRoomId(ROOM_ID)).thenReturn(totalMessages > 0);
 
             if (hasLatestMessage && totalMessages > 0) {
                 ChatMessage latestMessage = createMockChatMessage(totalMessages);
@@ -316,6 +375,7 @@ class ChatRoomServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getMessages()).hasSize(expectedMessageCount);
             assertThat(result.isWriteReview()).isEqualTo(hasWrittenReview);
+            assertThat(result.isHasNext()).isFalse();
 
             if (totalMessages > 0 && expectedMessageCount > 0) {
                 verify(mockChatRoom).markAsRead(mockUser, totalMessages);
@@ -325,12 +385,67 @@ class ChatRoomServiceTest {
             verify(reviewRepository).existsByChatRoomAndReviewer(mockChatRoom, mockUser);
         }
 
+        @Test
+        @DisplayName("첫 입장 - 메시지가 size보다 많으면 첫 구간만 반환하고 다음 커서 제공")
+        void getInitialMessages_FirstVisit_ReturnsBoundedWindow() {
+            // given
+            when(mockChatRoom.isListener(mockUser)).thenReturn(true);
+            when(mockChatRoom.getListenerLastReadMessageId()).thenReturn(0L);
+            when(chatMessageService.existsByChatRoomId(ROOM_ID)).thenReturn(true);
+
+            List<ChatMessage> firstMessages = IntStream.rangeClosed(1, 11)
+                    .mapToObj(i -> createMockChatMessage((long) i))
+                    .collect(Collectors.toList());
+            when(chatMessageService.findFirstMessages(ROOM_ID, 11)).thenReturn(firstMessages);
+
+            // when
+            ChatRoomDetailResponse result = chatRoomService.getInitialMessages(USER_ID, ROOM_ID, 10);
+
+            // then
+            assertThat(result.getMessages()).hasSize(10);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursorId()).isEqualTo(10L);
+            assertThat(result.getPreviousCursorId()).isEqualTo(1L);
+            verify(mockChatRoom).markAsRead(mockUser, 10L);
+        }
+
+        @Test
+        @DisplayName("재접속 - 안읽은 메시지가 size보다 많으면 size개만 반환하고 다음 커서 제공")
+        void getInitialMessages_Revisit_ReturnsBoundedUnreadWindow() {
+            // given
+            long lastReadMessageId = 5L;
+            when(mockChatRoom.isListener(mockUser)).thenReturn(true);
+            when(mockChatRoom.getListenerLastReadMessageId()).thenReturn(lastReadMessageId);
+            when(chatMessageService.existsByChatRoomId(ROOM_ID)).thenReturn(true);
+            when(chatMessageService.findLatestMessageByChatRoomId(ROOM_ID))
+                    .thenReturn(Optional.of(createMockChatMessage(100L)));
+
+            List<ChatMessage> previousMessages = LongStream.iterate(lastReadMessageId, i -> i - 1).limit(5)
+                    .mapToObj(i -> createMockChatMessage(i))
+                    .collect(Collectors.toList());
+            when(chatMessageService.findMessagesBeforeId(ROOM_ID, lastReadMessageId, 10)).thenReturn(previousMessages);
+
+            List<ChatMessage> unreadMessages = LongStream.rangeClosed(6, 16)
+                    .mapToObj(i -> createMockChatMessage(i))
+                    .collect(Collectors.toList());
+            when(chatMessageService.findNextMessages(ROOM_ID, lastReadMessageId, 11)).thenReturn(unreadMessages);
+
+            // when
+            ChatRoomDetailResponse result = chatRoomService.getInitialMessages(USER_ID, ROOM_ID, 10);
+
+            // then
+            assertThat(result.getMessages()).hasSize(15);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursorId()).isEqualTo(15L);
+            verify(mockChatRoom).markAsRead(mockUser, 15L);
+        }
+
         static Stream<Arguments> messageLoadScenarios() {
             return Stream.of(
                     Arguments.of("메시지가 없는 경우 - 리뷰 미작성", true, 0L, 0L, false, false, 0),
                     Arguments.of("메시지가 없는 경우 - 리뷰 작성됨", true, 0L, 0L, false, true, 0),
-                    Arguments.of("첫 입장 - 모든 메시지 로드 - 리뷰 미작성", true, 0L, 5L, false, false, 5),
-                    Arguments.of("첫 입장 - 모든 메시지 로드 - 리뷰 작성됨", true, 0L, 5L, false, true, 5),
+                    Arguments.of("첫 입장 - 첫 구간 로드 - 리뷰 미작성", true, 0L, 5L, false, false, 5),
+                    Arguments.of("첫 입장 - 첫 구간 로드 - 리뷰 작성됨", true, 0L, 5L, false, true, 5),
                     Arguments.of("재접속 - 읽지 않은 메시지 존재 - 리뷰 미작성", true, 5L, 10L, true, false, 10),
                     Arguments.of("재접속 - 읽지 않은 메시지 존재 - 리뷰 작성됨", true, 5L, 10L, true, true, 10),
                     Arguments.of("재접속 - 모든 메시지 읽음 - 리뷰 미작성", false, 10L, 10L, true, false, 10),
@@ -348,7 +463,7 @@ class ChatRoomServiceTest {
                 List<ChatMessage> allMessages = IntStream.range(1, (int) totalMessages + 1)
                         .mapToObj(i -> createMockChatMessage((long) i))
                         .collect(Collectors.toList());
-                when(chatMessageService.findAllByChatRoomIdOrderByIdAsc(ROOM_ID)).thenReturn(allMessages);
+                when(chatMessageService.findFirstMessages(ROOM_ID, 11)).thenReturn(allMessages);
             } else if (lastReadMessageId < totalMessages) {
                 // 읽지 않은 메시지가 있는 케이스
                 List<ChatMessage> previousMessages = IntStream.range(1, (int) lastReadMessageId + 1)
@@ -360,7 +475,7 @@ class ChatRoomServiceTest {
                 List<ChatMessage> newMessages = IntStream.rangeClosed((int) lastReadMessageId + 1, (int) totalMessages)
                         .mapToObj(i -> createMockChatMessage((long) i))
                         .collect(Collectors.toList());
-                when(chatMessageService.findMessagesAfterOrEqualId(ROOM_ID, lastReadMessageId))
+                when(chatMessageService.findNextMessages(ROOM_ID, lastReadMessageId, 11))
                         .thenReturn(newMessages);
             } else {
                 // 모든 메시지를 읽은 케이스
@@ -382,8 +497,7 @@ class ChatRoomServiceTest {
             // given
             Long messageId = 10L;
             int size = 5;
-            when(mockChatRoom.isListener(mockUser)).thenReturn(true);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(false);
+            stubParticipantRole(true, false);
             when(mockChatRoom.isDeletedByListener()).thenReturn(false);
             when(mockChatRoom.isDeletedBySpeaker()).thenReturn(false);
 
@@ -405,8 +519,7 @@ class ChatRoomServiceTest {
         @DisplayName("이전 메시지 조회 - 권한 없음")
         void getPreviousMessages_Unauthorized() {
             // given
-            when(mockChatRoom.isListener(mockUser)).thenReturn(false);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(false);
+            stubParticipantRole(false, false);
 
             // when & then
             CustomException exception = assertThrows(CustomException.class,
@@ -423,8 +536,7 @@ class ChatRoomServiceTest {
         @DisplayName("채팅방 종료 요청 성공")
         void closeChatRoom_Success() {
             // given
-            when(mockChatRoom.isListener(mockUser)).thenReturn(true);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(false);
+            stubParticipantRole(true, false);
 
             // when
             chatRoomService.closeChatRoom(USER_ID, ROOM_ID);
@@ -461,6 +573,8 @@ class ChatRoomServiceTest {
                 verify(eventPublisher).publishEvent(eq("chat-room-close-topic"), anyString(), any(ChatRoomCloseEvent.class));
                 verify(redisMatchingService).decrementUserActiveMatchingCount(SPEAKER_ID);
                 verify(redisMatchingService).decrementUserActiveMatchingCount(LISTENER_ID);
+                verify(chatPresenceService).removeRoomFromUnreadAggregate(ROOM_ID, SPEAKER_ID);
+                verify(chatPresenceService).removeRoomFromUnreadAggregate(ROOM_ID, LISTENER_ID);
             } finally {
                 TransactionSynchronizationManager.clearSynchronization();
             }
@@ -518,8 +632,7 @@ class ChatRoomServiceTest {
         void deleteChatRoomForUser_ListenerSuccess() {
             // given
             when(mockChatRoom.getChatRoomStatus()).thenReturn(ChatRoomStatus.CLOSED);
-            when(mockChatRoom.isListener(mockUser)).thenReturn(true);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(false);
+            stubParticipantRole(true, false);
             when(mockChatRoom.isDeletedByListener()).thenReturn(false);
             when(mockChatRoom.isDeletedBySpeaker()).thenReturn(false);
 
@@ -529,6 +642,7 @@ class ChatRoomServiceTest {
             // then
             verify(mockChatRoom).markDeletedBy(InitiatorType.LISTENER);
             verify(chatRoomRepository).save(mockChatRoom);
+            verify(chatPresenceService).removeRoomFromUnreadAggregate(ROOM_ID, USER_ID);
         }
 
         @Test
@@ -536,8 +650,7 @@ class ChatRoomServiceTest {
         void deleteChatRoomForUser_SpeakerSuccess() {
             // given
             when(mockChatRoom.getChatRoomStatus()).thenReturn(ChatRoomStatus.CLOSED);
-            when(mockChatRoom.isListener(mockUser)).thenReturn(false);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(true);
+            stubParticipantRole(false, true);
             when(mockChatRoom.isDeletedByListener()).thenReturn(false);
             when(mockChatRoom.isDeletedBySpeaker()).thenReturn(false);
 
@@ -554,8 +667,7 @@ class ChatRoomServiceTest {
         void deleteChatRoomForUser_BothDeleted() {
             // given
             when(mockChatRoom.getChatRoomStatus()).thenReturn(ChatRoomStatus.CLOSED);
-            when(mockChatRoom.isListener(mockUser)).thenReturn(true);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(false);
+            stubParticipantRole(true, false);
             // 이미 삭제된 상태로 설정
             when(mockChatRoom.isDeletedByListener()).thenReturn(false); // 아직 삭제 안됨
             when(mockChatRoom.isDeletedBySpeaker()).thenReturn(true);    // 스피커는 이미 삭제함
@@ -585,8 +697,7 @@ class ChatRoomServiceTest {
                 ChatErrorCode expectedError) {
             // given
             when(mockChatRoom.getChatRoomStatus()).thenReturn(status);
-            when(mockChatRoom.isListener(mockUser)).thenReturn(isParticipant);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(isParticipant);
+            stubParticipantRole(isParticipant, isParticipant);
 
             // when & then
             CustomException exception = assertThrows(CustomException.class,
@@ -616,8 +727,7 @@ class ChatRoomServiceTest {
                 boolean shouldThrowException) {
             // given
             when(mockChatRoom.getChatRoomStatus()).thenReturn(status);
-            when(mockChatRoom.isListener(mockUser)).thenReturn(isParticipant);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(isParticipant);
+            stubParticipantRole(isParticipant, isParticipant);
 
             // when & then
             if (shouldThrowException) {
@@ -649,8 +759,7 @@ class ChatRoomServiceTest {
                 boolean shouldThrowException,
                 ChatErrorCode expectedError) {
             // given
-            when(mockChatRoom.isListener(mockUser)).thenReturn(isListener);
-            when(mockChatRoom.isSpeaker(mockUser)).thenReturn(isSpeaker);
+            stubParticipantRole(isListener, isSpeaker);
             when(mockChatRoom.isDeletedByListener()).thenReturn(isDeletedByListener);
             when(mockChatRoom.isDeletedBySpeaker()).thenReturn(isDeletedBySpeaker);
 
@@ -693,6 +802,24 @@ class ChatRoomServiceTest {
             verify(chatRoomRepository).save(any(ChatRoom.class));
         }
 
+        @Test
+        @DisplayName("채팅방 생성 시 생성자 참여자 등록")
+        void createChatRoom_RegistersCreatorParticipant() {
+            // given
+            when(mockMatching.getCreator()).thenReturn(mockListener);
+            when(mockMatching.getCreatorRole()).thenReturn(InitiatorType.LISTENER);
+            when(chatRoomRepository.save(any(ChatRoom.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            ChatRoom result = chatRoomService.createChatRoom(mockMatching);
+
+            // then
+            assertThat(result.getParticipants()).hasSize(1);
+            assertThat(result.getParticipants().get(0).getUser()).isEqualTo(mockListener);
+            assertThat(result.getParticipants().get(0).getRole()).isEqualTo(InitiatorType.LISTENER);
+            assertThat(result.getParticipants().get(0).isDeleted()).isFalse();
+        }
+
         @Test
         @DisplayName("채팅방 저장 성공")
         void save_Success() {
@@ -707,5 +834,22 @@ class ChatRoomServiceTest {
             assertThat(result).isEqualTo(mockChatRoom);
             verify(chatRoomRepository).save(mockChatRoom);
         }
+
+        @Test
+        @DisplayName("마지막 메시지 갱신 시 참여자 정렬 키는 일괄 UPDATE")
+        void updateLastMessage_BulkUpdatesParticipants() {
+            // given
+            ChatMessage message = createMockChatMessage(10L);
+            LocalDateTime lastMessageTime = LocalDateTime.now();
+            when(mockChatRoom.getLastMessageTime()).thenReturn(lastMessageTime);
+
+            // when
+            chatRoomService.updateLastMessage(mockChatRoom, message);
+
+            // then
+            verify(mockChatRoom).updateLastMessage(message);
+            verify(chatRoomRepository).updateParticipantsLastMessageTime(ROOM_ID, lastMessageTime);
+            verify(mockChatRoom, never()).getParticipants();
+        }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.util.ChatMessageListener;
+import com.mindmate.mindmate_server.chat.util.ChatRoomSubscriptionRegistry;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatRoomSubscriptionRegistryTest {
+    @Mock private RedisMessageListenerContainer container;
+    @Mock private ChatMessageListener chatMessageListener;
+
+    private ChatRoomSubscriptionRegistry registry;
+
+    private static final ChannelTopic ROOM_TOPIC = new ChannelTopic("chat:room:1");
+
+    @BeforeEach
+    void setup() {
+        registry = new ChatRoomSubscriptionRegistry(container, chatMessageListener, new RedisKeyManager());
+    }
+
+    private StompHeaderAccessor accessor(StompCommand command, String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return accessor;
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = accessor(StompCommand.SUBSCRIBE, sessionId, subscriptionId);
+        accessor.setDestination(destination);
+        registry.handleSubscribe(new SessionSubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = accessor(StompCommand.UNSUBSCRIBE, sessionId, subscriptionId);
+        registry.handleUnsubscribe(new SessionUnsubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private void disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        registry.handleDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), sessionId, CloseStatus.NORMAL));
+    }
+
+    @Test
+    @DisplayName("같은 방의 여러 구독은 Redis 채널을 한 번만 구독")
+    void subscribe_SameRoom_SubscribesOnce() {
+        // when
+        subscribe("s1", "sub-1", "/topic/chat.room.1");
+        subscribe("s1", "sub-2", "/topic/chat.room.1.read");
+        subscribe("s2", "sub-1", "/topic/chat.room.1");
+
+        // then
+        verify(container, times(1)).addMessageListener(chatMessageListener, ROOM_TOPIC);
+        assertEquals(3, registry.getLocalSubscriptionCount("chat:room:1"));
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 구독이 해제될 때만 Redis 구독 해제")
+    void unsubscribe_LastSubscription_Unsubscribes() {
+        // given
+        subscribe("s1", "sub-1", "/topic/chat.room.1");
+        subscribe("s2", "sub-1", "/topic/chat.room.1");
+
+        // when & then
+        unsubscribe("s1", "sub-1");
+        verify(container, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        unsubscribe("s2", "sub-1");
+        verify(container).removeMessageListener(chatMessageListener, ROOM_TOPIC);
+        assertEquals(0, registry.getLocalSubscriptionCount("chat:room:1"));
+    }
+
+    @Test
+    @DisplayName("연결 종료 시 세션의 모든 구독 해제, 중복 종료 이벤트는 무시")
+    void disconnect_ReleasesAllSessionSubscriptions() {
+        // given
+        subscribe("s1", "sub-1", "/topic/chat.room.1");
+        subscribe("s1", "sub-2", "/topic/user/5/status");
+
+        // when
+        disconnect("s1");
+        disconnect("s1");
+
+        // then
+        verify(container).removeMessageListener(chatMessageListener, ROOM_TOPIC);
+        verify(container).removeMessageListener(chatMessageListener, new ChannelTopic("user:status:5"));
+        assertEquals(0, registry.getLocalSubscriptionCount("chat:room:1"));
+    }
+
+    @Test
+    @DisplayName("Redis 구독 실패 시 세션 매핑과 참조 카운트를 남기지 않음")
+    void subscribe_RedisFailure_NotRecorded() {
+        // given
+        doThrow(new IllegalStateException("connection refused"))
+                .doNothing()
+                .when(container).addMessageListener(chatMessageListener, ROOM_TOPIC);
+
+        // when
+        subscribe("s1", "sub-1", "/topic/chat.room.1");
+        unsubscribe("s1", "sub-1");
+
+        // then
+        assertEquals(0, registry.getLocalSubscriptionCount("chat:room:1"));
+        verify(container, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        // 이후 구독은 다시 Redis 구독 시도
+        subscribe("s1", "sub-2", "/topic/chat.room.1");
+        verify(container, times(2)).addMessageListener(chatMessageListener, ROOM_TOPIC);
+        assertEquals(1, registry.getLocalSubscriptionCount("chat:room:1"));
+    }
+
+    @Test
+    @DisplayName("채팅 목적지가 아닌 구독은 무시")
+    void subscribe_UnrelatedDestination_Ignored() {
+        // when
+        subscribe("s1", "sub-1", "/user/queue/notifications");
+        subscribe("s1", "sub-2", "/topic/chat.room.abc");
+
+        // then
+        verifyNoInteractions(container);
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -30,6 +31,7 @@ import static org.mockito.Mockito.*;
 class ChatSearchServiceTest {
     @Mock private ChatMessageService chatMessageService;
     @Mock private ChatRoomService chatRoomService;
+    @Spy private ChatSearchSessionCache chatSearchSessionCache = new ChatSearchSessionCache(300, 100);
 
     @InjectMocks
     private ChatSearchService chatSearchService;
@@ -211,6 +213,52 @@ class ChatSearchServiceTest {
             assertEquals(-1, response.getCurrentMatchIndex());
             assertEquals(4, response.getTotalMatches());
         }
+
+        @Test
+        @DisplayName("검색 세션이 있으면 탐색 시 키워드 재조회 없이 이진 탐색")
+        void navigateToSearchResult_ReusesSearchSession() {
+            // given
+            List<Long> matchedIds = Arrays.asList(10L, 7L, 3L, 1L);
+            doNothing().when(chatRoomService).validateChatActivity(userId, roomId);
+            when(chatMessageService.findMessageIdsByKeyword(roomId, keyword)).thenReturn(matchedIds);
+
+            chatSearchService.searchMessages(userId, roomId, keyword, null, null);
+
+            // when
+            SearchNavigationResponse first = chatSearchService.navigateToSearchResult(userId, roomId, keyword, 7L, 5L);
+            SearchNavigationResponse second = chatSearchService.navigateToSearchResult(userId, roomId, keyword, 3L, 5L);
+
+            // then
+            verify(chatMessageService, times(1)).findMessageIdsByKeyword(roomId, keyword);
+            assertEquals(1, first.getCurrentMatchIndex());
+            assertEquals(10L, first.getPreviousMatchId());
+            assertEquals(3L, first.getNextMatchId());
+            assertEquals(2, second.getCurrentMatchIndex());
+            assertEquals(1L, second.getNextMatchId());
+        }
+
+        @Test
+        @DisplayName("세션에 없는 대상이면 한 번 다시 조회해서 새 매칭 반영")
+        void navigateToSearchResult_ReloadsOnMiss() {
+            // given
+            doNothing().when(chatRoomService).validateChatActivity(userId, roomId);
+            when(chatMessageService.findMessageIdsByKeyword(roomId, keyword))
+                    .thenReturn(Arrays.asList(7L, 3L))
+                    .thenReturn(Arrays.asList(12L, 7L, 3L));
+
+            chatSearchService.searchMessages(userId, roomId, keyword, null, null);
+
+            // when
+            SearchNavigationResponse response = chatSearchService.navigateToSearchResult(userId, roomId, keyword, 12L, 5L);
+            SearchNavigationResponse next = chatSearchService.navigateToSearchResult(userId, roomId, keyword, 7L, 5L);
+
+            // then
+            verify(chatMessageService, times(2)).findMessageIdsByKeyword(roomId, keyword);
+            assertEquals(0, response.getCurrentMatchIndex());
+            assertEquals(3, response.getTotalMatches());
+            assertEquals(7L, response.getNextMatchId());
+            assertEquals(1, next.getCurrentMatchIndex());
+        }
     }
 
     private List<ChatMessage> createMockMessages(Long fromId, Long toId) {
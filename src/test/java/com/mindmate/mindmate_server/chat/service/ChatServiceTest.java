@@ -3,9 +3,13 @@ package com.mindmate.mindmate_server.chat.service;
 import com.mindmate.mindmate_server.chat.domain.ChatMessage;
 import com.mindmate.mindmate_server.chat.domain.ChatRoom;
 import com.mindmate.mindmate_server.chat.domain.MessageType;
+import com.mindmate.mindmate_server.chat.domain.ToastBoxKeyword;
+import com.mindmate.mindmate_server.chat.dto.ChatEventType;
 import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
 import com.mindmate.mindmate_server.chat.dto.ChatMessageRequest;
 import com.mindmate.mindmate_server.chat.dto.ChatMessageResponse;
+import com.mindmate.mindmate_server.chat.dto.KeywordScanResult;
+import com.mindmate.mindmate_server.chat.dto.ToastBoxEvent;
 import com.mindmate.mindmate_server.global.exception.ChatErrorCode;
 import com.mindmate.mindmate_server.global.exception.CustomException;
 import com.mindmate.mindmate_server.global.service.ResilientEventPublisher;
@@ -22,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -30,10 +35,12 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -52,6 +59,7 @@ class ChatServiceTest {
     @Mock private ContentFilterService contentFilterService;
     @Mock private ChatMessageService chatMessageService;
     @Mock private ResilientEventPublisher eventPublisher;
+    @Mock private ChatEventPublisher chatEventPublisher;
 
     @Mock private RedisTemplate<String, Object> redisTemplate;
     @Mock private RedisKeyManager redisKeyManager;
@@ -120,7 +128,7 @@ class ChatServiceTest {
 
         // 기본값 설정
         when(mockMatching.isAnonymous()).thenReturn(false);
-        when(contentFilterService.isFiltered(anyString())).thenReturn(false);
+        when(contentFilterService.scan(anyString())).thenReturn(KeywordScanResult.empty());
     }
 
     private void setupRedisOperations() {
@@ -187,7 +195,7 @@ class ChatServiceTest {
             assertThat(response.isError()).isFalse();
 
             verify(chatMessageService).save(any(ChatMessage.class));
-            verify(mockChatRoom).updateLastMessageTime();
+            verify(chatRoomService).updateLastMessage(eq(mockChatRoom), any(ChatMessage.class));
             verify(chatPresenceService).isUserActiveInRoom(recipientId, ROOM_ID);
 
             // 이벤트 발행 검증
@@ -219,7 +227,7 @@ class ChatServiceTest {
                 String expectedSenderName) {
             // given
             ChatMessageRequest request = createMessageRequest(FILTERED_CONTENT);
-            when(contentFilterService.isFiltered(FILTERED_CONTENT)).thenReturn(true);
+            when(contentFilterService.scan(FILTERED_CONTENT)).thenReturn(new KeywordScanResult(true, List.of()));
             when(mockMatching.isAnonymous()).thenReturn(isAnonymous);
 
             // when
@@ -248,6 +256,37 @@ class ChatServiceTest {
             );
         }
 
+        @ParameterizedTest(name = "inline-publish={0}")
+        @ValueSource(booleans = {false, true})
+        @DisplayName("전송 시점 스캔의 토스트 박스 결과가 메시지 이벤트에 포함")
+        void sendMessage_ToastBoxesIncludedInEvent(boolean inlinePublish) {
+            // given
+            ReflectionTestUtils.setField(chatService, "toastBoxInlinePublish", inlinePublish);
+            ToastBoxKeyword keyword = mock(ToastBoxKeyword.class);
+            when(keyword.getKeyword()).thenReturn("우울");
+            when(keyword.getTitle()).thenReturn("상담 안내");
+            when(contentFilterService.scan(NORMAL_CONTENT)).thenReturn(new KeywordScanResult(false, List.of(keyword)));
+
+            ChatMessage mockMessage = createMockMessage(1L, mockUser1, NORMAL_CONTENT);
+            when(chatMessageService.save(any(ChatMessage.class))).thenReturn(mockMessage);
+
+            // when
+            chatService.sendMessage(USER_ID_1, createMessageRequest(NORMAL_CONTENT));
+
+            // then
+            ArgumentCaptor<ChatMessageEvent> eventCaptor = ArgumentCaptor.forClass(ChatMessageEvent.class);
+            verify(eventPublisher).publishEvent(eq(TOPIC_NAME), anyString(), eventCaptor.capture());
+
+            List<ToastBoxEvent> toastBoxes = eventCaptor.getValue().getToastBoxes();
+            assertThat(toastBoxes).hasSize(1);
+            assertThat(toastBoxes.get(0).getKeyword()).isEqualTo("우울");
+            assertThat(toastBoxes.get(0).getMessageId()).isEqualTo(1L);
+            assertThat(toastBoxes.get(0).getRoomId()).isEqualTo(ROOM_ID);
+
+            verify(chatEventPublisher, times(inlinePublish ? 1 : 0))
+                    .publishChatRoomEvent(ROOM_ID, ChatEventType.TOAST_BOX, toastBoxes.get(0));
+        }
+
         @Test
         @DisplayName("권한 없는 사용자의 메시지 전송 실패")
         void sendMessage_Unauthorized() {
@@ -0,0 +1,109 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.repository.ChatRoomRepository;
+import com.mindmate.mindmate_server.chat.util.ChatSystemRecoveryService;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatSystemRecoveryServiceTest {
+    @Mock private UnreadCountWriteBehindService unreadCountWriteBehindService;
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private ChatSystemRecoveryService recoveryService;
+
+    private static final String PARTICIPANTS_MARKER = "migration:done:chat-room-participants";
+    private static final String LAST_MESSAGE_MARKER = "migration:done:chat-room-last-message";
+
+    @BeforeEach
+    void setup() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        recoveryService = new ChatSystemRecoveryService(
+                unreadCountWriteBehindService, chatRoomRepository, stringRedisTemplate, new RedisKeyManager());
+    }
+
+    @Test
+    @DisplayName("참여자 보정 - 완료 표시가 없으면 실행 후 완료 표시")
+    void backfillChatRoomParticipants_FirstBoot_RunsAndMarks() {
+        // given
+        when(stringRedisTemplate.hasKey(PARTICIPANTS_MARKER)).thenReturn(false);
+        when(chatRoomRepository.backfillParticipants()).thenReturn(3);
+
+        // when
+        recoveryService.backfillChatRoomParticipants();
+
+        // then
+        verify(chatRoomRepository).backfillParticipants();
+        verify(valueOperations).set(eq(PARTICIPANTS_MARKER), anyString());
+    }
+
+    @Test
+    @DisplayName("참여자 보정 - 완료 표시가 있으면 건너뜀")
+    void backfillChatRoomParticipants_AlreadyDone_Skips() {
+        // given
+        when(stringRedisTemplate.hasKey(PARTICIPANTS_MARKER)).thenReturn(true);
+
+        // when
+        recoveryService.backfillChatRoomParticipants();
+
+        // then
+        verify(chatRoomRepository, never()).backfillParticipants();
+    }
+
+    @Test
+    @DisplayName("참여자 보정 - 실패하면 완료 표시를 남기지 않음")
+    void backfillChatRoomParticipants_Failure_DoesNotMark() {
+        // given
+        when(stringRedisTemplate.hasKey(PARTICIPANTS_MARKER)).thenReturn(false);
+        when(chatRoomRepository.backfillParticipants()).thenThrow(new RuntimeException("db down"));
+
+        // when
+        recoveryService.backfillChatRoomParticipants();
+
+        // then
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("마지막 메시지 스냅샷 보정 - 완료 표시가 있으면 건너뜀")
+    void backfillLastMessageSnapshots_AlreadyDone_Skips() {
+        // given
+        when(stringRedisTemplate.hasKey(LAST_MESSAGE_MARKER)).thenReturn(true);
+
+        // when
+        recoveryService.backfillLastMessageSnapshots();
+
+        // then
+        verify(chatRoomRepository, never()).backfillLastMessageSnapshots();
+    }
+
+    @Test
+    @DisplayName("마지막 메시지 스냅샷 보정 - 완료 표시가 없으면 실행 후 완료 표시")
+    void backfillLastMessageSnapshots_FirstBoot_RunsAndMarks() {
+        // given
+        when(stringRedisTemplate.hasKey(LAST_MESSAGE_MARKER)).thenReturn(false);
+        when(chatRoomRepository.backfillLastMessageSnapshots()).thenReturn(2);
+
+        // when
+        recoveryService.backfillLastMessageSnapshots();
+
+        // then
+        verify(chatRoomRepository).backfillLastMessageSnapshots();
+        verify(valueOperations).set(eq(LAST_MESSAGE_MARKER), anyString());
+    }
+}
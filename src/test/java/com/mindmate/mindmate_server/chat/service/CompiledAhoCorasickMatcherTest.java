@@ -0,0 +1,122 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledAhoCorasickMatcherTest {
+    private CompiledAhoCorasickMatcher<String> matcher;
+
+    @BeforeEach
+    void setup() {
+        matcher = new CompiledAhoCorasickMatcher<>();
+    }
+
+    private void initialize(String... words) {
+        matcher.initialize(List.of(words), Function.identity(), word -> true);
+    }
+
+    @Test
+    @DisplayName("초기화하지 않으면 예외 발생")
+    void search_WithoutInitialize_ThrowsException() {
+        assertThrows(IllegalStateException.class, () -> matcher.search("test"));
+        assertThrows(IllegalStateException.class, () -> matcher.containsMatch("test"));
+    }
+
+    @Test
+    @DisplayName("겹치는 패턴은 위치 순서대로, 같은 위치는 긴 패턴부터 반환")
+    void search_OverlappingPatterns() {
+        // given
+        initialize("he", "she", "his", "hers");
+
+        // when
+        List<String> result = matcher.search("ushers");
+
+        // then
+        assertEquals(List.of("she", "he", "hers"), result);
+    }
+
+    @Test
+    @DisplayName("사전에 없는 문자가 끼어 있으면 매칭 끊김")
+    void search_UnknownCharacterResetsState() {
+        // given
+        initialize("나쁜말");
+
+        // when & then
+        assertTrue(matcher.containsMatch("이건 나쁜말"));
+        assertFalse(matcher.containsMatch("나쁜 말"));
+        assertFalse(matcher.containsMatch("나쁜x말"));
+    }
+
+    @Test
+    @DisplayName("비활성 단어 무시 및 매칭 항목 반환")
+    void searchItems_IgnoresInactive() {
+        // given
+        Map<String, Boolean> words = new LinkedHashMap<>();
+        words.put("나쁜말", true);
+        words.put("비속어", false);
+        CompiledAhoCorasickMatcher<Map.Entry<String, Boolean>> entryMatcher = new CompiledAhoCorasickMatcher<>();
+        entryMatcher.initialize(new ArrayList<>(words.entrySet()), Map.Entry::getKey, Map.Entry::getValue);
+
+        // when
+        Optional<Map.Entry<String, Boolean>> first = entryMatcher.findFirstMatchItem("비속어 그리고 나쁜말");
+
+        // then
+        assertTrue(first.isPresent());
+        assertEquals("나쁜말", first.get().getKey());
+        assertEquals(1, entryMatcher.searchItems("비속어 그리고 나쁜말").size());
+    }
+
+    @Test
+    @DisplayName("빈 사전 -> 매칭 없음")
+    void search_EmptyDictionary() {
+        // given
+        initialize();
+
+        // when & then
+        assertTrue(matcher.search("아무 문장").isEmpty());
+        assertTrue(matcher.findFirstMatch("아무 문장").isEmpty());
+    }
+
+    @Test
+    @DisplayName("무작위 사전/문장에서 기존 매처와 결과 동일")
+    void search_SameAsHashMapMatcher() {
+        // given
+        Random random = new Random(42);
+        String alphabet = "가나다라마ab ";
+
+        for (int round = 0; round < 300; round++) {
+            Set<String> dictionary = new LinkedHashSet<>();
+            int wordCount = 1 + random.nextInt(20);
+            while (dictionary.size() < wordCount) {
+                dictionary.add(randomText(random, "가나다라마ab", 1 + random.nextInt(4)));
+            }
+            List<String> words = new ArrayList<>(dictionary);
+
+            AhoCorasickMatcher<String> expected = new AhoCorasickMatcher<>();
+            expected.initialize(words, Function.identity(), word -> true);
+            matcher.initialize(words, Function.identity(), word -> true);
+
+            for (int i = 0; i < 10; i++) {
+                String text = randomText(random, alphabet + "xyz", random.nextInt(30));
+
+                // when & then
+                assertEquals(expected.search(text), matcher.search(text));
+                assertEquals(expected.findFirstMatch(text), matcher.findFirstMatch(text));
+            }
+        }
+    }
+
+    private String randomText(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -3,6 +3,8 @@ package com.mindmate.mindmate_server.chat.service;
 import com.mindmate.mindmate_server.chat.domain.FilteringWord;
 import com.mindmate.mindmate_server.chat.repository.FilteringWordRepository;
 import com.mindmate.mindmate_server.chat.util.FilteringWordAdapter;
+import com.mindmate.mindmate_server.chat.util.MessageKeywordScanner;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,18 +15,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ContentFilterServiceTest {
     @Mock private FilteringWordRepository filteringWordRepository;
     @Mock private FilteringWordAdapter filteringWordAdapter;
+    @Mock private MessageKeywordScanner messageKeywordScanner;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private RedisKeyManager redisKeyManager;
 
     @InjectMocks
     private ContentFilterService contentFilterService;
@@ -52,8 +58,8 @@ class ContentFilterServiceTest {
     }
 
     @Test
-    @DisplayName("필터링 단어 갱신")
-    void refreshFilteringWords_InitializeAdapter() {
+    @DisplayName("기동 시 필터링 단어 사전을 준비한 뒤 반환")
+    void initialize_InitializeAdapter() {
         // given
         List<FilteringWord> words = List.of(
                 new FilteringWord("욕설1"),
@@ -62,10 +68,69 @@ class ContentFilterServiceTest {
         when(filteringWordRepository.findByActiveTrue()).thenReturn(words);
 
         // when
-        contentFilterService.refreshFilteringWords();
+        contentFilterService.initialize();
 
         // then
         verify(filteringWordAdapter).initialize(words);
     }
 
+    @Test
+    @DisplayName("스케줄 갱신도 전용 스레드에서 재구축")
+    void scheduledRefresh_RebuildAsync() {
+        // given
+        List<FilteringWord> words = List.of(new FilteringWord("욕설1"));
+        when(filteringWordRepository.findByActiveTrue()).thenReturn(words);
+
+        // when
+        contentFilterService.scheduledRefresh();
+
+        // then
+        verify(filteringWordAdapter, timeout(1000)).initialize(words);
+    }
+
+    @Test
+    @DisplayName("갱신 전파 - 트랜잭션 밖에서는 즉시 Redis 채널로 발행")
+    void publishRefresh_PublishToChannel() {
+        // given
+        when(redisKeyManager.getFilteringWordChannel()).thenReturn("chat:filtering:refresh");
+
+        // when
+        contentFilterService.publishRefresh();
+
+        // then
+        verify(stringRedisTemplate).convertAndSend("chat:filtering:refresh", "refresh");
+        verify(filteringWordAdapter, never()).initialize(any());
+    }
+
+    @Test
+    @DisplayName("갱신 전파 실패 - 로컬 사전은 비동기로 재구축")
+    void publishRefresh_PublishFails_RebuildLocally() {
+        // given
+        List<FilteringWord> words = List.of(new FilteringWord("욕설1"));
+        when(redisKeyManager.getFilteringWordChannel()).thenReturn("chat:filtering:refresh");
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+                .thenThrow(new RuntimeException("redis down"));
+        when(filteringWordRepository.findByActiveTrue()).thenReturn(words);
+
+        // when
+        contentFilterService.publishRefresh();
+
+        // then
+        verify(filteringWordAdapter, timeout(1000)).initialize(words);
+    }
+
+    @Test
+    @DisplayName("갱신 메시지 수신 - 전용 스레드에서 사전 재구축")
+    void onMessage_RebuildAsync() {
+        // given
+        List<FilteringWord> words = List.of(new FilteringWord("욕설1"), new FilteringWord("욕설2"));
+        when(filteringWordRepository.findByActiveTrue()).thenReturn(words);
+        Message message = mock(Message.class);
+
+        // when
+        contentFilterService.onMessage(message, null);
+
+        // then
+        verify(filteringWordAdapter, timeout(1000)).initialize(words);
+    }
 }
@@ -0,0 +1,66 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.util.FilteringTextNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilteringTextNormalizerTest {
+    private final FilteringTextNormalizer syllableNormalizer = new FilteringTextNormalizer(false);
+    private final FilteringTextNormalizer jamoNormalizer = new FilteringTextNormalizer(true);
+
+    @Nested
+    @DisplayName("음절 모드")
+    class SyllableModeTest {
+        @ParameterizedTest(name = "\"{0}\" → \"{1}\"")
+        @CsvSource({
+                "'씨 발', 씨발",
+                "'씨.발', 씨발",
+                "'씨-_-발!!', 씨발",
+                "'씨\u200B발', 씨발",
+                "'씨\u3164발', 씨발",
+                "'ＢＡＤ　ｗｏｒｄ', badword",
+                "'Bad Word', badword",
+                "'정상 문장 123', 정상문장123"
+        })
+        @DisplayName("구분자 제거 + NFKC + 소문자 변환")
+        void normalize_StripsSeparatorsAndFolds(String input, String expected) {
+            assertEquals(expected, syllableNormalizer.normalize(input));
+        }
+
+        @Test
+        @DisplayName("조합형 자모 시퀀스는 음절로 합성")
+        void normalize_ComposesConjoiningJamo() {
+            // given
+            String decomposed = "\u1109\u1175\u1107\u1161\u11AF"; // ᄉ ᅵ ᄇ ᅡ ᆯ
+
+            // when
+            String result = syllableNormalizer.normalize(decomposed);
+
+            // then
+            assertEquals("시발", result);
+        }
+    }
+
+    @Nested
+    @DisplayName("자모 분해 모드")
+    class JamoModeTest {
+        @Test
+        @DisplayName("음절과 호환 자모 입력이 같은 결과로 정규화")
+        void normalize_SyllableAndJamoConverge() {
+            // when
+            String fromSyllable = jamoNormalizer.normalize("시발");
+            String fromJamo = jamoNormalizer.normalize("ㅅ ㅣ ㅂ ㅏ ㄹ");
+            String fromConjoining = jamoNormalizer.normalize("\u1109\u1175\u1107\u1161\u11AF");
+
+            // then
+            assertEquals("ㅅㅣㅂㅏㄹ", fromSyllable);
+            assertEquals(fromSyllable, fromJamo);
+            assertEquals(fromSyllable, fromConjoining);
+        }
+    }
+}
@@ -30,6 +30,7 @@ import static org.mockito.Mockito.*;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class FilteringWordServiceImplTest {
     @Mock private FilteringWordRepository filteringWordRepository;
+    @Mock private ContentFilterService contentFilterService;
 
     @InjectMocks
     private FilteringWordServiceImpl filteringWordService;
@@ -71,10 +72,12 @@ class FilteringWordServiceImplTest {
         if (isDuplicated) {
             assertThrows(CustomException.class, () -> filteringWordService.addFilteringWord(word));
             verify(filteringWordRepository, never()).save(any());
+            verify(contentFilterService, never()).publishRefresh();
         } else {
             FilteringWordDTO result = filteringWordService.addFilteringWord(word);
             assertEquals(word, result.getWord());
             verify(filteringWordRepository).save(any(FilteringWord.class));
+            verify(contentFilterService).publishRefresh();
         }
     }
 
@@ -91,9 +94,11 @@ class FilteringWordServiceImplTest {
         if (exists) {
             filteringWordService.deleteFilteringWord(id);
             verify(filteringWordRepository).deleteById(id);
+            verify(contentFilterService).publishRefresh();
         } else {
             assertThrows(CustomException.class, () -> filteringWordService.deleteFilteringWord(id));
             verify(filteringWordRepository, never()).deleteById(id);
+            verify(contentFilterService, never()).publishRefresh();
         }
     }
 
@@ -115,6 +120,7 @@ class FilteringWordServiceImplTest {
             assertEquals(active, word.isActive());
             assertEquals("활성화", result.getWord());
             verify(filteringWordRepository).save(word);
+            verify(contentFilterService).publishRefresh();
         } else {
             assertThrows(CustomException.class, () -> filteringWordService.setFilteringWordActive(id, active));
         }
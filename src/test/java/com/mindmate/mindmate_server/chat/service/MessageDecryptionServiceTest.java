@@ -0,0 +1,142 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.domain.ChatMessage;
+import com.mindmate.mindmate_server.chat.domain.MessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MessageDecryptionServiceTest {
+    private AesGcmEncryptionService encryptionService;
+    private MeterRegistry meterRegistry;
+    private MessageDecryptionService messageDecryptionService;
+
+    @BeforeEach
+    void setup() {
+        encryptionService = new AesGcmEncryptionService(AesGcmEncryptionService.generateNewKey());
+        meterRegistry = new SimpleMeterRegistry();
+
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(meterRegistry);
+
+        // 병렬 임계치 10, 청크 3 -> 큰 페이지는 풀로 분산
+        messageDecryptionService = new MessageDecryptionService(encryptionService, provider, 2, 4, 10, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageDecryptionService.shutdown();
+    }
+
+    private ChatMessage encryptedMessage(String plainText) {
+        ChatMessage message = ChatMessage.builder()
+                .content(plainText)
+                .type(MessageType.TEXT)
+                .build();
+        message.updateEncryptedContent(encryptionService.encrypt(plainText));
+        return message;
+    }
+
+    @Test
+    @DisplayName("작은 페이지 일괄 복호화")
+    void decryptAll_SmallPage() {
+        // given
+        List<ChatMessage> messages = List.of(encryptedMessage("안녕"), encryptedMessage("하세요"));
+
+        // when
+        int failures = messageDecryptionService.decryptAll(messages);
+
+        // then
+        assertThat(failures).isZero();
+        assertThat(messages).extracting(ChatMessage::getContent).containsExactly("안녕", "하세요");
+    }
+
+    @Test
+    @DisplayName("큰 페이지는 풀로 분산 복호화해도 순서/내용 유지")
+    void decryptAll_LargePageInParallel() {
+        // given
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            messages.add(encryptedMessage("message-" + i));
+        }
+
+        // when
+        int failures = messageDecryptionService.decryptAll(messages);
+
+        // then
+        assertThat(failures).isZero();
+        for (int i = 0; i < 50; i++) {
+            assertThat(messages.get(i).getContent()).isEqualTo("message-" + i);
+        }
+        assertThat(meterRegistry.get("chat.message.decryption").tag("result", "success").counter().count())
+                .isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("복호화 실패는 버리지 않고 실패 카운터로 집계")
+    void decryptAll_RecordsFailures() {
+        // given
+        ChatMessage broken = ChatMessage.builder()
+                .content("x")
+                .type(MessageType.TEXT)
+                .build();
+        broken.updateEncryptedContent("invalid==");
+        List<ChatMessage> messages = List.of(encryptedMessage("정상"), broken);
+
+        // when
+        int failures = messageDecryptionService.decryptAll(messages);
+
+        // then
+        assertThat(failures).isEqualTo(1);
+        assertThat(messageDecryptionService.getFailureCount()).isEqualTo(1.0);
+        assertThat(messages.get(0).getContent()).isEqualTo("정상");
+    }
+
+    @Test
+    @DisplayName("암호화되지 않은 메시지는 복호화 대상에서 제외")
+    void decryptAll_SkipsPlainMessages() {
+        // given
+        ChatMessage plain = ChatMessage.builder()
+                .content("평문")
+                .type(MessageType.TEXT)
+                .build();
+
+        // when
+        int failures = messageDecryptionService.decryptAll(List.of(plain));
+
+        // then
+        assertThat(failures).isZero();
+        assertThat(plain.getContent()).isEqualTo("평문");
+        assertThat(meterRegistry.find("chat.message.decryption.page").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 복호화된 메시지는 다시 복호화하지 않음")
+    void decryptAll_SkipsAlreadyDecryptedMessages() {
+        // given
+        ChatMessage decrypted = encryptedMessage("저장 시 암호화");
+        decrypted.setDecryptedContent("저장 시 암호화");
+
+        // when
+        int failures = messageDecryptionService.decryptAll(List.of(decrypted));
+        boolean single = messageDecryptionService.decrypt(decrypted);
+
+        // then
+        assertThat(failures).isZero();
+        assertThat(single).isTrue();
+        assertThat(decrypted.getContent()).isEqualTo("저장 시 암호화");
+        assertThat(messageDecryptionService.getFailureCount()).isZero();
+    }
+}
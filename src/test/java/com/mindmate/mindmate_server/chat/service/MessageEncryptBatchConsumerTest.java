@@ -0,0 +1,111 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MessageEncryptBatchConsumerTest {
+    @Mock private AesGcmEncryptionService aesGcmEncryptionService;
+    @Mock private ChatMessageService chatMessageService;
+    @Mock private MessageSearchIndexService messageSearchIndexService;
+    @Mock private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private MessageEncryptBatchConsumer messageEncryptBatchConsumer;
+
+    private ConsumerRecord<String, ChatMessageEvent> record(ChatMessageEvent event) {
+        return new ConsumerRecord<>("chat-message-topic", 0, 0L, "100", event);
+    }
+
+    private ChatMessageEvent event(Long messageId, String content) {
+        return ChatMessageEvent.builder()
+                .messageId(messageId)
+                .roomId(100L)
+                .content(content)
+                .build();
+    }
+
+    @Test
+    @DisplayName("poll 단위 평문을 암호화하여 한 번의 배치 업데이트로 반영")
+    void encryptMessages_BulkUpdate() {
+        // given
+        when(aesGcmEncryptionService.encrypt("hello")).thenReturn("enc-hello");
+        when(aesGcmEncryptionService.encrypt("world")).thenReturn("enc-world");
+        when(chatMessageService.bulkUpdateEncryptedContents(anyMap(), anyList())).thenReturn(2);
+
+        List<ConsumerRecord<String, ChatMessageEvent>> records = List.of(
+                record(event(1L, "hello")),
+                record(event(2L, "world"))
+        );
+
+        // when
+        messageEncryptBatchConsumer.encryptMessages(records, acknowledgment);
+
+        // then
+        ArgumentCaptor<Map<Long, String>> captor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<List<ChatMessageSearchIndexDTO>> indexCaptor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageService, times(1)).bulkUpdateEncryptedContents(captor.capture(), indexCaptor.capture());
+        assertThat(captor.getValue())
+                .containsEntry(1L, "enc-hello")
+                .containsEntry(2L, "enc-world");
+        verify(chatMessageService, never()).findChatMessageById(anyLong());
+        verify(messageSearchIndexService).buildIndex(100L, 1L, "hello");
+        verify(messageSearchIndexService).buildIndex(100L, 2L, "world");
+        // 토큰 저장은 암호문 반영과 같은 트랜잭션(서비스)에서 처리
+        assertThat(indexCaptor.getValue()).hasSize(2);
+        verify(messageSearchIndexService, never()).indexAll(anyList());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("필터링/이미 암호화/미저장 메시지는 제외")
+    void encryptMessages_SkipsIneligibleEvents() {
+        // given
+        ChatMessageEvent filtered = ChatMessageEvent.builder().messageId(1L).content("a").filtered(true).build();
+        ChatMessageEvent encrypted = ChatMessageEvent.builder().messageId(2L).content("b").encrypted(true).build();
+        ChatMessageEvent unsaved = ChatMessageEvent.builder().content("c").build();
+
+        // when
+        messageEncryptBatchConsumer.encryptMessages(
+                List.of(record(filtered), record(encrypted), record(unsaved)), acknowledgment);
+
+        // then
+        verify(aesGcmEncryptionService, never()).encrypt(anyString());
+        verify(chatMessageService, never()).bulkUpdateEncryptedContents(anyMap(), anyList());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("암호화 실패 시 배치 전체를 다시 던짐 -> DefaultErrorHandler")
+    void encryptMessages_ExceptionHandling() {
+        // given
+        when(aesGcmEncryptionService.encrypt(anyString())).thenThrow(new RuntimeException("암호화 실패"));
+
+        // when & then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> messageEncryptBatchConsumer.encryptMessages(List.of(record(event(1L, "hello"))), acknowledgment));
+        assertThat(exception.getMessage()).isEqualTo("암호화 실패");
+
+        verify(chatMessageService, never()).bulkUpdateEncryptedContents(anyMap(), anyList());
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.*;
 class MessageEncryptConsumerTest {
     @Mock private AesGcmEncryptionService aesGcmEncryptionService;
     @Mock private ChatMessageService chatMessageService;
+    @Mock private MessageSearchIndexService messageSearchIndexService;
     @Mock private ConsumerRecord<String , ChatMessageEvent> mockRecord;
     @Mock private ChatMessageEvent mockEvent;
     @Mock private ChatMessage mockMessage;
@@ -42,6 +43,8 @@ class MessageEncryptConsumerTest {
     void setup() {
         when(mockRecord.value()).thenReturn(mockEvent);
         when(mockEvent.getMessageId()).thenReturn(messageId);
+        when(mockEvent.getRoomId()).thenReturn(100L);
+        when(mockMessage.getId()).thenReturn(messageId);
         when(chatMessageService.findChatMessageById(messageId)).thenReturn(mockMessage);
         when(mockMessage.getContent()).thenReturn(originalContent);
         when(aesGcmEncryptionService.encrypt(originalContent)).thenReturn(encryptedContent);
@@ -68,6 +71,7 @@ class MessageEncryptConsumerTest {
         verify(chatMessageService, never()).findChatMessageById(anyLong());
         verify(aesGcmEncryptionService, never()).encrypt(anyString());
         verify(chatMessageService, never()).save(any(ChatMessage.class));
+        verify(messageSearchIndexService, never()).index(any(), any(), any());
         verify(acknowledgment).acknowledge();
     }
 
@@ -94,6 +98,7 @@ class MessageEncryptConsumerTest {
         verify(aesGcmEncryptionService).encrypt(originalContent);
         verify(mockMessage).updateEncryptedContent(encryptedContent);
         verify(chatMessageService).save(mockMessage);
+        verify(messageSearchIndexService).index(100L, messageId, originalContent);
         verify(acknowledgment).acknowledge();
     }
 
@@ -0,0 +1,146 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.domain.FilteringWord;
+import com.mindmate.mindmate_server.chat.domain.ToastBoxKeyword;
+import com.mindmate.mindmate_server.chat.dto.KeywordScanResult;
+import com.mindmate.mindmate_server.chat.util.FilteringTextNormalizer;
+import com.mindmate.mindmate_server.chat.util.MessageKeywordScanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageKeywordScannerTest {
+    private MessageKeywordScanner scanner;
+
+    @BeforeEach
+    void setup() {
+        scanner = new MessageKeywordScanner(new CompiledAhoCorasickMatcher<>(), new CompiledAhoCorasickMatcher<>(),
+                new FilteringTextNormalizer(false));
+    }
+
+    private ToastBoxKeyword toastBox(String keyword) {
+        return ToastBoxKeyword.builder().keyword(keyword).title(keyword + " 안내").active(true).build();
+    }
+
+    @Test
+    @DisplayName("사전이 비어 있어도 스캔 가능")
+    void scan_BeforeInitialize_ReturnsEmpty() {
+        KeywordScanResult result = scanner.scan("아무 내용");
+
+        assertFalse(result.isFiltered());
+        assertTrue(result.getToastBoxKeywords().isEmpty());
+    }
+
+    @Test
+    @DisplayName("한 번의 스캔으로 필터링 여부와 토스트 박스 키워드를 함께 반환")
+    void scan_ReturnsBothDictionaries() {
+        // given
+        ToastBoxKeyword depression = toastBox("우울");
+        scanner.updateFilteringWords(List.of(new FilteringWord("나쁜말")));
+        scanner.updateToastBoxKeywords(List.of(depression, toastBox("불면")));
+
+        // when
+        KeywordScanResult normal = scanner.scan("요즘 우울 해요");
+        KeywordScanResult filtered = scanner.scan("나쁜 말 하면서 우울");
+
+        // then
+        assertFalse(normal.isFiltered());
+        assertEquals(List.of(depression), normal.getToastBoxKeywords());
+        assertTrue(filtered.isFiltered());
+        assertEquals(List.of(depression), filtered.getToastBoxKeywords());
+    }
+
+    @Test
+    @DisplayName("같은 키워드가 여러 번 나와도 토스트 박스는 한 번만 반환")
+    void scan_DeduplicatesToastBoxes() {
+        // given
+        ToastBoxKeyword depression = toastBox("우울");
+        scanner.updateToastBoxKeywords(List.of(depression));
+
+        // when
+        KeywordScanResult result = scanner.scan("우울하고 또 우울해");
+
+        // then
+        assertEquals(List.of(depression), result.getToastBoxKeywords());
+    }
+
+    @Test
+    @DisplayName("두 사전에 같은 단어가 있으면 필터링과 토스트 박스 모두 반환")
+    void scan_SharedPatternCarriesBothTags() {
+        // given
+        ToastBoxKeyword shared = toastBox("자해");
+        scanner.updateFilteringWords(List.of(new FilteringWord("자해")));
+        scanner.updateToastBoxKeywords(List.of(shared));
+
+        // when
+        KeywordScanResult result = scanner.scan("자해");
+
+        // then
+        assertTrue(result.isFiltered());
+        assertEquals(List.of(shared), result.getToastBoxKeywords());
+    }
+
+    @Test
+    @DisplayName("토스트 박스 키워드는 필터 정규화 없이 원문 기준으로 매칭")
+    void scan_ToastBoxMatchesOriginalText() {
+        // given
+        ToastBoxKeyword depression = toastBox("우울");
+        scanner.updateFilteringWords(List.of(new FilteringWord("나쁜말")));
+        scanner.updateToastBoxKeywords(List.of(depression));
+
+        // when
+        KeywordScanResult separated = scanner.scan("우 울 해요, 나.쁜.말");
+        KeywordScanResult original = scanner.scan("우울해요");
+
+        // then
+        assertTrue(separated.isFiltered());
+        assertTrue(separated.getToastBoxKeywords().isEmpty());
+        assertEquals(List.of(depression), original.getToastBoxKeywords());
+    }
+
+    @Test
+    @DisplayName("토스트 박스 키워드만 조회 - 필터 사전과 무관하게 원문 기준 중복 제거")
+    void findToastBoxKeywords_IgnoresFilteringDictionary() {
+        // given
+        ToastBoxKeyword depression = toastBox("우울");
+        scanner.updateFilteringWords(List.of(new FilteringWord("우울")));
+        scanner.updateToastBoxKeywords(List.of(depression));
+
+        // when & then
+        assertEquals(List.of(depression), scanner.findToastBoxKeywords("우울하고 또 우울해"));
+        assertTrue(scanner.findToastBoxKeywords("우 울 해").isEmpty());
+        assertTrue(scanner.findToastBoxKeywords(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("필터링 여부만 확인")
+    void isFiltered_UsesNormalizedText() {
+        // given
+        scanner.updateFilteringWords(List.of(new FilteringWord("나쁜말")));
+
+        // when & then
+        assertTrue(scanner.isFiltered("나 쁜 말"));
+        assertFalse(scanner.isFiltered("좋은 말"));
+        assertFalse(scanner.isFiltered(null));
+    }
+
+    @Test
+    @DisplayName("한쪽 사전만 갱신해도 다른 사전 유지")
+    void update_KeepsOtherDictionary() {
+        // given
+        scanner.updateFilteringWords(List.of(new FilteringWord("나쁜말")));
+        scanner.updateToastBoxKeywords(List.of(toastBox("우울")));
+
+        // when
+        scanner.updateFilteringWords(List.of(new FilteringWord("금지어")));
+
+        // then
+        assertFalse(scanner.scan("나쁜말").isFiltered());
+        assertTrue(scanner.scan("금지어").isFiltered());
+        assertEquals(1, scanner.scan("우울").getToastBoxKeywords().size());
+    }
+}
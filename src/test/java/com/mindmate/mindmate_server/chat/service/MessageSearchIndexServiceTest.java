@@ -0,0 +1,126 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatMessageSearchIndexDTO;
+import com.mindmate.mindmate_server.chat.repository.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MessageSearchIndexServiceTest {
+    @Mock private ChatMessageRepository chatMessageRepository;
+
+    private MessageSearchIndexService messageSearchIndexService;
+
+    private final Long roomId = 100L;
+
+    @BeforeEach
+    void setup() {
+        messageSearchIndexService = new MessageSearchIndexService(chatMessageRepository, AesGcmEncryptionService.generateNewKey());
+    }
+
+    @Test
+    @DisplayName("메시지 토큰은 키워드 토큰을 모두 포함 -> 부분 문자열 검색 가능")
+    void tokenize_ContainsKeywordTokens() {
+        // given
+        Set<String> messageTokens = messageSearchIndexService.tokenize(roomId, "오늘 기분이 좋아요");
+        when(chatMessageRepository.findMessageIdsBySearchTokens(eq(roomId), anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        messageSearchIndexService.search(roomId, "기분이");
+
+        // then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(chatMessageRepository).findMessageIdsBySearchTokens(eq(roomId), captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(messageTokens).containsAll(captor.getValue());
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드는 1-gram 토큰으로 조회")
+    void search_SingleCharacter() {
+        // given
+        Set<String> messageTokens = messageSearchIndexService.tokenize(roomId, "네 알겠습니다");
+
+        // when
+        messageSearchIndexService.search(roomId, "네");
+
+        // then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(chatMessageRepository).findMessageIdsBySearchTokens(eq(roomId), captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(messageTokens).containsAll(captor.getValue());
+    }
+
+    @Test
+    @DisplayName("대소문자/전각 문자는 정규화되어 같은 토큰")
+    void tokenize_NormalizesCase() {
+        // when
+        Set<String> lower = messageSearchIndexService.tokenize(roomId, "hello");
+        Set<String> upper = messageSearchIndexService.tokenize(roomId, "ＨＥＬＬＯ");
+
+        // then
+        assertThat(upper).isEqualTo(lower);
+    }
+
+    @Test
+    @DisplayName("같은 평문이라도 채팅방이 다르면 다른 토큰")
+    void tokenize_RoomScoped() {
+        // when
+        Set<String> room1 = messageSearchIndexService.tokenize(1L, "상담");
+        Set<String> room2 = messageSearchIndexService.tokenize(2L, "상담");
+
+        // then
+        assertThat(room1).doesNotContainAnyElementsOf(room2);
+    }
+
+    @Test
+    @DisplayName("인덱스 저장 시 토큰 묶음을 한 번에 저장")
+    void index_SavesTokens() {
+        // when
+        messageSearchIndexService.index(roomId, 1L, "안녕");
+
+        // then
+        ArgumentCaptor<List<ChatMessageSearchIndexDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatMessageRepository).bulkInsertSearchTokens(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getMessageId()).isEqualTo(1L);
+        // "안", "녕", "안녕"
+        assertThat(captor.getValue().get(0).getTokens()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("공백 키워드는 조회 x")
+    void search_BlankKeyword() {
+        // when
+        List<Long> result = messageSearchIndexService.search(roomId, "   ");
+
+        // then
+        assertThat(result).isEmpty();
+        verify(chatMessageRepository, never()).findMessageIdsBySearchTokens(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("평문 비교는 색인과 같은 정규화(전각/대소문자/공백) 사용")
+    void matches_UsesIndexNormalization() {
+        // when & then
+        assertThat(messageSearchIndexService.matches("Ｈｅｌｌｏ   World", "hello world")).isTrue();
+        assertThat(messageSearchIndexService.matches("오늘 기분이 좋아요", "기분이")).isTrue();
+        assertThat(messageSearchIndexService.matches("오늘 기분이 좋아요", "슬퍼요")).isFalse();
+        assertThat(messageSearchIndexService.matches(null, "기분")).isFalse();
+    }
+}
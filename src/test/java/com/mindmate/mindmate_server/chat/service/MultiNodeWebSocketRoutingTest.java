@@ -0,0 +1,189 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmate.mindmate_server.chat.dto.ChatEventType;
+import com.mindmate.mindmate_server.chat.util.ChatEventEnvelopeCodec;
+import com.mindmate.mindmate_server.chat.util.ChatMessageListener;
+import com.mindmate.mindmate_server.chat.util.ChatRoomSubscriptionRegistry;
+import com.mindmate.mindmate_server.chat.util.WebSocketDestinationResolver;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 두 노드 간 라우팅 통합 테스트
+ * Redis pub/sub 과 노드별 SimpleBroker 는 로컬 대역(인메모리 버스, mock SimpMessagingTemplate)으로 대체
+ */
+class MultiNodeWebSocketRoutingTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final InMemoryRedisBus bus = new InMemoryRedisBus();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setup() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @Test
+    @DisplayName("채팅방 이벤트는 해당 방 구독 세션이 있는 노드에서만 전달")
+    void roomEvent_DeliveredOnlyBySubscribedNode() {
+        // given
+        nodeB.subscribe("session-b", "sub-1", "/topic/chat.room.1", null);
+
+        // when
+        nodeA.publisher.publishChatRoomEvent(1L, ChatEventType.MESSAGE, Map.of("content", "hello"));
+
+        // then
+        verify(nodeB.messagingTemplate).send(eq("/topic/chat.room.1"), any(Message.class));
+        verify(nodeA.messagingTemplate, never()).send(any(String.class), any(Message.class));
+    }
+
+    @Test
+    @DisplayName("사용자 목적지 메시지는 사용자가 연결된 노드로 라우팅")
+    void userDestination_RoutedToOwningNode() throws Exception {
+        // given
+        Principal user = () -> "5";
+        nodeB.subscribe("session-b", "sub-1", "/user/queue/unread", user);
+        Map<String, Object> unread = Map.of("roomId", 1, "unreadCount", 3);
+
+        // when
+        nodeA.router.convertAndSendToUser("5", "/queue/unread", unread);
+
+        // then
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(nodeB.messagingTemplate).send(eq("/user/5/queue/unread"), captor.capture());
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(unread)),
+                objectMapper.readTree((byte[]) captor.getValue().getPayload()));
+        verify(nodeA.messagingTemplate, never()).send(any(String.class), any(Message.class));
+        verify(nodeA.messagingTemplate, never()).convertAndSendToUser(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("연결 종료 후에는 해당 노드가 더 이상 채널을 수신하지 않음")
+    void disconnect_StopsRouting() {
+        // given
+        Principal user = () -> "5";
+        nodeB.subscribe("session-b", "sub-1", "/user/queue/unread", user);
+        nodeB.subscribe("session-b", "sub-2", "/topic/chat.room.1", user);
+
+        // when
+        nodeB.disconnect("session-b");
+        nodeA.router.convertAndSendToUser("5", "/queue/unread", Map.of("unreadCount", 1));
+        nodeA.publisher.publishChatRoomEvent(1L, ChatEventType.MESSAGE, Map.of("content", "hello"));
+
+        // then
+        verify(nodeB.messagingTemplate, never()).send(any(String.class), any(Message.class));
+        assertEquals(0, bus.subscriberCount());
+    }
+
+    /**
+     * Redis pub/sub 대역: 채널별 구독자에게 동기 전달
+     */
+    private static class InMemoryRedisBus {
+        private final Map<String, List<MessageListener>> subscribers = new ConcurrentHashMap<>();
+
+        void subscribe(String channel, MessageListener listener) {
+            subscribers.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+        }
+
+        void unsubscribe(String channel, MessageListener listener) {
+            subscribers.computeIfPresent(channel, (key, listeners) -> {
+                listeners.remove(listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+        }
+
+        long publish(String channel, byte[] body) {
+            List<MessageListener> listeners = subscribers.getOrDefault(channel, List.of());
+            listeners.forEach(listener -> listener.onMessage(
+                    new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body), null));
+            return listeners.size();
+        }
+
+        int subscriberCount() {
+            return subscribers.values().stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private class Node {
+        private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        private final ChatEventPublisher publisher;
+        private final UserDestinationRouter router;
+        private final ChatRoomSubscriptionRegistry registry;
+
+        @SuppressWarnings("unchecked")
+        Node() {
+            RedisKeyManager redisKeyManager = new RedisKeyManager();
+            ChatEventEnvelopeCodec codec = new ChatEventEnvelopeCodec(objectMapper);
+
+            RedisTemplate<String, byte[]> byteArrayRedisTemplate = mock(RedisTemplate.class);
+            when(byteArrayRedisTemplate.convertAndSend(any(String.class), any()))
+                    .thenAnswer(inv -> bus.publish(inv.getArgument(0), inv.getArgument(1)));
+
+            RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+            doAnswer(inv -> {
+                bus.subscribe(((ChannelTopic) inv.getArgument(1)).getTopic(), inv.getArgument(0));
+                return null;
+            }).when(container).addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+            doAnswer(inv -> {
+                bus.unsubscribe(((ChannelTopic) inv.getArgument(1)).getTopic(), inv.getArgument(0));
+                return null;
+            }).when(container).removeMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+
+            ChatMessageListener listener = new ChatMessageListener(
+                    messagingTemplate, objectMapper, new WebSocketDestinationResolver(), codec, mock(PresenceNearCache.class));
+            publisher = new ChatEventPublisher(mock(RedisTemplate.class), byteArrayRedisTemplate, objectMapper,
+                    codec, redisKeyManager, new WebSocketDestinationResolver(), messagingTemplate);
+            router = new UserDestinationRouter(messagingTemplate, byteArrayRedisTemplate, codec, redisKeyManager,
+                    UserDestinationRouter.REDIS_MODE);
+            registry = new ChatRoomSubscriptionRegistry(container, listener, redisKeyManager);
+            ReflectionTestUtils.setField(registry, "userDestinationMode", UserDestinationRouter.REDIS_MODE);
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination, Principal user) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setDestination(destination);
+            registry.handleSubscribe(new SessionSubscribeEvent(this,
+                    MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), user));
+        }
+
+        void disconnect(String sessionId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+            accessor.setSessionId(sessionId);
+            registry.handleDisconnect(new SessionDisconnectEvent(this,
+                    MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), sessionId, CloseStatus.NORMAL));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmate.mindmate_server.chat.util.ChatRoomSubscriptionRegistry;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PresenceNearCacheTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<ChatRoomSubscriptionRegistry> subscriptionRegistry = mock(ObjectProvider.class);
+
+    private PresenceNearCache presenceNearCache;
+
+    private static final Long USER_ID = 1L;
+    private static final Long ROOM_ID = 100L;
+    private static final String STATUS_CHANNEL = "user:status:1";
+
+    @BeforeEach
+    void setup() {
+        // 기본: 패턴 구독 모드 (affinity 레지스트리 없음)
+        presenceNearCache = new PresenceNearCache(objectMapper, new RedisKeyManager(), subscriptionRegistry, 60_000, 1000);
+    }
+
+    // ChatEventPublisher.publishUserEvent 와 같은 이중 직렬화 형식
+    private String statusEvent(boolean online, Long activeRoomId) throws Exception {
+        Map<String, Object> data = new HashMap<>();
+        data.put("online", online);
+        data.put("activeRoomId", activeRoomId);
+        String event = objectMapper.writeValueAsString(Map.of("type", "USER_STATUS", "data", data));
+        return objectMapper.writeValueAsString(event);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 null 반환")
+    void isUserActiveInRoom_Miss() {
+        // when & then
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, ROOM_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("user:status 이벤트로 캐시 갱신")
+    void applyStatusEvent_UpdatesCache() throws Exception {
+        // when
+        presenceNearCache.applyStatusEvent(USER_ID, statusEvent(true, ROOM_ID));
+
+        // then
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, ROOM_ID)).isTrue();
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, 999L)).isFalse();
+
+        // when
+        presenceNearCache.applyStatusEvent(USER_ID, statusEvent(false, null));
+
+        // then
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, ROOM_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 이벤트는 캐시 항목 무효화")
+    void applyStatusEvent_InvalidPayload_Invalidates() {
+        // given
+        presenceNearCache.put(USER_ID, true, ROOM_ID);
+
+        // when
+        presenceNearCache.applyStatusEvent(USER_ID, "{not json");
+
+        // then
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, ROOM_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("채널 affinity 모드에서는 상태 채널을 구독 중인 사용자만 캐시")
+    void put_AffinityMode_OnlySubscribedUsers() {
+        // given
+        ChatRoomSubscriptionRegistry registry = mock(ChatRoomSubscriptionRegistry.class);
+        when(subscriptionRegistry.getIfAvailable()).thenReturn(registry);
+        when(registry.getLocalSubscriptionCount(STATUS_CHANNEL)).thenReturn(0);
+
+        // when
+        presenceNearCache.put(USER_ID, true, ROOM_ID);
+
+        // then
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, ROOM_ID)).isNull();
+
+        // when
+        when(registry.getLocalSubscriptionCount(STATUS_CHANNEL)).thenReturn(1);
+        presenceNearCache.put(USER_ID, true, ROOM_ID);
+
+        // then
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, ROOM_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독이 끝난 사용자의 항목은 다음 조회에서 버림")
+    void isUserActiveInRoom_Unsubscribed_Evicts() {
+        // given
+        ChatRoomSubscriptionRegistry registry = mock(ChatRoomSubscriptionRegistry.class);
+        when(subscriptionRegistry.getIfAvailable()).thenReturn(registry);
+        when(registry.getLocalSubscriptionCount(STATUS_CHANNEL)).thenReturn(1);
+        presenceNearCache.put(USER_ID, true, ROOM_ID);
+
+        // when
+        when(registry.getLocalSubscriptionCount(STATUS_CHANNEL)).thenReturn(0);
+
+        // then
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, ROOM_ID)).isNull();
+
+        // when
+        when(registry.getLocalSubscriptionCount(STATUS_CHANNEL)).thenReturn(1);
+
+        // then
+        assertThat(presenceNearCache.isUserActiveInRoom(USER_ID, ROOM_ID)).isNull();
+    }
+}
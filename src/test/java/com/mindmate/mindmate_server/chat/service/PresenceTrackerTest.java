@@ -0,0 +1,260 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mindmate.mindmate_server.chat.dto.ChatEventType;
+import com.mindmate.mindmate_server.chat.util.ChatRoomSubscriptionRegistry;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PresenceTrackerTest {
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+    @Mock private RedisConnection connection;
+    @Mock private RedisScriptingCommands scriptingCommands;
+    @Mock private RedisKeyCommands keyCommands;
+    @Mock private ChatEventPublisher eventPublisher;
+    @Mock private ObjectProvider<ChatRoomSubscriptionRegistry> subscriptionRegistry;
+
+    private PresenceTracker presenceTracker;
+    // 파이프라인 결과 (상태 기록 스크립트: 1 변경됨 / 0 기존과 같음)
+    private List<Object> pipelineResults = List.of();
+
+    private static final Long USER_ID = 1L;
+    private static final Long ROOM_ID = 100L;
+    private static final String PRESENCE_KEY = "user:presence:1";
+
+    @BeforeEach
+    void setup() {
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection);
+            return pipelineResults;
+        });
+
+        presenceTracker = new PresenceTracker(stringRedisTemplate, new RedisKeyManager(), eventPublisher,
+                new PresenceNearCache(new ObjectMapper(), new RedisKeyManager(), subscriptionRegistry, 60_000, 1000),
+                300, 1800);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void verifyPresenceWritten(int times, String online, String room, long ttlSeconds) {
+        verify(scriptingCommands, times(times)).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1),
+                eq(bytes(PRESENCE_KEY)), eq(bytes(online)), eq(bytes(room)), any(byte[].class),
+                eq(bytes(String.valueOf(ttlSeconds))));
+    }
+
+    @Test
+    @DisplayName("flush 전 반복된 상태 변경은 마지막 값 한 번만 기록")
+    void flush_CoalescesFlappingUpdates() {
+        // given
+        presenceTracker.update(USER_ID, true, null);
+        presenceTracker.update(USER_ID, false, null);
+        presenceTracker.update(USER_ID, true, ROOM_ID);
+
+        // when
+        presenceTracker.flush();
+
+        // then
+        verifyPresenceWritten(1, "1", "100", 300L);
+        verify(eventPublisher, times(1)).publishUserEvent(eq(USER_ID), eq(ChatEventType.USER_STATUS), any(Map.class));
+    }
+
+    @Test
+    @DisplayName("Redis 에 있던 상태와 같으면 다시 기록하되 USER_STATUS 는 발행하지 않음")
+    void flush_SameStatus_NoRepublish() {
+        // given
+        pipelineResults = List.of(1L);
+        presenceTracker.update(USER_ID, true, ROOM_ID);
+        presenceTracker.flush();
+
+        // when
+        pipelineResults = List.of(0L);
+        presenceTracker.update(USER_ID, true, ROOM_ID);
+        presenceTracker.flush();
+
+        // then
+        verifyPresenceWritten(2, "1", "100", 300L);
+        verify(eventPublisher, times(1)).publishUserEvent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 그 사이 상태를 바꿨으면 같은 값을 다시 기록해도 USER_STATUS 발행")
+    void flush_ChangedByOtherNode_Republishes() {
+        // given
+        pipelineResults = List.of(1L);
+        presenceTracker.update(USER_ID, true, ROOM_ID);
+        presenceTracker.flush();
+
+        // when: 이 노드 기준으로는 같은 상태지만 Redis 에는 다른 노드가 기록한 값이 있음
+        presenceTracker.update(USER_ID, true, ROOM_ID);
+        presenceTracker.flush();
+
+        // then
+        verify(eventPublisher, times(2)).publishUserEvent(eq(USER_ID), eq(ChatEventType.USER_STATUS), any(Map.class));
+    }
+
+    @Test
+    @DisplayName("오프라인은 긴 TTL 로 기록")
+    void flush_Offline_UsesOfflineTtl() {
+        // given
+        presenceTracker.update(USER_ID, false, null);
+
+        // when
+        presenceTracker.flush();
+
+        // then
+        verifyPresenceWritten(1, "0", "", 1800L);
+    }
+
+    @Test
+    @DisplayName("하트비트는 TTL 만 갱신하고 갱신 주기 내 반복 호출은 무시")
+    void touch_RefreshesTtlThrottled() {
+        // when
+        presenceTracker.touch(USER_ID);
+        presenceTracker.touch(USER_ID);
+        presenceTracker.flush();
+        presenceTracker.touch(USER_ID);
+        presenceTracker.flush();
+
+        // then
+        verify(keyCommands, times(1)).expire(bytes(PRESENCE_KEY), 300L);
+        verifyNoInteractions(scriptingCommands);
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("기록 실패 시 다음 flush 에서 재시도")
+    void flush_Failure_Retried() {
+        // given
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(List.of());
+        presenceTracker.update(USER_ID, true, ROOM_ID);
+
+        // when
+        presenceTracker.flush();
+        presenceTracker.flush();
+
+        // then
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(eventPublisher, times(1)).publishUserEvent(eq(USER_ID), eq(ChatEventType.USER_STATUS), any(Map.class));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("activeRoomScenarios")
+    @DisplayName("HMGET 한 번으로 채팅방 활성 여부 확인")
+    void isUserActiveInRoom_SingleHmget(String description, List<Object> values, boolean expected) {
+        // given
+        when(hashOperations.multiGet(eq(PRESENCE_KEY), anyCollection())).thenReturn(values);
+
+        // when
+        boolean active = presenceTracker.isUserActiveInRoom(USER_ID, ROOM_ID);
+
+        // then
+        assertThat(active).isEqualTo(expected);
+        verify(hashOperations, times(1)).multiGet(PRESENCE_KEY, List.of("o", "r"));
+        verify(hashOperations, never()).get(any(), any());
+    }
+
+    static Stream<Arguments> activeRoomScenarios() {
+        return Stream.of(
+                Arguments.of("온라인이고 같은 방에 있음", List.of("1", "100"), true),
+                Arguments.of("온라인이지만 다른 방에 있음", List.of("1", "999"), false),
+                Arguments.of("오프라인 상태", List.of("0", "100"), false),
+                Arguments.of("활성 방 없음", List.of("1", ""), false),
+                Arguments.of("상태 없음", Arrays.asList(null, null), false)
+        );
+    }
+
+    @Test
+    @DisplayName("Redis 조회 결과는 near-cache 에 적재되어 다음 확인은 Redis 를 거치지 않음")
+    void isUserActiveInRoom_NearCacheHit() {
+        // given
+        when(hashOperations.multiGet(eq(PRESENCE_KEY), anyCollection())).thenReturn(List.of("1", "100"));
+
+        // when
+        boolean first = presenceTracker.isUserActiveInRoom(USER_ID, ROOM_ID);
+        boolean second = presenceTracker.isUserActiveInRoom(USER_ID, ROOM_ID);
+        boolean otherRoom = presenceTracker.isUserActiveInRoom(USER_ID, 999L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(otherRoom).isFalse();
+        verify(hashOperations, times(1)).multiGet(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("이 노드가 기록한 상태는 flush 후 near-cache 에서 바로 확인")
+    void flush_PopulatesNearCache() {
+        // given
+        presenceTracker.update(USER_ID, true, ROOM_ID);
+        presenceTracker.flush();
+
+        // when
+        boolean active = presenceTracker.isUserActiveInRoom(USER_ID, ROOM_ID);
+
+        // then
+        assertThat(active).isTrue();
+        verifyNoInteractions(hashOperations);
+    }
+
+    @Test
+    @DisplayName("아직 flush 되지 않은 로컬 상태를 우선 사용")
+    void isUserActiveInRoom_PendingStateWins() {
+        // given
+        presenceTracker.update(USER_ID, true, ROOM_ID);
+
+        // when & then
+        assertThat(presenceTracker.isUserActiveInRoom(USER_ID, ROOM_ID)).isTrue();
+        assertThat(presenceTracker.getActiveRoom(USER_ID)).isEqualTo(ROOM_ID);
+        verifyNoInteractions(hashOperations);
+    }
+
+    @Test
+    @DisplayName("저장된 활성 채팅방 조회")
+    void getActiveRoom_ParsesStoredValue() {
+        // given
+        when(hashOperations.get(PRESENCE_KEY, "r")).thenReturn("100", "");
+
+        // when & then
+        assertThat(presenceTracker.getActiveRoom(USER_ID)).isEqualTo(ROOM_ID);
+        assertThat(presenceTracker.getActiveRoom(USER_ID)).isNull();
+    }
+}
@@ -48,6 +48,7 @@ class ToastBoxConsumerTest {
         when(mockEvent.getMessageId()).thenReturn(messageId);
         when(mockEvent.getContent()).thenReturn(content);
         when(mockEvent.isFiltered()).thenReturn(false);
+        when(mockEvent.getToastBoxes()).thenReturn(null);
     }
 
 
@@ -144,6 +145,22 @@ class ToastBoxConsumerTest {
         verify(acknowledgment).acknowledge();
     }
 
+    @Test
+    @DisplayName("전송 시점 스캔 결과가 포함된 메시지 - 재스캔 없이 발행")
+    void processToastBox_PrecomputedToastBoxes() {
+        // given
+        ToastBoxEvent toastBox = ToastBoxEvent.from(roomId, messageId, createKeyword("키워드", "제목", "내용"));
+        when(mockEvent.getToastBoxes()).thenReturn(List.of(toastBox));
+
+        // when
+        toastBoxConsumer.processToastBox(mockRecord, acknowledgment);
+
+        // then
+        verify(toastBoxService, never()).findToastBoxKeywords(anyString());
+        verify(chatEventPublisher).publishChatRoomEvent(roomId, ChatEventType.TOAST_BOX, toastBox);
+        verify(acknowledgment).acknowledge();
+    }
+
     private ToastBoxKeyword createKeyword(String keyword, String title, String content) {
         ToastBoxKeyword mock = mock(ToastBoxKeyword.class);
         when(mock.getKeyword()).thenReturn(keyword);
@@ -87,8 +87,7 @@ class UnreadConsumerTest {
                 boolean senderIsListener,
                 boolean recipientActive,
                 boolean expectMarkAsRead,
-                boolean expectIncrementUnread,
-                boolean expectIncreaseForListener) {
+                boolean expectIncrementUnread) {
             // given
             User sender = senderIsListener ? mockListener : mockSpeaker;
             Long senderId = senderIsListener ? listenerId : speakerId;
@@ -121,30 +120,22 @@ class UnreadConsumerTest {
 
             if (expectIncrementUnread) {
                 verify(chatPresenceService).incrementUnreadCountInRedis(roomId, recipientId);
-                verify(chatRoomService).save(mockChatRoom);
-
-                if (expectIncreaseForListener) {
-                    verify(mockChatRoom).increaseUnreadCountForListener();
-                    verify(mockChatRoom, never()).increaseUnreadCountForSpeaker();
-                } else {
-                    verify(mockChatRoom).increaseUnreadCountForSpeaker();
-                    verify(mockChatRoom, never()).increaseUnreadCountForListener();
-                }
+
+                // write-behind: DB 카운트는 UnreadCountWriteBehindService에서 반영
+                verify(chatRoomService, never()).save(mockChatRoom);
             } else {
                 verify(chatPresenceService, never()).incrementUnreadCountInRedis(anyLong(), anyLong());
-                verify(mockChatRoom, never()).increaseUnreadCountForSpeaker();
-                verify(mockChatRoom, never()).increaseUnreadCountForListener();
             }
             verify(acknowledgment).acknowledge();
         }
 
         static Stream<Arguments> messageScenarios() {
             return Stream.of(
-                    // senderIsListener, recipientActive, expectMarkAsRead, expectIncrementUnread, expectIncreaseForListener
-                    Arguments.of(true, true, true, false, false),   // 리스너가 보냄, 스피커가 온라인
-                    Arguments.of(true, false, false, true, false),  // 리스너가 보냄, 스피커가 오프라인
-                    Arguments.of(false, true, true, false, false),  // 스피커가 보냄, 리스너가 온라인
-                    Arguments.of(false, false, false, true, true)   // 스피커가 보냄, 리스너가 오프라인
+                    // senderIsListener, recipientActive, expectMarkAsRead, expectIncrementUnread
+                    Arguments.of(true, true, true, false),   // 리스너가 보냄, 스피커가 온라인
+                    Arguments.of(true, false, false, true),  // 리스너가 보냄, 스피커가 오프라인
+                    Arguments.of(false, true, true, false),  // 스피커가 보냄, 리스너가 온라인
+                    Arguments.of(false, false, false, true)  // 스피커가 보냄, 리스너가 오프라인
             );
         }
     }
@@ -0,0 +1,150 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.domain.ChatRoom;
+import com.mindmate.mindmate_server.chat.dto.ChatMessageEvent;
+import com.mindmate.mindmate_server.user.domain.User;
+import com.mindmate.mindmate_server.user.service.UserService;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UnreadCountBatchConsumerTest {
+    @Mock private ChatRoomService chatRoomService;
+    @Mock private ChatPresenceService chatPresenceService;
+    @Mock private ChatService chatService;
+    @Mock private UserService userService;
+    @Mock private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private UnreadCountBatchConsumer unreadCountBatchConsumer;
+
+    private ChatRoom mockChatRoom;
+    private User mockListener;
+    private User mockSpeaker;
+
+    private final Long roomId = 100L;
+    private final Long listenerId = 1L;
+    private final Long speakerId = 2L;
+
+    @BeforeEach
+    void setup() {
+        mockChatRoom = mock(ChatRoom.class);
+        mockListener = mock(User.class);
+        mockSpeaker = mock(User.class);
+
+        when(mockListener.getId()).thenReturn(listenerId);
+        when(mockSpeaker.getId()).thenReturn(speakerId);
+
+        when(chatRoomService.findChatRoomById(roomId)).thenReturn(mockChatRoom);
+        when(userService.findUserById(listenerId)).thenReturn(mockListener);
+        when(userService.findUserById(speakerId)).thenReturn(mockSpeaker);
+    }
+
+    private ConsumerRecord<String, ChatMessageEvent> record(Long messageId, Long senderId, Long recipientId, boolean recipientActive) {
+        ChatMessageEvent event = ChatMessageEvent.builder()
+                .messageId(messageId)
+                .roomId(roomId)
+                .senderId(senderId)
+                .recipientId(recipientId)
+                .recipientActive(recipientActive)
+                .build();
+        return new ConsumerRecord<>("chat-message-topic", 0, messageId, roomId.toString(), event);
+    }
+
+    @Test
+    @DisplayName("같은 채팅방 이벤트는 한 번의 조회와 누적 증가로 처리")
+    void updateUnreadCounts_AggregatesPerRoom() {
+        // given
+        List<ConsumerRecord<String, ChatMessageEvent>> records = List.of(
+                record(1L, listenerId, speakerId, false),
+                record(2L, listenerId, speakerId, false),
+                record(3L, listenerId, speakerId, false)
+        );
+
+        // when
+        unreadCountBatchConsumer.updateUnreadCounts(records, acknowledgment);
+
+        // then
+        verify(chatRoomService, times(1)).findChatRoomById(roomId);
+        verify(mockChatRoom).markAsRead(mockListener, 3L);
+        verify(chatRoomService, never()).save(any());
+        verify(chatService, never()).markAsRead(anyLong(), anyLong());
+
+        ArgumentCaptor<Map<Long, Map<Long, Long>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(chatPresenceService).incrementUnreadCountsInRedis(captor.capture());
+        assertThat(captor.getValue().get(roomId)).containsEntry(speakerId, 3L);
+
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("수신자가 활성 상태가 된 이후의 메시지만 미읽음으로 누적")
+    void updateUnreadCounts_ResetsOnActiveRecipient() {
+        // given
+        List<ConsumerRecord<String, ChatMessageEvent>> records = List.of(
+                record(1L, speakerId, listenerId, false),
+                record(2L, speakerId, listenerId, true),
+                record(3L, speakerId, listenerId, false)
+        );
+
+        // when
+        unreadCountBatchConsumer.updateUnreadCounts(records, acknowledgment);
+
+        // then
+        verify(chatService).markAsRead(listenerId, roomId);
+
+        ArgumentCaptor<Map<Long, Map<Long, Long>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(chatPresenceService).incrementUnreadCountsInRedis(captor.capture());
+        assertThat(captor.getValue().get(roomId)).containsEntry(listenerId, 1L);
+    }
+
+    @Test
+    @DisplayName("필터링/미저장 메시지만 있는 배치는 처리 x")
+    void updateUnreadCounts_SkipsFilteredMessages() {
+        // given
+        ChatMessageEvent filtered = ChatMessageEvent.builder().roomId(roomId).filtered(true).build();
+        List<ConsumerRecord<String, ChatMessageEvent>> records = List.of(
+                new ConsumerRecord<>("chat-message-topic", 0, 0L, roomId.toString(), filtered)
+        );
+
+        // when
+        unreadCountBatchConsumer.updateUnreadCounts(records, acknowledgment);
+
+        // then
+        verify(chatRoomService, never()).findChatRoomById(anyLong());
+        verify(chatPresenceService, never()).incrementUnreadCountsInRedis(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("예외 발생 시 배치 전체를 다시 던짐 -> DefaultErrorHandler")
+    void updateUnreadCounts_ExceptionHandling() {
+        // given
+        when(chatRoomService.findChatRoomById(roomId)).thenThrow(new RuntimeException("Test exception"));
+
+        // when & then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> unreadCountBatchConsumer.updateUnreadCounts(List.of(record(1L, listenerId, speakerId, false)), acknowledgment));
+        assertThat(exception.getMessage()).isEqualTo("Test exception");
+
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
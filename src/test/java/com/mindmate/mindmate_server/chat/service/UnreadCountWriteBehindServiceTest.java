@@ -0,0 +1,113 @@
+package com.mindmate.mindmate_server.chat.service;
+
+import com.mindmate.mindmate_server.chat.dto.ChatRoomUnreadCountDTO;
+import com.mindmate.mindmate_server.chat.repository.ChatRoomRepository;
+import com.mindmate.mindmate_server.global.util.RedisKeyManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UnreadCountWriteBehindServiceTest {
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private RedisKeyManager redisKeyManager;
+    @Mock private ChatRoomRepository chatRoomRepository;
+    @Mock private SetOperations<String, Object> setOperations;
+    @Mock private ValueOperations<String, Object> valueOperations;
+
+    @InjectMocks
+    private UnreadCountWriteBehindService writeBehindService;
+
+    private static final String DIRTY_KEY = "chat:unread:dirty";
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(writeBehindService, "batchSize", 2);
+
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisKeyManager.getUnreadDirtyRoomsKey()).thenReturn(DIRTY_KEY);
+        when(redisKeyManager.getUnreadCountKey(anyLong(), anyLong()))
+                .thenAnswer(invocation -> "chat:room:" + invocation.getArgument(0) + ":unread:" + invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("dirty 채팅방의 Redis 카운트를 한 번의 배치 UPDATE로 반영")
+    void flushBatch_Success() {
+        // given
+        when(setOperations.pop(DIRTY_KEY, 2)).thenReturn(List.of(100, 200L));
+        when(chatRoomRepository.findUnreadCountTargets(List.of(100L, 200L))).thenReturn(List.of(
+                ChatRoomUnreadCountDTO.builder().roomId(100L).listenerId(1L).speakerId(2L).build(),
+                ChatRoomUnreadCountDTO.builder().roomId(200L).listenerId(3L).speakerId(4L).build()
+        ));
+        when(valueOperations.multiGet(List.of(
+                "chat:room:100:unread:1", "chat:room:100:unread:2",
+                "chat:room:200:unread:3", "chat:room:200:unread:4"
+        ))).thenReturn(Arrays.asList(5, null, "7", 0));
+
+        // when
+        int flushed = writeBehindService.flushBatch();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+
+        ArgumentCaptor<List<ChatRoomUnreadCountDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatRoomRepository).bulkUpdateUnreadCounts(captor.capture());
+
+        List<ChatRoomUnreadCountDTO> updates = captor.getValue();
+        assertThat(updates).hasSize(2);
+        assertThat(updates.get(0).getListenerUnreadCount()).isEqualTo(5L);
+        assertThat(updates.get(0).getSpeakerUnreadCount()).isNull();
+        assertThat(updates.get(1).getListenerUnreadCount()).isEqualTo(7L);
+        assertThat(updates.get(1).getSpeakerUnreadCount()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("dirty 채팅방이 없으면 DB 접근 x")
+    void flushBatch_Empty() {
+        // given
+        when(setOperations.pop(DIRTY_KEY, 2)).thenReturn(Collections.emptyList());
+
+        // when
+        int flushed = writeBehindService.flushBatch();
+
+        // then
+        assertThat(flushed).isZero();
+        verify(chatRoomRepository, never()).findUnreadCountTargets(any());
+        verify(chatRoomRepository, never()).bulkUpdateUnreadCounts(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 꺼낸 채팅방을 다시 dirty 등록")
+    void flushBatch_FailureRestoresDirtyRooms() {
+        // given
+        when(setOperations.pop(DIRTY_KEY, 2)).thenReturn(List.of(100L));
+        when(chatRoomRepository.findUnreadCountTargets(any())).thenThrow(new RuntimeException("DB down"));
+
+        // when
+        int flushed = writeBehindService.flushBatch();
+
+        // then
+        assertThat(flushed).isZero();
+        verify(setOperations).add(DIRTY_KEY, 100L);
+    }
+}
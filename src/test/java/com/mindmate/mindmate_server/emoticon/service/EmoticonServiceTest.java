@@ -469,7 +469,7 @@ class EmoticonServiceTest {
         when(chatRoom.isListener(mockUser)).thenReturn(true);
         when(chatRoom.getSpeaker()).thenReturn(mockOtherUser);
         when(chatRoom.getId()).thenReturn(ROOM_ID);
-        doNothing().when(chatRoom).updateLastMessageTime();
+        doNothing().when(chatRoomService).updateLastMessage(eq(chatRoom), any(ChatMessage.class));
         return chatRoom;
     }
 